@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import io.github.sbom.enforcer.benchmarks.SyntheticProject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.ContainerConfiguration;
+import org.codehaus.plexus.DefaultContainerConfiguration;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.codehaus.plexus.PlexusConstants;
+import org.codehaus.plexus.PlexusContainer;
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.component.configurator.ComponentConfigurator;
+import org.codehaus.plexus.configuration.DefaultPlexusConfiguration;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.spi.localrepo.LocalRepositoryManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end benchmark of the {@code check} goal.
+ * <p>
+ *     Each invocation runs {@link CheckMojo} on a {@link SyntheticProject}, whose dependencies are resolved from a
+ *     {@code file:} repository into a private local repository.
+ *     The benchmark covers SBOM parsing, artifact resolution, sidecar SBOM discovery and the {@code checksum} rule.
+ * </p>
+ * <dl>
+ *     <dt>{@code cold}</dt>
+ *     <dd>The private local repository is deleted before each invocation.</dd>
+ *     <dt>{@code warm}</dt>
+ *     <dd>The private local repository is populated by a previous execution.</dd>
+ * </dl>
+ * <p>
+ *     Use {@link io.github.sbom.enforcer.benchmarks.BenchmarkRunner} to also report the peak heap usage.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class CheckMojoBenchmark {
+
+    @Param({"1000", "10000"})
+    public int componentCount;
+
+    @Param({"cold", "warm"})
+    public String cache;
+
+    private Path directory;
+    private SyntheticProject project;
+    private Path privateLocalRepository;
+    private PlexusContainer container;
+    private DefaultRepositorySystemSession repoSession;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("sbom-enforcer-benchmark");
+        project = SyntheticProject.create(Files.createDirectory(directory.resolve("project")), componentCount);
+        privateLocalRepository = directory.resolve("private-repository");
+        container = new DefaultPlexusContainer(createContainerConfiguration());
+        LocalRepositoryManagerFactory factory = container.lookup(LocalRepositoryManagerFactory.class, "simple");
+        repoSession = new DefaultRepositorySystemSession();
+        repoSession.setLocalRepositoryManager(factory.newInstance(
+                repoSession, new LocalRepository(directory.resolve("repository").toFile())));
+        repoSession.setUpdatePolicy(RepositoryPolicy.UPDATE_POLICY_DAILY);
+        repoSession.setChecksumPolicy(RepositoryPolicy.CHECKSUM_POLICY_WARN);
+        if ("warm".equals(cache)) {
+            check();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCache() throws IOException {
+        if ("cold".equals(cache)) {
+            SyntheticProject.deleteRecursively(privateLocalRepository);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        container.dispose();
+        SyntheticProject.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void check() throws Exception {
+        createCheckMojo().execute();
+    }
+
+    private static ContainerConfiguration createContainerConfiguration() {
+        ClassWorld classWorld =
+                new ClassWorld("plexus.core", Thread.currentThread().getContextClassLoader());
+        return new DefaultContainerConfiguration()
+                .setClassWorld(classWorld)
+                .setClassPathScanning(PlexusConstants.SCANNING_INDEX)
+                .setAutoWiring(true)
+                .setName("maven");
+    }
+
+    @SuppressWarnings("deprecation")
+    private CheckMojo createCheckMojo() throws Exception {
+        // Maven project
+        Artifact artifact = new DefaultArtifact(
+                "org.example", "main", "1.0.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        artifact.setFile(project.getArtifactFile().toFile());
+        Artifact bomArtifact = new DefaultArtifact(
+                "org.example", "main", "1.0.0", "compile", "xml", "cyclonedx", new DefaultArtifactHandler("xml"));
+        bomArtifact.setFile(project.getBomFile().toFile());
+        MavenProject mavenProject = new MavenProject();
+        mavenProject.setArtifact(artifact);
+        mavenProject.addAttachedArtifact(bomArtifact);
+        // Maven session
+        MavenSession session = new MavenSession(
+                container, repoSession, new DefaultMavenExecutionRequest(), new DefaultMavenExecutionResult());
+        // Mojo execution
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setClassRealm(container.getContainerRealm());
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+
+        CheckMojo mojo = new CheckMojo(
+                mavenProject,
+                session,
+                new MojoExecution(mojoDescriptor),
+                container.lookup(ComponentConfigurator.class, "basic"),
+                Set.copyOf(container.lookupList(BomBuilder.class)),
+                container,
+                container.lookup(LocalRepositoryManagerFactory.class));
+        mojo.setLog(new QuietLog());
+        mojo.setRepoSession(repoSession);
+        mojo.setUsePrivateLocalRepo(true);
+        mojo.setPrivateLocalRepoPath(privateLocalRepository);
+        mojo.setMetricsFile(null);
+        mojo.addRule(new DefaultPlexusConfiguration("checksum"));
+        return mojo;
+    }
+
+    /**
+     * Suppresses the informational messages of the mojo, so they don't interfere with the JMH output.
+     */
+    private static final class QuietLog extends SystemStreamLog {
+
+        @Override
+        public void info(CharSequence content) {}
+    }
+}
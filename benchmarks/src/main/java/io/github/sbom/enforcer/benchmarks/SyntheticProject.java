@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.benchmarks;
+
+import io.github.sbom.enforcer.internal.SyntheticBoms;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.cyclonedx.exception.GeneratorException;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.Metadata;
+
+/**
+ * A synthetic Maven project together with a {@code file:} Maven repository containing its dependencies.
+ * <p>
+ *     The layout of the project directory is:
+ * </p>
+ * <dl>
+ *     <dt>{@code main-1.0.0.jar}</dt>
+ *     <dd>The main artifact of the project.</dd>
+ *     <dt>{@code main-1.0.0-cyclonedx.xml}</dt>
+ *     <dd>The SBOM of the project, whose checksums match the generated files.</dd>
+ *     <dt>{@code remote/}</dt>
+ *     <dd>A remote Maven repository with the dependencies, their checksum files and, for every tenth dependency,
+ *     a CycloneDX SBOM.</dd>
+ * </dl>
+ */
+public final class SyntheticProject {
+
+    private static final int SIDECAR_FREQUENCY = 10;
+
+    private final Path directory;
+    private final Path artifactFile;
+    private final Path bomFile;
+
+    private SyntheticProject(Path directory, Path artifactFile, Path bomFile) {
+        this.directory = directory;
+        this.artifactFile = artifactFile;
+        this.bomFile = bomFile;
+    }
+
+    /**
+     * Generates a project with the given number of dependencies.
+     *
+     * @param directory An empty directory.
+     * @param componentCount The number of dependencies of the project.
+     */
+    public static SyntheticProject create(Path directory, int componentCount) throws GeneratorException, IOException {
+        Random random = new Random(componentCount);
+        Path remote = directory.resolve("remote");
+        String repositoryUrl = remote.toUri().toString();
+
+        Path artifactFile = directory.resolve(SyntheticBoms.ARTIFACT_ID + "-" + SyntheticBoms.VERSION + ".jar");
+        byte[] artifactContent = randomContent(random);
+        Files.write(artifactFile, artifactContent);
+        Metadata metadata = new Metadata();
+        metadata.setComponent(addHashes(
+                SyntheticBoms.createComponent(
+                        SyntheticBoms.GROUP_ID, SyntheticBoms.ARTIFACT_ID, SyntheticBoms.VERSION, repositoryUrl),
+                artifactContent));
+
+        List<Component> components = new ArrayList<>(componentCount);
+        for (int i = 0; i < componentCount; i++) {
+            String groupId = SyntheticBoms.GROUP_ID + ".group" + (i % 100);
+            String artifactId = "artifact-" + i;
+            String version = "1." + (i % 10);
+            Path versionDirectory = remote.resolve(groupId.replace('.', '/'))
+                    .resolve(artifactId)
+                    .resolve(version);
+            Files.createDirectories(versionDirectory);
+            String baseName = artifactId + "-" + version;
+            byte[] content = randomContent(random);
+            writeWithChecksums(versionDirectory.resolve(baseName + ".jar"), content);
+            if (i % SIDECAR_FREQUENCY == 0) {
+                Bom sidecar = new Bom();
+                Metadata sidecarMetadata = new Metadata();
+                sidecarMetadata.setComponent(SyntheticBoms.createComponent(groupId, artifactId, version, null));
+                sidecar.setMetadata(sidecarMetadata);
+                writeWithChecksums(
+                        versionDirectory.resolve(baseName + "-cyclonedx.xml"),
+                        SyntheticBoms.toString(sidecar, "xml").getBytes(StandardCharsets.UTF_8));
+            }
+            components.add(
+                    addHashes(SyntheticBoms.createComponent(groupId, artifactId, version, repositoryUrl), content));
+        }
+
+        Bom bom = new Bom();
+        bom.setMetadata(metadata);
+        bom.setComponents(components);
+        Path bomFile = directory.resolve(SyntheticBoms.ARTIFACT_ID + "-" + SyntheticBoms.VERSION + "-cyclonedx.xml");
+        Files.writeString(bomFile, SyntheticBoms.toString(bom, "xml"), StandardCharsets.UTF_8);
+        return new SyntheticProject(directory, artifactFile, bomFile);
+    }
+
+    public Path getArtifactFile() {
+        return artifactFile;
+    }
+
+    public Path getBomFile() {
+        return bomFile;
+    }
+
+    /**
+     * Deletes the project directory and all its content.
+     */
+    public void delete() throws IOException {
+        deleteRecursively(directory);
+    }
+
+    /**
+     * Deletes a directory and all its content.
+     */
+    public static void deleteRecursively(Path directory) throws IOException {
+        if (Files.exists(directory)) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(SyntheticProject::delete);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.delete(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] randomContent(Random random) {
+        byte[] content = new byte[1024 + random.nextInt(8192)];
+        random.nextBytes(content);
+        return content;
+    }
+
+    private static Component addHashes(Component component, byte[] content) {
+        component.addHash(new Hash(Hash.Algorithm.SHA1, DigestUtils.sha1Hex(content)));
+        component.addHash(new Hash(Hash.Algorithm.SHA_256, DigestUtils.sha256Hex(content)));
+        return component;
+    }
+
+    private static void writeWithChecksums(Path file, byte[] content) throws IOException {
+        Files.write(file, content);
+        Path directory = file.getParent();
+        String fileName = file.getFileName().toString();
+        Files.writeString(directory.resolve(fileName + ".md5"), DigestUtils.md5Hex(content), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve(fileName + ".sha1"), DigestUtils.sha1Hex(content), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal.cyclonedx;
+
+import io.github.sbom.enforcer.BomBuildingException;
+import io.github.sbom.enforcer.internal.SyntheticBoms;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.cyclonedx.exception.GeneratorException;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.eclipse.aether.artifact.Artifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the parsing of CycloneDX documents and the conversion of components.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class CycloneDxUtilsBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int componentCount;
+
+    @Param({"xml", "json"})
+    public String format;
+
+    private Path directory;
+    private Artifact bomArtifact;
+    private List<Component> components;
+
+    @Setup(Level.Trial)
+    public void setup() throws GeneratorException, IOException {
+        directory = Files.createTempDirectory("sbom-enforcer-benchmark");
+        Bom bom = SyntheticBoms.newBuilder()
+                .setComponentCount(componentCount)
+                .setSeed(componentCount)
+                .get();
+        bomArtifact = SyntheticBoms.write(bom, directory, format);
+        components = bom.getComponents();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Bom parseArtifact() throws BomBuildingException {
+        return CycloneDxUtils.parseArtifact(bomArtifact);
+    }
+
+    @Benchmark
+    public void toPackageURL(Blackhole blackhole) throws BomBuildingException {
+        for (Component component : components) {
+            blackhole.consume(CycloneDxUtils.toPackageURL(component));
+        }
+    }
+
+    @Benchmark
+    public void toArtifact(Blackhole blackhole) throws BomBuildingException {
+        for (Component component : components) {
+            blackhole.consume(CycloneDxUtils.toArtifact(component));
+        }
+    }
+}
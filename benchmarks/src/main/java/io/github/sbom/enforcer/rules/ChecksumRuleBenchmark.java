@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.rules;
+
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the verification of a single checksum.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ChecksumRuleBenchmark {
+
+    @Param({"MD5", "SHA1", "SHA_256", "SHA_512", "SHA3_256"})
+    public ChecksumAlgorithm algorithm;
+
+    @Param({"4096", "1048576", "33554432"})
+    public int fileSize;
+
+    private File file;
+    private String expectedValue;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Path path = Files.createTempFile("sbom-enforcer-benchmark", ".jar");
+        byte[] buffer = new byte[8192];
+        Random random = new Random(fileSize);
+        try (OutputStream output = Files.newOutputStream(path)) {
+            for (int remaining = fileSize; remaining > 0; remaining -= buffer.length) {
+                random.nextBytes(buffer);
+                output.write(buffer, 0, Math.min(remaining, buffer.length));
+            }
+        }
+        file = path.toFile();
+        MessageDigest digest = DigestUtils.getDigest(algorithm.toJce());
+        expectedValue = Hex.encodeHexString(DigestUtils.digest(digest, file));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(file.toPath());
+    }
+
+    @Benchmark
+    public @Nullable String validateChecksum() {
+        return ChecksumRule.validateChecksum(algorithm, expectedValue, file);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.support;
+
+import static io.github.sbom.enforcer.internal.CollectionUtils.nullToEmpty;
+
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.BomBuildingException;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import io.github.sbom.enforcer.internal.ColumnarBillOfMaterials;
+import io.github.sbom.enforcer.internal.SyntheticBoms;
+import io.github.sbom.enforcer.internal.cyclonedx.CycloneDxUtils;
+import java.util.concurrent.TimeUnit;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.model.Hash;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the construction of the in-memory model of an SBOM.
+ * <p>
+ *     Both the default model and the columnar off-heap model are measured.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class DefaultBillOfMaterialsBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int componentCount;
+
+    private final Artifact bomArtifact = new DefaultArtifact("org.example", "main", "cyclonedx", "xml", "1.0.0");
+    private Bom bom;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        bom = SyntheticBoms.newBuilder()
+                .setComponentCount(componentCount)
+                .setSeed(componentCount)
+                .get();
+    }
+
+    @Benchmark
+    public BillOfMaterials build() throws BomBuildingException {
+        DefaultBillOfMaterials.Builder builder = DefaultBillOfMaterials.newBuilder()
+                .setBillOfMaterials(bomArtifact)
+                .setComponent(toComponent(bom.getMetadata().getComponent()));
+        for (Component component : bom.getComponents()) {
+            builder.addDependency(toComponent(component));
+        }
+        return builder.get();
+    }
+
+    @Benchmark
+    public BillOfMaterials buildColumnar() throws BomBuildingException {
+        ColumnarBillOfMaterials.Builder builder = ColumnarBillOfMaterials.newBuilder()
+                .setBillOfMaterials(bomArtifact)
+                .setComponent(toComponent(bom.getMetadata().getComponent()));
+        for (Component component : bom.getComponents()) {
+            builder.addDependency(toComponent(component));
+        }
+        return builder.get();
+    }
+
+    private static io.github.sbom.enforcer.Component toComponent(Component component) throws BomBuildingException {
+        DefaultComponent.Builder builder = DefaultComponent.newBuilder()
+                .setArtifact(CycloneDxUtils.toArtifact(component))
+                .setPurl(CycloneDxUtils.toPackageURL(component));
+        for (ExternalReference reference : nullToEmpty(component.getExternalReferences())) {
+            builder.addExternalReference(reference.getType().getTypeName(), reference.getUrl());
+        }
+        for (Hash hash : nullToEmpty(component.getHashes())) {
+            builder.addChecksum(ChecksumAlgorithm.fromCycloneDx(hash.getAlgorithm()), hash.getValue());
+        }
+        return builder.get();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class of the goals that export and import the persistent state of the plugin.
+ * <p>
+ *     The state consists of:
+ * </p>
+ * <ul>
+ *     <li>the verdict cache, which contains the results of the checksum and reference checks,</li>
+ *     <li>the snapshots and fingerprints of each project of the reactor.</li>
+ * </ul>
+ * <p>
+ *     If the directories of the snapshots or fingerprints are inside the build directory of the current project, the
+ *     same relative location is used for each project of the reactor.
+ *     Otherwise, they are shared by all the projects and archived once.
+ *     Since the snapshots and fingerprints are usually restored into the build directories, the {@code import-cache}
+ *     goal must run after the {@code clean} phase.
+ * </p>
+ * <p>
+ *     The seed store of the private local repositories is not archived: it contains copies of artifacts, which can be
+ *     downloaded again, and would make the archive as large as the dependencies of the build.
+ * </p>
+ */
+abstract class AbstractCacheMojo extends AbstractEnforcerMojo {
+
+    /**
+     * Location of the archive.
+     */
+    @Parameter(
+            property = "sbom-enforcer.archive",
+            defaultValue = "${session.topLevelProject.build.directory}/sbom-enforcer/cache.zip")
+    protected Path archive;
+
+    protected AbstractCacheMojo(MavenSession session) {
+        super(session);
+    }
+
+    /**
+     * Returns the directories contained in the archive, by section name.
+     */
+    protected Map<String, Path> getSections() {
+        Map<String, Path> sections = new LinkedHashMap<>();
+        if (verdictCacheDirectory != null) {
+            sections.put("verdicts", verdictCacheDirectory);
+        }
+        addProjectSections(sections, "snapshots", snapshotDirectory);
+        addProjectSections(sections, "fingerprints", fingerprintDirectory);
+        return sections;
+    }
+
+    private void addProjectSections(Map<String, Path> sections, String name, @Nullable Path directory) {
+        if (directory == null) {
+            return;
+        }
+        Path absoluteDirectory = directory.toAbsolutePath().normalize();
+        MavenProject currentProject = session.getCurrentProject();
+        Path buildDirectory = currentProject != null
+                ? Paths.get(currentProject.getBuild().getDirectory()).toAbsolutePath()
+                : null;
+        if (buildDirectory == null || !absoluteDirectory.startsWith(buildDirectory)) {
+            sections.put(name, absoluteDirectory);
+            return;
+        }
+        Path relativeDirectory = buildDirectory.relativize(absoluteDirectory);
+        List<MavenProject> projects = session.getProjects();
+        for (MavenProject project : projects != null ? projects : List.<MavenProject>of()) {
+            String id = project.getGroupId() + ':' + project.getArtifactId();
+            sections.put(
+                    name + ':' + id,
+                    Paths.get(project.getBuild().getDirectory()).resolve(relativeDirectory));
+        }
+    }
+
+    public void setArchive(Path archive) {
+        this.archive = archive;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import java.nio.file.Path;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class of all the goals of the plugin.
+ * <p>
+ *     Declares the locations shared by several goals, which should be configured in the {@code <configuration>}
+ *     element of the plugin.
+ * </p>
+ */
+abstract class AbstractEnforcerMojo extends AbstractMojo {
+
+    /**
+     * Directory where the verdicts of the rules about single components are cached.
+     * <p>
+     *     The cache is shared by all the modules and builds that use the same directory, so that only new or modified
+     *     components are checked.
+     *     The components with a {@code SNAPSHOT} version are never cached.
+     *     The {@code export-cache} and {@code import-cache} goals archive the same directory.
+     * </p>
+     */
+    @Parameter(defaultValue = "${settings.localRepository}/.cache/sbom-enforcer/verdicts")
+    protected @Nullable Path verdictCacheDirectory;
+
+    /**
+     * Directory where binary snapshots of the parsed SBOMs are stored.
+     * <p>
+     *     If the SBOM and the local repository did not change since the last execution, the model of the SBOM is
+     *     loaded from its snapshot, instead of parsing the SBOM and resolving its components again.
+     *     The {@code export-cache} and {@code import-cache} goals archive the same directory.
+     * </p>
+     */
+    @Parameter(defaultValue = "${project.build.directory}/sbom-enforcer/snapshots")
+    protected @Nullable Path snapshotDirectory;
+
+    /**
+     * Directory where the fingerprints of the last successful checks are stored.
+     * <p>
+     *     A fingerprint covers the configuration of the rules and the package URLs and checksums of the dependencies
+     *     listed in the SBOM. If the fingerprint did not change since the last successful execution, the SBOM is
+     *     reported as passing without resolving its components or running the rules.
+     *     The {@code export-cache} and {@code import-cache} goals archive the same directory.
+     * </p>
+     */
+    @Parameter(defaultValue = "${project.build.directory}/sbom-enforcer/fingerprints")
+    protected @Nullable Path fingerprintDirectory;
+
+    /**
+     * The current Maven session
+     */
+    protected final MavenSession session;
+
+    protected AbstractEnforcerMojo(MavenSession session) {
+        this.session = session;
+    }
+
+    public void setVerdictCacheDirectory(@Nullable Path verdictCacheDirectory) {
+        this.verdictCacheDirectory = verdictCacheDirectory;
+    }
+
+    public void setSnapshotDirectory(@Nullable Path snapshotDirectory) {
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    public void setFingerprintDirectory(@Nullable Path fingerprintDirectory) {
+        this.fingerprintDirectory = fingerprintDirectory;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import io.github.sbom.enforcer.internal.ExecutionRepositorySystemSession;
+import io.github.sbom.enforcer.internal.PrivateLocalRepositories;
+import io.github.sbom.enforcer.internal.ReactorWorkspaceReader;
+import io.github.sbom.enforcer.internal.SeedStore;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.NoLocalRepositoryManagerException;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.spi.localrepo.LocalRepositoryManagerFactory;
+import org.eclipse.aether.transfer.TransferListener;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class of the goals that resolve the dependencies of the project.
+ * <p>
+ *     The {@code prefetch} goal must download the artifacts into the local repository used by the {@code check} goal.
+ *     Configure the parameters of this class in the {@code <configuration>} element of the plugin, so that both goals
+ *     use the same values.
+ * </p>
+ */
+abstract class AbstractResolvingMojo extends AbstractEnforcerMojo {
+
+    /**
+     * If set to {@code true}, the contents of the per-user local Maven repository are ignored
+     * and a per-Maven module local Maven repository is used instead.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean usePrivateLocalRepo;
+
+    /**
+     * Path to a local Maven repository to use if `usePrivateLocalRepo` is true.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/sbom-enforcer/repository")
+    protected Path privateLocalRepoPath;
+
+    /**
+     * If set to {@code true}, all the modules of the reactor share a single private local repository located in
+     * {@code sharedPrivateLocalRepoPath}.
+     * <p>
+     *     The common dependencies of the modules are downloaded once per build.
+     *     The concurrent accesses of parallel modules and builds are synchronized with the file locks of the Maven
+     *     Resolver.
+     *     Ignored if {@code usePrivateLocalRepo} is {@code false}.
+     * </p>
+     */
+    @Parameter(defaultValue = "false")
+    private boolean sharePrivateLocalRepo;
+
+    /**
+     * Path to the local Maven repository to use if {@code sharePrivateLocalRepo} is true.
+     */
+    @Parameter(defaultValue = "${session.topLevelProject.build.directory}/sbom-enforcer/repository")
+    private @Nullable Path sharedPrivateLocalRepoPath;
+
+    /**
+     * If set to {@code true}, the private local repository is seeded from a content-addressed store shared by all the
+     * modules and builds.
+     * <p>
+     *     Only the released artifacts previously downloaded from the same remote repository are seeded, after their
+     *     SHA-256 digest is verified again.
+     *     The store is never pruned: delete its directory to reclaim the space.
+     *     Ignored if {@code usePrivateLocalRepo} is {@code false}.
+     * </p>
+     */
+    @Parameter(defaultValue = "false")
+    private boolean useSeedStore;
+
+    /**
+     * Location of the content-addressed store used if {@code useSeedStore} is {@code true}.
+     * <p>
+     *     The store should be on the same file system as the private local repositories, so that the artifacts can be
+     *     hard-linked instead of copied.
+     *     By default, it is located next to the verdict cache in the local Maven repository.
+     * </p>
+     */
+    @Parameter(defaultValue = "${settings.localRepository}/.cache/sbom-enforcer/seeds")
+    private @Nullable Path seedStorePath;
+
+    /**
+     * The current repository/network configuration of Maven.
+     */
+    @Parameter(defaultValue = "${repositorySystemSession}", readonly = true)
+    protected RepositorySystemSession repoSession;
+
+    /**
+     * The current Maven project.
+     */
+    protected final MavenProject project;
+
+    /**
+     * Used to create a temporary local repository.
+     */
+    private final LocalRepositoryManagerFactory localRepositoryManagerFactory;
+
+    protected AbstractResolvingMojo(
+            MavenProject project, MavenSession session, LocalRepositoryManagerFactory localRepositoryManagerFactory) {
+        super(session);
+        this.project = project;
+        this.localRepositoryManagerFactory = localRepositoryManagerFactory;
+    }
+
+    /**
+     * Creates the repository system session used to resolve the dependencies of the project.
+     *
+     * @param transferListener The transfer listener to use.
+     * @param data The data of the session.
+     */
+    protected RepositorySystemSession createRepositorySession(TransferListener transferListener, SessionData data)
+            throws MojoExecutionException {
+        return new ExecutionRepositorySystemSession(
+                repoSession,
+                usePrivateLocalRepo ? createLocalRepositoryManager() : null,
+                transferListener,
+                data,
+                createWorkspaceReader(),
+                isSharedPrivateLocalRepo());
+    }
+
+    /**
+     * Creates a workspace reader, which prevents remote requests for the artifacts of the reactor.
+     */
+    private WorkspaceReader createWorkspaceReader() {
+        List<MavenProject> projects = session.getProjects();
+        return new ReactorWorkspaceReader(repoSession.getWorkspaceReader(), projects != null ? projects : List.of());
+    }
+
+    private LocalRepositoryManager createLocalRepositoryManager() throws MojoExecutionException {
+        try {
+            boolean shared = isSharedPrivateLocalRepo();
+            return PrivateLocalRepositories.getLocalRepositoryManager(
+                    localRepositoryManagerFactory,
+                    repoSession,
+                    shared ? Objects.requireNonNull(sharedPrivateLocalRepoPath) : privateLocalRepoPath,
+                    shared,
+                    useSeedStore && seedStorePath != null ? new SeedStore(seedStorePath) : null);
+        } catch (NoLocalRepositoryManagerException e) {
+            throw new MojoExecutionException(e);
+        }
+    }
+
+    private boolean isSharedPrivateLocalRepo() {
+        return usePrivateLocalRepo && sharePrivateLocalRepo && sharedPrivateLocalRepoPath != null;
+    }
+
+    public void setUsePrivateLocalRepo(boolean usePrivateLocalRepo) {
+        this.usePrivateLocalRepo = usePrivateLocalRepo;
+    }
+
+    public void setPrivateLocalRepoPath(Path privateLocalRepoPath) {
+        this.privateLocalRepoPath = privateLocalRepoPath;
+    }
+
+    public void setSharePrivateLocalRepo(boolean sharePrivateLocalRepo) {
+        this.sharePrivateLocalRepo = sharePrivateLocalRepo;
+    }
+
+    public void setSharedPrivateLocalRepoPath(@Nullable Path sharedPrivateLocalRepoPath) {
+        this.sharedPrivateLocalRepoPath = sharedPrivateLocalRepoPath;
+    }
+
+    public void setUseSeedStore(boolean useSeedStore) {
+        this.useSeedStore = useSeedStore;
+    }
+
+    public void setSeedStorePath(@Nullable Path seedStorePath) {
+        this.seedStorePath = seedStorePath;
+    }
+
+    public void setRepoSession(RepositorySystemSession repoSession) {
+        this.repoSession = repoSession;
+    }
+}
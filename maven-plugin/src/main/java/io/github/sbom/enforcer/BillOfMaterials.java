@@ -15,8 +15,11 @@
  */
 package io.github.sbom.enforcer;
 
+import com.github.packageurl.PackageURL;
 import java.util.Collection;
+import java.util.stream.Collectors;
 import org.eclipse.aether.artifact.Artifact;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A simplified and format independent model of a Software Bill of Materials (SBOM).
@@ -37,4 +40,62 @@ public interface BillOfMaterials {
      * Returns the dependencies of the described component.
      */
     Collection<? extends Component> getDependencies();
+
+    /**
+     * Returns the dependencies with the given group id and artifact id.
+     * <p>
+     *     The result contains more than one component, if the SBOM lists multiple versions or classifiers of the same
+     *     artifact.
+     * </p>
+     * <p>
+     *     The default implementation performs a linear search of {@link #getDependencies()}.
+     * </p>
+     */
+    default Collection<? extends Component> getDependencies(String groupId, String artifactId) {
+        return getDependencies().stream()
+                .filter(dependency -> groupId.equals(dependency.getArtifact().getGroupId())
+                        && artifactId.equals(dependency.getArtifact().getArtifactId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the dependency with the same coordinates as the given artifact.
+     * <p>
+     *     The group id, artifact id, version, classifier and extension of the artifact are compared.
+     *     The default implementation performs a linear search of {@link #getDependencies()}.
+     * </p>
+     *
+     * @return A dependency or {@code null} if no dependency matches.
+     */
+    default @Nullable Component getDependency(Artifact artifact) {
+        for (Component dependency : getDependencies()) {
+            Artifact other = dependency.getArtifact();
+            if (artifact.getGroupId().equals(other.getGroupId())
+                    && artifact.getArtifactId().equals(other.getArtifactId())
+                    && artifact.getVersion().equals(other.getVersion())
+                    && artifact.getClassifier().equals(other.getClassifier())
+                    && artifact.getExtension().equals(other.getExtension())) {
+                return dependency;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the dependency with the given package URL.
+     * <p>
+     *     The package URLs must be equal, including their qualifiers.
+     *     The default implementation performs a linear search of {@link #getDependencies()}.
+     * </p>
+     *
+     * @return A dependency or {@code null} if no dependency matches.
+     */
+    default @Nullable Component getDependency(PackageURL purl) {
+        for (Component dependency : getDependencies()) {
+            if (purl.equals(dependency.getPurl())) {
+                return dependency;
+            }
+        }
+        return null;
+    }
 }
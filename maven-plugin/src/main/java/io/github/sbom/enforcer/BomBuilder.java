@@ -15,6 +15,7 @@
  */
 package io.github.sbom.enforcer;
 
+import java.util.List;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 
@@ -23,4 +24,42 @@ public interface BomBuilder {
     boolean isSupported(Artifact billOfMaterials);
 
     BillOfMaterials build(RepositorySystemSession session, BomBuilderRequest request) throws BomBuildingException;
+
+    /**
+     * Builds a Bill of Materials, while passing each component to a listener as soon as it is available.
+     * <p>
+     *     The default implementation passes the components to the listener after the whole Bill of Materials has been
+     *     built.
+     * </p>
+     *
+     * @param session The repository session used to resolve the components.
+     * @param request The SBOM to build.
+     * @param listener A listener that receives the main component and each resolved dependency.
+     * @return The complete Bill of Materials.
+     */
+    default BillOfMaterials build(
+            RepositorySystemSession session, BomBuilderRequest request, ComponentListener listener)
+            throws BomBuildingException {
+        BillOfMaterials bom = build(session, request);
+        listener.onMainComponent(bom.getComponent());
+        for (Component dependency : bom.getDependencies()) {
+            listener.onComponent(dependency);
+        }
+        return bom;
+    }
+
+    /**
+     * Reads the components declared in a Bill of Materials, without resolving their artifacts.
+     * <p>
+     *     The default implementation throws an exception.
+     * </p>
+     *
+     * @param billOfMaterials A Bill of Materials artifact with a file.
+     * @return The main component, followed by the dependencies.
+     * @throws BomBuildingException If the Bill of Materials can not be read.
+     */
+    default List<Component> readComponents(Artifact billOfMaterials) throws BomBuildingException {
+        throw new BomBuildingException(
+                "Reading the components of " + billOfMaterials + " without resolving them is not supported.");
+    }
 }
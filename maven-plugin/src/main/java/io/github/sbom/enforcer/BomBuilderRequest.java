@@ -15,8 +15,10 @@
  */
 package io.github.sbom.enforcer;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import org.eclipse.aether.artifact.Artifact;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Request object to create a {@link BillOfMaterials} object.
@@ -29,4 +31,28 @@ public interface BomBuilderRequest {
     Artifact getMainBillOfMaterials();
 
     Collection<Artifact> getAllBillsOfMaterials();
+
+    /**
+     * Directory where the builder can store snapshots of the model to speed up later builds.
+     *
+     * @return A directory or {@code null} if snapshots are disabled.
+     */
+    default @Nullable Path getSnapshotDirectory() {
+        return null;
+    }
+
+    /**
+     * Checks if the files of all the dependencies should be resolved while the model is built.
+     * <p>
+     *     If {@code false}, the builder may return components whose files are only resolved when
+     *     {@link Component#getArtifact()}{@code .getFile()} or {@link Component#getBillsOfMaterials()} is called.
+     *     If {@code true}, the files can be resolved in batches, which is faster than resolving them one by one.
+     * </p>
+     *
+     * @return {@code true} if some rule reads the files of the dependencies.
+     * @see EnforcerRule#requiresFiles()
+     */
+    default boolean isPrefetchFiles() {
+        return true;
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Signals that the result of a rule is no longer needed.
+ * <p>
+ *     If the plugin runs in fail-fast mode, the first failing rule cancels the token shared by all the rules.
+ *     Long-running rules should check the token between units of work (e.g. before hashing a file or sending an HTTP
+ *     request) and return as soon as possible after it is cancelled.
+ *     The threads running the rules that check the whole Bill of Materials are also interrupted.
+ * </p>
+ */
+public interface CancellationToken {
+
+    /**
+     * Returns a token that is never cancelled.
+     */
+    static CancellationToken none() {
+        return NeverCancelledToken.INSTANCE;
+    }
+
+    /**
+     * Checks if the token has been cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * Aborts the current operation if the token has been cancelled.
+     *
+     * @throws CancellationException If the token has been cancelled.
+     */
+    default void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException("The check has been cancelled.");
+        }
+    }
+}
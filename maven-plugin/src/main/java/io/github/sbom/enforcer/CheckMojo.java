@@ -16,16 +16,31 @@
 package io.github.sbom.enforcer;
 
 import io.github.sbom.enforcer.internal.Artifacts;
+import io.github.sbom.enforcer.internal.Cancellation;
+import io.github.sbom.enforcer.internal.ComponentKeys;
+import io.github.sbom.enforcer.internal.ComponentPipeline;
+import io.github.sbom.enforcer.internal.FileVerdictCache;
+import io.github.sbom.enforcer.internal.Fingerprints;
+import io.github.sbom.enforcer.internal.HashSampler;
+import io.github.sbom.enforcer.internal.Metrics;
+import io.github.sbom.enforcer.internal.Prefetcher;
+import io.github.sbom.enforcer.internal.RuleExecution;
+import io.github.sbom.enforcer.internal.RuleScheduler;
 import io.github.sbom.enforcer.support.DefaultBomBuilderRequest;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.execution.MavenSession;
-import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -38,17 +53,16 @@ import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
 import org.codehaus.plexus.component.configurator.ComponentConfigurator;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 import org.codehaus.plexus.configuration.DefaultPlexusConfiguration;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
-import org.eclipse.aether.AbstractForwardingRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
 import org.eclipse.aether.RepositorySystemSession;
-import org.eclipse.aether.repository.LocalRepository;
-import org.eclipse.aether.repository.LocalRepositoryManager;
-import org.eclipse.aether.repository.NoLocalRepositoryManagerException;
-import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.SessionData;
 import org.eclipse.aether.spi.localrepo.LocalRepositoryManagerFactory;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Performs a configurable set of checks on the SBOMs attached to the build.
@@ -57,42 +71,106 @@ import org.eclipse.aether.spi.localrepo.LocalRepositoryManagerFactory;
  * </p>
  */
 @Mojo(name = "check", defaultPhase = LifecyclePhase.VERIFY)
-public class CheckMojo extends AbstractMojo {
+public class CheckMojo extends AbstractResolvingMojo {
 
     /**
-     * If set to {@code true}, the contents of the per-user local Maven repository are ignored
-     * and a per-Maven module local Maven repository is used instead.
+     * Configuration of the rules to execute.
+     */
+    @Parameter
+    private PlexusConfiguration rules = new DefaultPlexusConfiguration("rules");
+
+    /**
+     * Path to a JSON file, where the timing and resource usage statistics of the execution are written.
+     * <p>
+     *     The file contains the wall time, number of bytes read and allocated memory of each phase of the execution
+     *     (SBOM parsing, artifact resolution, sidecar SBOM discovery and the execution of each rule),
+     *     which allows trending the performance of the plugin across builds.
+     * </p>
+     */
+    @Parameter(defaultValue = "${project.build.directory}/sbom-enforcer/metrics.json")
+    protected @Nullable Path metricsFile;
+
+    /**
+     * If set to {@code true}, the timing and resource usage statistics of the execution are logged at the info level.
+     * <p>
+     *     Otherwise, they are only logged at the debug level.
+     * </p>
+     */
+    @Parameter(property = "sbom-enforcer.logMetrics", defaultValue = "false")
+    private boolean logMetrics;
+
+    /**
+     * If set to {@code true}, the first failing rule cancels the other checks of the SBOM.
+     * <p>
+     *     The resolution of the remaining components, the rules that are still running and the downloads in progress
+     *     are cancelled and only the failures found so far are reported.
+     * </p>
      */
     @Parameter(defaultValue = "false")
-    private boolean usePrivateLocalRepo;
+    private boolean failFast;
 
     /**
-     * Configuration of the rules to execute.
+     * Maximum time in seconds spent on the checks of all the SBOMs of the project.
+     * <p>
+     *     When the deadline is reached, the resolution of the remaining components, the downloads in progress and the
+     *     running rules are cancelled.
+     *     The report lists the checks that were performed and those that were skipped.
+     *     If {@code 0}, there is no deadline.
+     * </p>
      */
-    @Parameter
-    private PlexusConfiguration rules = new DefaultPlexusConfiguration("rules");
+    @Parameter(defaultValue = "0")
+    private int timeoutSeconds;
+
+    /**
+     * Maximum time in seconds spent by each rule on an SBOM.
+     * <p>
+     *     The deadline of every rule starts with the resolution of the components, although the rules that do not
+     *     check single components only run after all the components have been resolved.
+     *     If {@code 0}, there is no deadline.
+     * </p>
+     */
+    @Parameter(defaultValue = "0")
+    private int ruleTimeoutSeconds;
 
     /**
-     * The current repository/network configuration of Maven.
+     * If set to {@code true}, the build fails if some checks were skipped because a deadline was reached.
+     * <p>
+     *     Otherwise, the skipped checks are only logged.
+     * </p>
      */
-    @Parameter(defaultValue = "${repositorySystemSession}", readonly = true)
-    private RepositorySystemSession repoSession;
+    @Parameter(defaultValue = "true")
+    private boolean failOnSkipped = true;
 
     /**
-     * Path to a local Maven repository to use if `usePrivateLocalRepo` is true.
+     * Fraction of the dependencies and external references checked by the rules that support sampling.
+     * <p>
+     *     The selection is stable: it only depends on {@code samplingSeed}, the identity of each dependency and the
+     *     location of each reference.
+     *     The main component is always checked.
+     *     If {@code 1}, all the dependencies are checked.
+     * </p>
      */
-    @Parameter(defaultValue = "${project.build.directory}/sbom-enforcer/repository")
-    protected Path privateLocalRepoPath;
+    @Parameter(property = "sbom-enforcer.samplingRate", defaultValue = "1")
+    private double samplingRate = 1;
 
     /**
-     * The current Maven project.
+     * Seed of the sampling, e.g. the identifier of the current commit.
+     * <p>
+     *     Required if {@code samplingRate} is less than {@code 1}, so that each commit checks a different sample.
+     * </p>
      */
-    private final MavenProject project;
+    @Parameter(property = "sbom-enforcer.samplingSeed")
+    private @Nullable String samplingSeed;
 
     /**
-     * The current Maven session
+     * A CycloneDX SBOM of a previous version of the project, e.g. of the target branch of a pull request.
+     * <p>
+     *     In sampling mode, the dependencies that are not part of the baseline or whose checksums changed are always
+     *     checked.
+     * </p>
      */
-    private final MavenSession session;
+    @Parameter
+    private @Nullable Path samplingBaseline;
 
     /**
      * The mojoExecution of this mojo
@@ -117,11 +195,6 @@ public class CheckMojo extends AbstractMojo {
      */
     private final PlexusContainer container;
 
-    /**
-     * Used to create a temporary local repository.
-     */
-    private final LocalRepositoryManagerFactory localRepositoryManagerFactory;
-
     @Inject
     public CheckMojo(
             MavenProject project,
@@ -131,65 +204,496 @@ public class CheckMojo extends AbstractMojo {
             Set<BomBuilder> bomBuilders,
             PlexusContainer container,
             LocalRepositoryManagerFactory localRepositoryManagerFactory) {
-        this.project = project;
-        this.session = session;
+        super(project, session, localRepositoryManagerFactory);
         this.mojoExecution = mojoExecution;
         this.componentConfigurator = componentConfigurator;
         this.bomBuilders = bomBuilders;
         this.container = container;
-        this.localRepositoryManagerFactory = localRepositoryManagerFactory;
     }
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
+        // The prefetch started by the `prefetch` goal keeps running until the checks are done
+        Prefetcher prefetcher = Prefetcher.detach(repoSession.getData(), project.getId());
+        try {
+            checkArtifacts();
+        } finally {
+            if (prefetcher != null) {
+                getLog().info("Background prefetch: " + prefetcher.getSummary() + ".");
+                prefetcher.close();
+            }
+        }
+    }
+
+    private void checkArtifacts() throws MojoExecutionException, MojoFailureException {
         List<? extends EnforcerRule> rules = createEnforcerRules();
+        List<String> ruleConfigurations = describeRules();
+        String configuration = String.join("\n", ruleConfigurations);
+
+        Metrics metrics = Metrics.create();
+        List<VerdictCache> verdictCaches = openVerdictCaches(rules, ruleConfigurations, metrics);
+        List<@Nullable HashSampler> samplers = configureSamplers(rules);
+        try (RuleScheduler scheduler = new RuleScheduler()) {
+            Cancellation cancellation = scheduler
+                    .newCancellation()
+                    .newChild(toTimeout(timeoutSeconds), "overall deadline of " + timeoutSeconds + " s exceeded");
+            for (Artifact artifact : project.getAttachedArtifacts()) {
+                checkArtifact(
+                        artifact, rules, verdictCaches, samplers, configuration, scheduler, cancellation, metrics);
+            }
+        } finally {
+            saveVerdictCaches(verdictCaches, metrics);
+            reportCoverage(rules, samplers);
+            reportMetrics(metrics);
+        }
+    }
 
-        for (Artifact artifact : project.getAttachedArtifacts()) {
-            checkArtifact(artifact, rules);
+    /**
+     * Creates the samplers of the rules that support sampling.
+     *
+     * @return The sampler of each rule or {@code null} if the rule checks all the dependencies.
+     */
+    private List<@Nullable HashSampler> configureSamplers(List<? extends EnforcerRule> rules)
+            throws MojoExecutionException {
+        List<@Nullable HashSampler> samplers = new ArrayList<>();
+        if (!(samplingRate > 0 && samplingRate <= 1)) {
+            throw new MojoExecutionException("Invalid sampling rate " + samplingRate + ": must be in (0, 1].");
+        }
+        String seed = samplingSeed;
+        if (samplingRate < 1 && (seed == null || seed.isBlank())) {
+            // A constant seed would check the same sample in every build
+            throw new MojoExecutionException(
+                    "Missing sampling seed: set `samplingSeed` to the identifier of the current commit.");
+        }
+        Set<String> baseline = samplingRate < 1 ? readSamplingBaseline() : null;
+        for (EnforcerRule rule : rules) {
+            samplers.add(
+                    seed != null && samplingRate < 1 && rule instanceof SampledRule
+                            ? new HashSampler(samplingRate, seed, baseline)
+                            : null);
+        }
+        return samplers;
+    }
+
+    private @Nullable Set<String> readSamplingBaseline() throws MojoExecutionException {
+        if (samplingBaseline == null) {
+            return null;
+        }
+        // The format of the baseline is determined by its extension, like for the SBOMs attached to the project
+        String extension = String.valueOf(samplingBaseline.getFileName()).endsWith(".json") ? "json" : "xml";
+        org.eclipse.aether.artifact.Artifact baseline = new org.eclipse.aether.artifact.DefaultArtifact(
+                        project.getGroupId(), project.getArtifactId(), "cyclonedx", extension, "baseline")
+                .setFile(samplingBaseline.toFile());
+        for (BomBuilder bomBuilder : bomBuilders) {
+            if (bomBuilder.isSupported(baseline)) {
+                try {
+                    return bomBuilder.readComponents(baseline).stream()
+                            .map(ComponentKeys::of)
+                            .collect(Collectors.toSet());
+                } catch (BomBuildingException e) {
+                    throw new MojoExecutionException("Failed to read sampling baseline " + samplingBaseline, e);
+                }
+            }
+        }
+        throw new MojoExecutionException("Unsupported sampling baseline " + samplingBaseline);
+    }
+
+    private void reportCoverage(List<? extends EnforcerRule> rules, List<@Nullable HashSampler> samplers) {
+        for (int i = 0; i < rules.size(); i++) {
+            HashSampler sampler = samplers.get(i);
+            if (sampler != null) {
+                getLog().info("Rule `" + getRuleName(rules.get(i)) + "` checked a sample of " + sampler.getCoverage()
+                        + ".");
+            }
         }
     }
 
-    private void checkArtifact(Artifact bomArtifact, List<? extends EnforcerRule> rules)
+    private void checkArtifact(
+            Artifact bomArtifact,
+            List<? extends EnforcerRule> rules,
+            List<VerdictCache> verdictCaches,
+            List<@Nullable HashSampler> samplers,
+            String configuration,
+            RuleScheduler scheduler,
+            Cancellation executionCancellation,
+            Metrics metrics)
             throws MojoExecutionException, MojoFailureException {
         org.eclipse.aether.artifact.Artifact mainBillOfMaterials = Artifacts.toArtifact(bomArtifact);
         for (BomBuilder bomBuilder : bomBuilders) {
             if (bomBuilder.isSupported(mainBillOfMaterials)) {
-                try {
-                    RepositorySystemSession effectiveRepoSession = usePrivateLocalRepo
-                            ? new CustomLocalRepositorySystemSession(repoSession, createLocalRepositoryManager())
-                            : repoSession;
-
-                    // POM projects don't have a resolved artifact
-                    org.eclipse.aether.artifact.Artifact artifact = Artifacts.toArtifact(project.getArtifact());
-                    if ("pom".equals(project.getPackaging()) && artifact.getFile() == null) {
-                        artifact = artifact.setFile(project.getFile());
-                    }
-                    BomBuilderRequest request = DefaultBomBuilderRequest.newBuilder()
-                            .setArtifact(artifact)
-                            .setMainBillOfMaterials(mainBillOfMaterials)
-                            .get();
-
-                    BillOfMaterials billOfMaterials = bomBuilder.build(effectiveRepoSession, request);
-                    for (EnforcerRule rule : rules) {
-                        rule.execute(billOfMaterials);
+                Path fingerprintFile = fingerprintDirectory != null && mainBillOfMaterials.getFile() != null
+                        ? Fingerprints.getFingerprintFile(fingerprintDirectory, mainBillOfMaterials)
+                        : null;
+                String fingerprint = fingerprintFile != null
+                        ? computeFingerprint(bomBuilder, mainBillOfMaterials, configuration, metrics)
+                        : null;
+                if (fingerprintFile != null && fingerprint != null && isUpToDate(fingerprintFile, fingerprint)) {
+                    getLog().info("SBOM " + mainBillOfMaterials + " is up to date, skipping the checks.");
+                } else {
+                    try {
+                        SessionData sessionData = new DefaultSessionData();
+                        metrics.attachTo(sessionData);
+                        Cancellation cancellation = executionCancellation.newChild();
+                        RepositorySystemSession effectiveRepoSession = createRepositorySession(
+                                cancellation.cancelTransfers(metrics.countDownloads(repoSession.getTransferListener())),
+                                sessionData);
+
+                        // POM projects don't have a resolved artifact
+                        org.eclipse.aether.artifact.Artifact artifact = Artifacts.toArtifact(project.getArtifact());
+                        if ("pom".equals(project.getPackaging()) && artifact.getFile() == null) {
+                            artifact = artifact.setFile(project.getFile());
+                        }
+                        BomBuilderRequest request = DefaultBomBuilderRequest.newBuilder()
+                                .setArtifact(artifact)
+                                .setMainBillOfMaterials(mainBillOfMaterials)
+                                .setSnapshotDirectory(snapshotDirectory)
+                                // If no rule reads the files of the dependencies, they are resolved lazily
+                                .setPrefetchFiles(rules.stream().anyMatch(EnforcerRule::requiresFiles))
+                                .get();
+
+                        BillOfMaterials billOfMaterials = buildAndCheck(
+                                bomBuilder,
+                                effectiveRepoSession,
+                                request,
+                                rules,
+                                verdictCaches,
+                                samplers,
+                                scheduler,
+                                cancellation,
+                                metrics);
+                        // Partial and sampled results are not recorded
+                        if (billOfMaterials != null
+                                && samplingRate >= 1
+                                && fingerprintFile != null
+                                && fingerprint != null) {
+                            writeFingerprint(metrics, fingerprintFile, fingerprint);
+                        }
+                    } catch (BomBuildingException e) {
+                        throw new MojoFailureException("Failed to parse BOM artifact " + mainBillOfMaterials, e);
                     }
-                } catch (BomBuildingException e) {
-                    throw new MojoFailureException("Failed to parse BOM artifact " + mainBillOfMaterials, e);
                 }
                 break;
             }
         }
     }
 
-    private LocalRepositoryManager createLocalRepositoryManager() throws MojoExecutionException {
+    /**
+     * Computes the fingerprint of the dependencies of an SBOM.
+     *
+     * @return A fingerprint or {@code null} if the components of the SBOM can not be read without resolving them.
+     */
+    private @Nullable String computeFingerprint(
+            BomBuilder bomBuilder,
+            org.eclipse.aether.artifact.Artifact mainBillOfMaterials,
+            String configuration,
+            Metrics metrics) {
+        Metrics.Measurement measurement = metrics.start(Metrics.FINGERPRINT);
+        try {
+            List<Component> components = bomBuilder.readComponents(mainBillOfMaterials);
+            // The main component comes first
+            return Fingerprints.compute(
+                    configuration, components.isEmpty() ? components : components.subList(1, components.size()));
+        } catch (BomBuildingException e) {
+            getLog().debug("Unable to compute the fingerprint of " + mainBillOfMaterials, e);
+            return null;
+        } finally {
+            measurement.close();
+        }
+    }
+
+    private boolean isUpToDate(Path fingerprintFile, String fingerprint) {
         try {
-            LocalRepository repository = new LocalRepository(privateLocalRepoPath.toFile());
-            return localRepositoryManagerFactory.newInstance(repoSession, repository);
-        } catch (NoLocalRepositoryManagerException e) {
-            throw new MojoExecutionException(e);
+            return Fingerprints.isUpToDate(fingerprintFile, fingerprint);
+        } catch (IOException e) {
+            getLog().debug("Ignoring unreadable fingerprint " + fingerprintFile, e);
+            return false;
         }
     }
 
+    /**
+     * Builds the model of an SBOM and runs the rules concurrently.
+     * <p>
+     *     Component rules receive each component as soon as it is resolved, while the other rules run after the model
+     *     is complete.
+     *     Each rule runs on the executor that matches its {@link EnforcerRule.ResourceClass}, but the failures are
+     *     reported in the order of the rules in the configuration.
+     * </p>
+     * <p>
+     *     If the token is cancelled, because of a failure in fail-fast mode or because a deadline was reached, the
+     *     resolution stops at the next component and the failures found so far are reported.
+     * </p>
+     *
+     * @return The model of the SBOM or {@code null} if some checks were skipped.
+     */
+    private @Nullable BillOfMaterials buildAndCheck(
+            BomBuilder bomBuilder,
+            RepositorySystemSession repoSession,
+            BomBuilderRequest request,
+            List<? extends EnforcerRule> rules,
+            List<VerdictCache> verdictCaches,
+            List<@Nullable HashSampler> samplers,
+            RuleScheduler scheduler,
+            Cancellation cancellation,
+            Metrics metrics)
+            throws BomBuildingException, MojoExecutionException, MojoFailureException {
+        RuleExecution[] executions = new RuleExecution[rules.size()];
+        List<ComponentPipeline> pipelines = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            // The deadlines of all the rules start before the resolution of the components
+            RuleExecution execution = newRuleExecution(rules.get(i), cancellation, metrics);
+            executions[i] = execution;
+            if (rules.get(i) instanceof ComponentRule componentRule) {
+                HashSampler sampler = samplers.get(i);
+                ComponentRule.Checker checker = sampler != null && componentRule instanceof SampledRule sampledRule
+                        ? sampledRule.newChecker(
+                                request.getMainBillOfMaterials(),
+                                verdictCaches.get(i),
+                                execution.getCancellation(),
+                                sampler)
+                        : componentRule.newChecker(
+                                request.getMainBillOfMaterials(), verdictCaches.get(i), execution.getCancellation());
+                execution.setChecker(
+                        checker, new MeasuringListener(metrics, Metrics.RULE_PREFIX + execution.getName(), checker));
+                pipelines.add(new ComponentPipeline(
+                        execution,
+                        ComponentPipeline.DEFAULT_CAPACITY,
+                        scheduler.getExecutor(componentRule.getResourceClass()),
+                        execution.getCancellation()));
+            }
+        }
+        // The listener aborts the resolution after a cancellation, even if there are no component rules
+        BroadcastListener broadcastListener = new BroadcastListener(pipelines, cancellation);
+        BillOfMaterials billOfMaterials = null;
+        try {
+            billOfMaterials = bomBuilder.build(repoSession, request, broadcastListener);
+        } catch (CancellationException e) {
+            if (!cancellation.isCancelled()) {
+                throw e;
+            }
+        } finally {
+            closePipelines(pipelines);
+        }
+        // The other rules start after the model is complete
+        for (int i = 0; i < rules.size(); i++) {
+            EnforcerRule rule = rules.get(i);
+            if (!(rule instanceof ComponentRule)) {
+                VerdictCache verdictCache = verdictCaches.get(i);
+                BillOfMaterials bom = billOfMaterials;
+                RuleExecution execution = executions[i];
+                CancellationToken ruleCancellation = execution.getCancellation();
+                if (bom != null && !ruleCancellation.isCancelled()) {
+                    execution.start(scheduler.getExecutor(rule.getResourceClass()), () -> {
+                        Metrics.Measurement measurement = metrics.start(Metrics.RULE_PREFIX + getRuleName(rule));
+                        try {
+                            rule.execute(bom, verdictCache, ruleCancellation);
+                        } finally {
+                            measurement.close();
+                        }
+                        return null;
+                    });
+                }
+            }
+        }
+        List<MojoFailureException> failures = new ArrayList<>();
+        boolean complete = billOfMaterials != null;
+        for (RuleExecution execution : executions) {
+            try {
+                execution.finish(billOfMaterials != null);
+            } catch (MojoFailureException e) {
+                failures.add(e);
+            }
+            complete &= execution.isComplete();
+        }
+        if (!complete) {
+            List<String> report = new ArrayList<>();
+            if (billOfMaterials == null) {
+                report.add("resolution stopped after " + broadcastListener.getComponentCount() + " components ("
+                        + cancellation.getReason() + ")");
+            }
+            for (RuleExecution execution : executions) {
+                report.add(execution.getSummary());
+            }
+            String message = report.stream()
+                    .collect(Collectors.joining(
+                            "\n* ",
+                            "Some checks of SBOM " + request.getMainBillOfMaterials() + " were skipped:\n* ",
+                            ""));
+            if (failures.isEmpty() && failOnSkipped) {
+                failures.add(new MojoFailureException(message));
+            } else {
+                getLog().warn(message);
+            }
+        }
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            MojoFailureException exception = new MojoFailureException(failures.stream()
+                    .map(Throwable::getMessage)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining("\n")));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return complete ? billOfMaterials : null;
+    }
+
+    private RuleExecution newRuleExecution(EnforcerRule rule, Cancellation cancellation, Metrics metrics) {
+        String name = getRuleName(rule);
+        return new RuleExecution(
+                name,
+                cancellation.newChild(
+                        toTimeout(ruleTimeoutSeconds),
+                        "deadline of " + ruleTimeoutSeconds + " s for rule `" + name + "` exceeded"),
+                failFast ? cancellation : null,
+                metrics);
+    }
+
+    private static @Nullable Duration toTimeout(int seconds) {
+        return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+    }
+
+    private static void closePipelines(List<ComponentPipeline> pipelines) {
+        RuntimeException failure = null;
+        for (ComponentPipeline pipeline : pipelines) {
+            try {
+                pipeline.close();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void reportMetrics(Metrics metrics) {
+        if (logMetrics) {
+            getLog().info("SBOM Enforcer execution statistics:");
+            metrics.toSummary().forEach(getLog()::info);
+        } else if (getLog().isDebugEnabled()) {
+            getLog().debug("SBOM Enforcer execution statistics:");
+            metrics.toSummary().forEach(getLog()::debug);
+        }
+        if (metricsFile != null) {
+            try {
+                metrics.writeJson(metricsFile, project.getId());
+            } catch (IOException e) {
+                getLog().warn("Failed to write execution statistics to " + metricsFile, e);
+            }
+        }
+    }
+
+    private void writeFingerprint(Metrics metrics, Path fingerprintFile, String fingerprint) {
+        Metrics.Measurement measurement = metrics.start(Metrics.FINGERPRINT);
+        try {
+            Fingerprints.write(fingerprintFile, fingerprint);
+        } catch (IOException e) {
+            getLog().warn("Failed to write fingerprint " + fingerprintFile, e);
+        } finally {
+            measurement.close();
+        }
+    }
+
+    private List<VerdictCache> openVerdictCaches(
+            List<? extends EnforcerRule> rules, List<String> ruleConfigurations, Metrics metrics) {
+        List<VerdictCache> verdictCaches = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            if (verdictCacheDirectory == null) {
+                verdictCaches.add(VerdictCache.disabled());
+                continue;
+            }
+            Path file = FileVerdictCache.getCacheFile(
+                    verdictCacheDirectory, getRuleName(rules.get(i)), ruleConfigurations.get(i));
+            FileVerdictCache verdictCache = new FileVerdictCache(file, Clock.systemUTC());
+            Metrics.Measurement measurement = metrics.start(Metrics.VERDICTS);
+            try {
+                verdictCache.load();
+            } catch (IOException e) {
+                getLog().warn("Ignoring unreadable verdict cache " + file, e);
+            } finally {
+                measurement.close();
+            }
+            verdictCaches.add(verdictCache);
+        }
+        return verdictCaches;
+    }
+
+    private void saveVerdictCaches(List<VerdictCache> verdictCaches, Metrics metrics) {
+        for (VerdictCache verdictCache : verdictCaches) {
+            if (verdictCache instanceof FileVerdictCache fileVerdictCache) {
+                getLog().debug("Verdict cache " + fileVerdictCache.getFile() + ": " + fileVerdictCache.getHits()
+                        + " hits, " + fileVerdictCache.getMisses() + " misses.");
+                Metrics.Measurement measurement = metrics.start(Metrics.VERDICTS);
+                try {
+                    fileVerdictCache.save();
+                } catch (IOException e) {
+                    getLog().warn("Failed to write verdict cache " + fileVerdictCache.getFile(), e);
+                } finally {
+                    measurement.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Describes the configuration of each rule, with all the expressions evaluated.
+     * <p>
+     *     The version of the plugin is included, since the implementation of the rules can change between versions.
+     * </p>
+     */
+    // package-private for testing
+    List<String> describeRules() throws MojoExecutionException {
+        ExpressionEvaluator evaluator = new PluginParameterExpressionEvaluator(session, mojoExecution);
+        String version = mojoExecution.getMojoDescriptor().getPluginDescriptor().getVersion();
+        List<String> descriptions = new ArrayList<>();
+        for (PlexusConfiguration ruleConfig : rules.getChildren()) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(version).append('\n');
+            try {
+                describeConfiguration(ruleConfig, evaluator, builder);
+            } catch (ExpressionEvaluationException e) {
+                throw new MojoExecutionException(
+                        "Failed to evaluate the configuration of SBOM Enforcer rule `" + ruleConfig.getName() + "`", e);
+            }
+            descriptions.add(builder.toString());
+        }
+        return descriptions;
+    }
+
+    private static void describeConfiguration(
+            PlexusConfiguration configuration, ExpressionEvaluator evaluator, StringBuilder builder)
+            throws ExpressionEvaluationException {
+        builder.append('<').append(configuration.getName());
+        String[] attributeNames = configuration.getAttributeNames();
+        Arrays.sort(attributeNames);
+        for (String name : attributeNames) {
+            builder.append(' ')
+                    .append(name)
+                    .append("=\"")
+                    .append(evaluator.evaluate(configuration.getAttribute(name)))
+                    .append('"');
+        }
+        builder.append('>');
+        String value = configuration.getValue();
+        if (value != null) {
+            builder.append(evaluator.evaluate(value));
+        }
+        for (PlexusConfiguration child : configuration.getChildren()) {
+            describeConfiguration(child, evaluator, builder);
+        }
+        builder.append("</").append(configuration.getName()).append('>');
+    }
+
+    private static String getRuleName(EnforcerRule rule) {
+        Named named = rule.getClass().getAnnotation(Named.class);
+        return named != null ? named.value() : rule.getClass().getSimpleName();
+    }
+
     // package-private for testing
     List<? extends EnforcerRule> createEnforcerRules() throws MojoExecutionException {
         ExpressionEvaluator evaluator = new PluginParameterExpressionEvaluator(session, mojoExecution);
@@ -214,20 +718,44 @@ public class CheckMojo extends AbstractMojo {
         return enforcerRules;
     }
 
-    public void setUsePrivateLocalRepo(boolean usePrivateLocalRepo) {
-        this.usePrivateLocalRepo = usePrivateLocalRepo;
+    public void setRules(PlexusConfiguration rules) {
+        this.rules = rules;
+    }
+
+    public void setMetricsFile(@Nullable Path metricsFile) {
+        this.metricsFile = metricsFile;
     }
 
-    public void setPrivateLocalRepoPath(Path privateLocalRepoPath) {
-        this.privateLocalRepoPath = privateLocalRepoPath;
+    public void setLogMetrics(boolean logMetrics) {
+        this.logMetrics = logMetrics;
     }
 
-    public void setRules(PlexusConfiguration rules) {
-        this.rules = rules;
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    public void setTimeoutSeconds(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public void setRuleTimeoutSeconds(int ruleTimeoutSeconds) {
+        this.ruleTimeoutSeconds = ruleTimeoutSeconds;
     }
 
-    public void setRepoSession(RepositorySystemSession repoSession) {
-        this.repoSession = repoSession;
+    public void setFailOnSkipped(boolean failOnSkipped) {
+        this.failOnSkipped = failOnSkipped;
+    }
+
+    public void setSamplingRate(double samplingRate) {
+        this.samplingRate = samplingRate;
+    }
+
+    public void setSamplingSeed(@Nullable String samplingSeed) {
+        this.samplingSeed = samplingSeed;
+    }
+
+    public void setSamplingBaseline(@Nullable Path samplingBaseline) {
+        this.samplingBaseline = samplingBaseline;
     }
 
     public void addRule(PlexusConfiguration rule) {
@@ -235,32 +763,78 @@ public class CheckMojo extends AbstractMojo {
     }
 
     /**
-     * Replaces the local repository manager to prevent the usage of artifacts installed locally.
+     * Passes the components to multiple listeners.
+     * <p>
+     *     After the token is cancelled, the listener aborts the construction of the model.
+     * </p>
      */
-    private static class CustomLocalRepositorySystemSession extends AbstractForwardingRepositorySystemSession {
+    private static class BroadcastListener implements ComponentListener {
+
+        private final List<? extends ComponentListener> listeners;
+        private final CancellationToken cancellation;
+        private int componentCount;
 
-        private final RepositorySystemSession session;
-        private final LocalRepositoryManager localRepositoryManager;
+        BroadcastListener(List<? extends ComponentListener> listeners, CancellationToken cancellation) {
+            this.listeners = listeners;
+            this.cancellation = cancellation;
+        }
 
-        CustomLocalRepositorySystemSession(
-                RepositorySystemSession session, LocalRepositoryManager localRepositoryManager) {
-            this.session = session;
-            this.localRepositoryManager = localRepositoryManager;
+        int getComponentCount() {
+            return componentCount;
         }
 
         @Override
-        protected RepositorySystemSession getSession() {
-            return session;
+        public void onMainComponent(Component component) {
+            cancellation.throwIfCancelled();
+            componentCount++;
+            for (ComponentListener listener : listeners) {
+                listener.onMainComponent(component);
+            }
         }
 
         @Override
-        public String getChecksumPolicy() {
-            return RepositoryPolicy.CHECKSUM_POLICY_FAIL;
+        public void onComponent(Component dependency) {
+            cancellation.throwIfCancelled();
+            componentCount++;
+            for (ComponentListener listener : listeners) {
+                listener.onComponent(dependency);
+            }
+        }
+    }
+
+    /**
+     * Measures the time spent by a component rule on each component.
+     */
+    private static class MeasuringListener implements ComponentListener {
+
+        private final Metrics metrics;
+        private final String phase;
+        private final ComponentListener delegate;
+
+        MeasuringListener(Metrics metrics, String phase, ComponentListener delegate) {
+            this.metrics = metrics;
+            this.phase = phase;
+            this.delegate = delegate;
         }
 
         @Override
-        public LocalRepositoryManager getLocalRepositoryManager() {
-            return localRepositoryManager;
+        public void onMainComponent(Component component) {
+            Metrics.Measurement measurement = metrics.start(phase);
+            try {
+                delegate.onMainComponent(component);
+            } finally {
+                measurement.close();
+            }
+        }
+
+        @Override
+        public void onComponent(Component dependency) {
+            Metrics.Measurement measurement = metrics.start(phase);
+            try {
+                delegate.onComponent(dependency);
+            } finally {
+                measurement.close();
+            }
         }
     }
 }
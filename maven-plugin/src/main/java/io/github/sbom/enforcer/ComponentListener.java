@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+/**
+ * Receives the components of a Bill of Materials as soon as they are available.
+ * <p>
+ *     The main component is always delivered first, followed by the dependencies.
+ *     The methods of a listener are never called concurrently.
+ * </p>
+ *
+ * @see BomBuilder#build(org.eclipse.aether.RepositorySystemSession, BomBuilderRequest, ComponentListener)
+ */
+public interface ComponentListener {
+
+    /**
+     * Receives the component described by the Bill of Materials.
+     */
+    void onMainComponent(Component component);
+
+    /**
+     * Receives a dependency of the main component, after it has been resolved.
+     */
+    void onComponent(Component dependency);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.eclipse.aether.artifact.Artifact;
+
+/**
+ * A rule that checks each component of a Bill of Materials independently.
+ * <p>
+ *     Differently from {@link EnforcerRule}, which can only run after the whole Bill of Materials has been parsed and
+ *     all its dependencies resolved, a component rule receives each component as soon as it is resolved.
+ *     This allows checking the components while the remaining ones are still being downloaded.
+ * </p>
+ */
+public interface ComponentRule extends EnforcerRule {
+
+    /**
+     * Starts the check of a Bill of Materials.
+     *
+     * @param billOfMaterials The SBOM artifact being checked.
+     * @param cache The verdicts of previous executions of the rule with the same configuration.
+     * @return An object that checks the components of the SBOM.
+     */
+    Checker newChecker(Artifact billOfMaterials, VerdictCache cache);
+
+    /**
+     * Starts the check of a Bill of Materials, that can be cancelled.
+     * <p>
+     *     The default implementation ignores the token.
+     * </p>
+     *
+     * @param billOfMaterials The SBOM artifact being checked.
+     * @param cache The verdicts of previous executions of the rule with the same configuration.
+     * @param cancellation A token that signals that the result of the check is no longer needed.
+     * @return An object that checks the components of the SBOM.
+     */
+    default Checker newChecker(Artifact billOfMaterials, VerdictCache cache, CancellationToken cancellation) {
+        return newChecker(billOfMaterials, cache);
+    }
+
+    @Override
+    default void execute(BillOfMaterials bom) throws MojoFailureException {
+        execute(bom, VerdictCache.disabled());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The default implementation passes all the components of the Bill of Materials to a new {@link Checker}.
+     * </p>
+     */
+    @Override
+    default void execute(BillOfMaterials bom, VerdictCache cache) throws MojoFailureException {
+        execute(bom, cache, CancellationToken.none());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The default implementation passes the components of the Bill of Materials to a new {@link Checker}, until
+     *     the token is cancelled.
+     * </p>
+     */
+    @Override
+    default void execute(BillOfMaterials bom, VerdictCache cache, CancellationToken cancellation)
+            throws MojoFailureException {
+        Checker checker = newChecker(bom.getBillOfMaterials(), cache, cancellation);
+        checker.onMainComponent(bom.getComponent());
+        for (Component dependency : bom.getDependencies()) {
+            cancellation.throwIfCancelled();
+            checker.onComponent(dependency);
+        }
+        checker.finish();
+    }
+
+    /**
+     * Checks the components of a single Bill of Materials.
+     * <p>
+     *     The methods of a checker are never called concurrently, but they can be called from different threads.
+     * </p>
+     */
+    interface Checker extends ComponentListener {
+
+        /**
+         * Reports the result of the check, after all the components have been received.
+         *
+         * @throws MojoFailureException If some component did not pass the check.
+         */
+        void finish() throws MojoFailureException;
+
+        /**
+         * Checks if a component already failed the check.
+         * <p>
+         *     In fail-fast mode, this method is called after each component: if it returns {@code true}, the checks of
+         *     all the rules are cancelled and {@link #finish()} is called immediately to report the failure.
+         *     The default implementation returns {@code false}, so the failures are only detected by {@link #finish()}.
+         * </p>
+         */
+        default boolean hasFailed() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import java.time.Duration;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+final class DisabledVerdictCache implements VerdictCache {
+
+    static final VerdictCache INSTANCE = new DisabledVerdictCache();
+
+    private DisabledVerdictCache() {}
+
+    @Override
+    public @Nullable List<String> get(Component component, String context) {
+        return null;
+    }
+
+    @Override
+    public void put(Component component, String context, List<String> errors, @Nullable Duration timeToLive) {}
+}
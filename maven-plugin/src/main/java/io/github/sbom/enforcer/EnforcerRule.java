@@ -23,4 +23,75 @@ import org.apache.maven.plugin.MojoFailureException;
 public interface EnforcerRule {
 
     void execute(BillOfMaterials bom) throws MojoFailureException;
+
+    /**
+     * Performs checks on a Bill of Materials, reusing the verdicts of previous executions.
+     * <p>
+     *     Rules that check each component independently should consult the cache before checking a component and
+     *     store the verdict afterward, so that only new or modified components are checked.
+     *     The default implementation ignores the cache.
+     * </p>
+     *
+     * @param bom A Bill of Materials.
+     * @param cache The verdicts of previous executions of the rule with the same configuration.
+     */
+    default void execute(BillOfMaterials bom, VerdictCache cache) throws MojoFailureException {
+        execute(bom);
+    }
+
+    /**
+     * Performs checks on a Bill of Materials, that can be cancelled.
+     * <p>
+     *     Rules should stop as soon as possible after the token is cancelled: their result will be ignored.
+     *     The default implementation ignores the token.
+     * </p>
+     *
+     * @param bom A Bill of Materials.
+     * @param cache The verdicts of previous executions of the rule with the same configuration.
+     * @param cancellation A token that signals that the result of the rule is no longer needed.
+     */
+    default void execute(BillOfMaterials bom, VerdictCache cache, CancellationToken cancellation)
+            throws MojoFailureException {
+        execute(bom, cache);
+    }
+
+    /**
+     * Returns the resource that limits the execution time of this rule.
+     * <p>
+     *     Rules are executed concurrently on a thread pool suitable for their resource class.
+     *     The default implementation returns {@link ResourceClass#CPU}.
+     * </p>
+     */
+    default ResourceClass getResourceClass() {
+        return ResourceClass.CPU;
+    }
+
+    /**
+     * Checks if this rule reads the files of the components.
+     * <p>
+     *     The files of the dependencies are only downloaded in advance if at least one rule needs them.
+     *     Otherwise, they are resolved the first time they are accessed.
+     *     The default implementation returns {@code true}.
+     * </p>
+     *
+     * @return {@code true} if the rule calls {@link Component#getBillsOfMaterials()} or reads the file of
+     * {@link Component#getArtifact()}.
+     */
+    default boolean requiresFiles() {
+        return true;
+    }
+
+    /**
+     * Classes of resources that limit the execution time of a rule.
+     */
+    enum ResourceClass {
+        /**
+         * The rule is limited by the CPU or the local disk, e.g. it computes checksums of local files.
+         */
+        CPU,
+        /**
+         * The rule mostly waits for remote servers, e.g. it checks the availability of URLs.
+         */
+        IO
+    }
 }
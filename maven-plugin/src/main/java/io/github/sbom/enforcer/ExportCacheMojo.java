@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import io.github.sbom.enforcer.internal.CacheArchive;
+import java.io.IOException;
+import java.time.Clock;
+import javax.inject.Inject;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+
+/**
+ * Exports the persistent state of the plugin as a single archive.
+ * <p>
+ *     Run this goal at the end of a CI job and cache the archive, so that the next job can restore it with the
+ *     {@code import-cache} goal.
+ * </p>
+ */
+@Mojo(name = "export-cache", aggregator = true)
+public class ExportCacheMojo extends AbstractCacheMojo {
+
+    @Inject
+    public ExportCacheMojo(MavenSession session) {
+        super(session);
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        try {
+            int count = CacheArchive.write(archive, getSections(), Clock.systemUTC());
+            getLog().info("Exported " + count + " files to " + archive + ".");
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to export the cache to " + archive, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+final class FullSampler implements Sampler {
+
+    static final Sampler INSTANCE = new FullSampler();
+
+    private FullSampler() {}
+
+    @Override
+    public boolean isSelected(Component component) {
+        return true;
+    }
+
+    @Override
+    public boolean isSelected(Component component, String location) {
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import io.github.sbom.enforcer.internal.CacheArchive;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import javax.inject.Inject;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Restores the persistent state of the plugin from an archive created by the {@code export-cache} goal.
+ * <p>
+ *     A missing, corrupted or outdated archive is ignored with a warning: the checks are then performed from scratch.
+ *     Existing files are never replaced.
+ * </p>
+ */
+@Mojo(name = "import-cache", aggregator = true)
+public class ImportCacheMojo extends AbstractCacheMojo {
+
+    /**
+     * Archives older than this number of days are ignored.
+     */
+    @Parameter(defaultValue = "30")
+    private int maxAgeDays = 30;
+
+    @Inject
+    public ImportCacheMojo(MavenSession session) {
+        super(session);
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (maxAgeDays <= 0) {
+            throw new MojoExecutionException("Invalid maximum age " + maxAgeDays + ": must be positive.");
+        }
+        if (!Files.isRegularFile(archive)) {
+            getLog().info("No cache archive found at " + archive + ".");
+            return;
+        }
+        try {
+            int count = CacheArchive.read(archive, getSections(), Clock.systemUTC(), Duration.ofDays(maxAgeDays));
+            getLog().info("Imported " + count + " files from " + archive + ".");
+        } catch (IOException e) {
+            getLog().warn("Ignoring cache archive " + archive + ": " + e.getMessage());
+        }
+    }
+
+    public void setMaxAgeDays(int maxAgeDays) {
+        this.maxAgeDays = maxAgeDays;
+    }
+}
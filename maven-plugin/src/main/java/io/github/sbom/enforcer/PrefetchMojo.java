@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import io.github.sbom.enforcer.internal.Artifacts;
+import io.github.sbom.enforcer.internal.Cancellation;
+import io.github.sbom.enforcer.internal.ComponentResolver;
+import io.github.sbom.enforcer.internal.Prefetcher;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.logging.AbstractLogger;
+import org.codehaus.plexus.logging.Logger;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.spi.localrepo.LocalRepositoryManagerFactory;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Starts resolving the dependencies of the project and their SBOMs on background threads.
+ * <p>
+ *     Bind this goal to an early phase, so that the artifacts are downloaded into the local repository used by the
+ *     {@code check} goal, while the project is compiled and tested.
+ *     The {@code check} goal stops the prefetch of its project, when it starts.
+ * </p>
+ */
+@Mojo(name = "prefetch", defaultPhase = LifecyclePhase.INITIALIZE, requiresDependencyCollection = ResolutionScope.TEST)
+public class PrefetchMojo extends AbstractResolvingMojo {
+
+    /**
+     * CycloneDX SBOMs, whose components are prefetched in addition to the dependencies of the project.
+     * <p>
+     *     Since the SBOMs of the project are usually generated in a later phase, this can point to the SBOMs generated
+     *     by a previous build.
+     *     Missing files are ignored.
+     * </p>
+     */
+    @Parameter
+    private List<Path> boms = new ArrayList<>();
+
+    /**
+     * Number of background threads.
+     * <p>
+     *     Each thread resolves a batch of artifacts, whose files are downloaded in parallel by the Maven Resolver.
+     * </p>
+     */
+    @Parameter(defaultValue = "2")
+    private int threads = 2;
+
+    /**
+     * Used to resolve the artifacts.
+     */
+    private final RepositorySystem repoSystem;
+
+    /**
+     * Readers for supported SBOM formats.
+     */
+    private final Set<BomBuilder> bomBuilders;
+
+    @Inject
+    public PrefetchMojo(
+            MavenProject project,
+            MavenSession session,
+            RepositorySystem repoSystem,
+            Set<BomBuilder> bomBuilders,
+            LocalRepositoryManagerFactory localRepositoryManagerFactory) {
+        super(project, session, localRepositoryManagerFactory);
+        this.repoSystem = repoSystem;
+        this.bomBuilders = bomBuilders;
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (threads <= 0) {
+            throw new MojoExecutionException("Invalid number of threads " + threads + ": must be positive.");
+        }
+        Collection<org.eclipse.aether.artifact.Artifact> artifacts = collectArtifacts();
+        if (artifacts.isEmpty()) {
+            getLog().info("No artifacts to prefetch.");
+            return;
+        }
+        Cancellation cancellation = new Cancellation();
+        RepositorySystemSession effectiveRepoSession = createRepositorySession(
+                cancellation.cancelTransfers(repoSession.getTransferListener()), new DefaultSessionData());
+        ComponentResolver resolver = new ComponentResolver(repoSystem, effectiveRepoSession, new DebugLogger(getLog()));
+        Prefetcher prefetcher = Prefetcher.start(resolver, artifacts, threads, cancellation);
+        prefetcher.attachTo(repoSession.getData(), project.getId());
+        getLog().info("Prefetching " + artifacts.size() + " artifacts in the background.");
+    }
+
+    /**
+     * Collects the dependencies of the project and the components of the configured SBOMs.
+     *
+     * @return The artifacts to resolve without duplicates.
+     */
+    // package-private for testing
+    Collection<org.eclipse.aether.artifact.Artifact> collectArtifacts() throws MojoExecutionException {
+        Map<String, org.eclipse.aether.artifact.Artifact> artifacts = new LinkedHashMap<>();
+        for (Artifact dependency : project.getArtifacts()) {
+            org.eclipse.aether.artifact.Artifact artifact =
+                    Artifacts.toArtifact(dependency).setFile(null);
+            artifacts.putIfAbsent(artifact.toString(), artifact);
+        }
+        for (Path bom : boms) {
+            if (Files.isRegularFile(bom)) {
+                for (Component component : readComponents(bom)) {
+                    org.eclipse.aether.artifact.Artifact artifact = component.getArtifact();
+                    artifacts.putIfAbsent(artifact.toString(), artifact);
+                }
+            } else {
+                getLog().debug("Skipping missing SBOM " + bom);
+            }
+        }
+        return artifacts.values();
+    }
+
+    private List<Component> readComponents(Path bom) throws MojoExecutionException {
+        // The format of the SBOM is determined by its extension, like for the SBOMs attached to the project
+        String extension = String.valueOf(bom.getFileName()).endsWith(".json") ? "json" : "xml";
+        org.eclipse.aether.artifact.Artifact bomArtifact = new org.eclipse.aether.artifact.DefaultArtifact(
+                        project.getGroupId(), project.getArtifactId(), "cyclonedx", extension, project.getVersion())
+                .setFile(bom.toFile());
+        for (BomBuilder bomBuilder : bomBuilders) {
+            if (bomBuilder.isSupported(bomArtifact)) {
+                try {
+                    List<Component> components = bomBuilder.readComponents(bomArtifact);
+                    // The main component is the project itself
+                    return components.isEmpty() ? components : components.subList(1, components.size());
+                } catch (BomBuildingException e) {
+                    throw new MojoExecutionException("Failed to read SBOM " + bom, e);
+                }
+            }
+        }
+        throw new MojoExecutionException("Unsupported SBOM " + bom);
+    }
+
+    public void setBoms(List<Path> boms) {
+        this.boms = boms;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Logs all the messages of the resolver at the debug level, since resolution failures are reported by the
+     * {@code check} goal.
+     */
+    private static final class DebugLogger extends AbstractLogger {
+
+        private final Log log;
+
+        private DebugLogger(Log log) {
+            super(log.isDebugEnabled() ? LEVEL_DEBUG : LEVEL_DISABLED, "prefetch");
+            this.log = log;
+        }
+
+        @Override
+        public void debug(String message, @Nullable Throwable throwable) {
+            log.debug(message, throwable);
+        }
+
+        @Override
+        public void info(String message, @Nullable Throwable throwable) {
+            log.debug(message, throwable);
+        }
+
+        @Override
+        public void warn(String message, @Nullable Throwable throwable) {
+            log.debug(message, throwable);
+        }
+
+        @Override
+        public void error(String message, @Nullable Throwable throwable) {
+            log.debug(message, throwable);
+        }
+
+        @Override
+        public void fatalError(String message, @Nullable Throwable throwable) {
+            log.debug(message, throwable);
+        }
+
+        @Override
+        public Logger getChildLogger(String name) {
+            return this;
+        }
+    }
+}
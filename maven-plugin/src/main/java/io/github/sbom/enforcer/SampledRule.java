@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import org.eclipse.aether.artifact.Artifact;
+
+/**
+ * A rule that can check a sample of the components of an SBOM.
+ * <p>
+ *     Sampling trades certainty for speed, e.g. in pull request builds: the full checks are still expected to run
+ *     before a release.
+ * </p>
+ */
+public interface SampledRule extends ComponentRule {
+
+    /**
+     * Starts the check of a sample of a Bill of Materials.
+     *
+     * @param billOfMaterials The SBOM artifact being checked.
+     * @param cache The verdicts of previous executions of the rule with the same configuration.
+     * @param cancellation A token that signals that the result of the check is no longer needed.
+     * @param sampler The sampler that selects the dependencies and external references to check.
+     * @return An object that checks the components of the SBOM.
+     */
+    Checker newChecker(Artifact billOfMaterials, VerdictCache cache, CancellationToken cancellation, Sampler sampler);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The default implementation checks all the dependencies and external references.
+     * </p>
+     */
+    @Override
+    default Checker newChecker(Artifact billOfMaterials, VerdictCache cache, CancellationToken cancellation) {
+        return newChecker(billOfMaterials, cache, cancellation, Sampler.all());
+    }
+}
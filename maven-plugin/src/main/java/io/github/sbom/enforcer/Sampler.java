@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+/**
+ * Selects the parts of an SBOM checked by a rule in sampling mode.
+ * <p>
+ *     The selection is reproducible: with the same configuration, the same components and external references are
+ *     selected in each build.
+ *     Rules should always check the main component.
+ * </p>
+ *
+ * @see SampledRule
+ */
+public interface Sampler {
+
+    /**
+     * Returns a sampler that selects everything.
+     */
+    static Sampler all() {
+        return FullSampler.INSTANCE;
+    }
+
+    /**
+     * Checks if a dependency should be checked.
+     *
+     * @param component A dependency of the main component.
+     * @return {@code true} if the dependency is part of the sample.
+     */
+    boolean isSelected(Component component);
+
+    /**
+     * Checks if an external reference of a dependency should be checked.
+     *
+     * @param component A dependency of the main component.
+     * @param location The location of one of its external references.
+     * @return {@code true} if the reference is part of the sample.
+     */
+    boolean isSelected(Component component, String location);
+}
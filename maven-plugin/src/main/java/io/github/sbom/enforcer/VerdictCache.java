@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer;
+
+import java.time.Duration;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Stores the verdicts of a rule about single components, so that they can be reused by later executions.
+ * <p>
+ *     Each instance is scoped to a single rule and a single configuration of that rule.
+ *     The verdicts are keyed by the Package URL and the declared checksums of the component and by a context, which
+ *     describes the other inputs of the verdict (e.g. the resolved file or the external references of the component).
+ *     A verdict is the list of error messages of the rule about the component: an empty list means that the component
+ *     passed the check.
+ * </p>
+ * <p>
+ *     Components without a Package URL or with a {@code SNAPSHOT} version are never cached.
+ * </p>
+ */
+public interface VerdictCache {
+
+    /**
+     * Returns a cache that never stores any verdict.
+     */
+    static VerdictCache disabled() {
+        return DisabledVerdictCache.INSTANCE;
+    }
+
+    /**
+     * Retrieves the verdict about a component, which only depends on its Package URL and declared checksums.
+     *
+     * @param component A component.
+     * @return The error messages about the component or {@code null} if no valid verdict is available.
+     */
+    default @Nullable List<String> get(Component component) {
+        return get(component, "");
+    }
+
+    /**
+     * Retrieves the verdict about a component.
+     *
+     * @param component A component.
+     * @param context The other inputs of the verdict.
+     * @return The error messages about the component or {@code null} if no valid verdict is available.
+     */
+    @Nullable
+    List<String> get(Component component, String context);
+
+    /**
+     * Stores the verdict about a component, which only depends on its Package URL and declared checksums.
+     *
+     * @param component A component.
+     * @param errors The error messages about the component.
+     * @param timeToLive The duration of validity of the verdict or {@code null} for verdicts that never expire.
+     */
+    default void put(Component component, List<String> errors, @Nullable Duration timeToLive) {
+        put(component, "", errors, timeToLive);
+    }
+
+    /**
+     * Stores the verdict about a component.
+     * <p>
+     *     Verdicts that depend on the environment (e.g. the status of an HTTP server) should have a finite duration.
+     *     Verdicts caused by transient errors (e.g. network failures) should not be stored at all.
+     * </p>
+     *
+     * @param component A component.
+     * @param context The other inputs of the verdict.
+     * @param errors The error messages about the component.
+     * @param timeToLive The duration of validity of the verdict or {@code null} for verdicts that never expire.
+     */
+    void put(Component component, String context, List<String> errors, @Nullable Duration timeToLive);
+}
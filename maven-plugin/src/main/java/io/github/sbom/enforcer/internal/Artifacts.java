@@ -19,17 +19,29 @@ import static io.github.sbom.enforcer.Component.Properties.MAVEN_CENTRAL_ALT_URL
 import static io.github.sbom.enforcer.Component.Properties.MAVEN_CENTRAL_URL;
 import static io.github.sbom.enforcer.Component.Properties.REPOSITORY_URL;
 
+import io.github.sbom.enforcer.internal.jfr.ResolveArtifactEvent;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.ArtifactProperties;
 import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.Authentication;
+import org.eclipse.aether.repository.AuthenticationSelector;
+import org.eclipse.aether.repository.MirrorSelector;
+import org.eclipse.aether.repository.Proxy;
+import org.eclipse.aether.repository.ProxySelector;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RepositoryPolicy;
 import org.eclipse.aether.resolution.ArtifactRequest;
@@ -42,6 +54,8 @@ import org.jspecify.annotations.Nullable;
  */
 public final class Artifacts {
 
+    private static final String REPOSITORIES_KEY = Artifacts.class.getName() + ".repositories";
+
     public static Artifact toArtifact(org.apache.maven.artifact.Artifact mavenArtifact) {
         Objects.requireNonNull(mavenArtifact);
         String version = mavenArtifact.getVersion() != null
@@ -93,19 +107,64 @@ public final class Artifacts {
                 artifact.getFile());
     }
 
+    /**
+     * Returns the repository from which an artifact should be downloaded.
+     * <p>
+     *     The repository is routed through the mirrors, proxies and authentication configured in the session.
+     *     Repositories are cached by URL in the data of the build session, so that all the artifacts of a repository
+     *     share the same instance in all the executions of the plugin and the transport connections can be reused.
+     *     Since a private local repository enforces a different checksum policy, there is a cache for each policy.
+     * </p>
+     *
+     * @param artifact An artifact, whose {@code repository_url} property contains the URL of the repository.
+     * @param repoSession The repository session.
+     * @return A remote repository.
+     */
     public static RemoteRepository getRemoteRepository(Artifact artifact, RepositorySystemSession repoSession) {
         String repositoryUrl = artifact.getProperty(REPOSITORY_URL, MAVEN_CENTRAL_URL);
         if (repositoryUrl.equals(MAVEN_CENTRAL_ALT_URL)) {
             repositoryUrl = MAVEN_CENTRAL_URL;
         }
+        SessionData data = repoSession instanceof ExecutionRepositorySystemSession executionSession
+                ? executionSession.getBuildData()
+                : repoSession.getData();
+        if (data == null) {
+            return createRemoteRepository(repositoryUrl, repoSession);
+        }
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<String, RemoteRepository> repositories = (ConcurrentMap<String, RemoteRepository>)
+                data.computeIfAbsent(REPOSITORIES_KEY + '.' + repoSession.getChecksumPolicy(), ConcurrentHashMap::new);
+        return repositories.computeIfAbsent(repositoryUrl, url -> createRemoteRepository(url, repoSession));
+    }
+
+    static RemoteRepository createRemoteRepository(String repositoryUrl, RepositorySystemSession repoSession) {
         // We use the URL as id, except for Maven Central, so we can use Mimir
         String repositoryId = MAVEN_CENTRAL_URL.equals(repositoryUrl) ? "central" : repositoryUrl;
         String updatePolicy = repoSession.getUpdatePolicy();
         String checksumPolicy = repoSession.getChecksumPolicy();
-        return new RemoteRepository.Builder(repositoryId, "default", repositoryUrl)
+        RemoteRepository repository = new RemoteRepository.Builder(repositoryId, "default", repositoryUrl)
                 .setReleasePolicy(createRepositoryPolicy(true, updatePolicy, checksumPolicy))
                 .setSnapshotPolicy(createRepositoryPolicy(false, updatePolicy, checksumPolicy))
                 .build();
+        // Same steps as `RepositorySystem.newResolutionRepositories`
+        MirrorSelector mirrorSelector = repoSession.getMirrorSelector();
+        RemoteRepository mirror = mirrorSelector != null ? mirrorSelector.getMirror(repository) : null;
+        if (mirror != null) {
+            repository = mirror;
+        }
+        RemoteRepository.Builder builder = new RemoteRepository.Builder(repository);
+        AuthenticationSelector authenticationSelector = repoSession.getAuthenticationSelector();
+        Authentication authentication =
+                authenticationSelector != null ? authenticationSelector.getAuthentication(repository) : null;
+        if (authentication != null) {
+            builder.setAuthentication(authentication);
+        }
+        ProxySelector proxySelector = repoSession.getProxySelector();
+        Proxy proxy = proxySelector != null ? proxySelector.getProxy(repository) : null;
+        if (proxy != null) {
+            builder.setProxy(proxy);
+        }
+        return builder.build();
     }
 
     static RepositoryPolicy createRepositoryPolicy(
@@ -118,18 +177,50 @@ public final class Artifacts {
                         : checksumPolicy);
     }
 
-    public static Artifact downloadArtifact(
-            RepositorySystem repoSystem,
-            RepositorySystemSession repoSession,
-            Artifact artifact,
-            RemoteRepository remoteRepository)
-            throws ArtifactResolutionException {
-        ArtifactRequest request = new ArtifactRequest();
-        request.setArtifact(artifact);
-        request.setRepositories(Collections.singletonList(remoteRepository));
-
-        ArtifactResult result = repoSystem.resolveArtifact(repoSession, request);
-        return result.getArtifact();
+    /**
+     * Resolves a batch of artifacts, so that the resolver can download them in parallel.
+     * <p>
+     *     The JFR events of a batch share its duration.
+     * </p>
+     *
+     * @param repoSystem The repository system.
+     * @param repoSession The repository session.
+     * @param requests A list of requests.
+     * @return The results in the same order as the requests, including the artifacts that failed to resolve.
+     */
+    public static List<ArtifactResult> downloadArtifacts(
+            RepositorySystem repoSystem, RepositorySystemSession repoSession, List<ArtifactRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        List<ResolveArtifactEvent> events = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ResolveArtifactEvent event = new ResolveArtifactEvent();
+            event.begin();
+            events.add(event);
+        }
+        List<ArtifactResult> results;
+        try {
+            results = repoSystem.resolveArtifacts(repoSession, requests);
+        } catch (ArtifactResolutionException e) {
+            results = e.getResults();
+        }
+        for (int i = 0; i < results.size(); i++) {
+            ResolveArtifactEvent event = events.get(i);
+            if (event.shouldCommit()) {
+                ArtifactResult result = results.get(i);
+                ArtifactRequest request = result.getRequest();
+                event.setCoordinates(request.getArtifact().toString());
+                event.setRepository(request.getRepositories().stream()
+                        .map(RemoteRepository::getUrl)
+                        .collect(Collectors.joining(", ")));
+                event.setResolved(result.isResolved());
+                event.setBytes(
+                        result.isResolved() ? result.getArtifact().getFile().length() : 0L);
+                event.commit();
+            }
+        }
+        return results;
     }
 
     public static int compare(Artifact left, Artifact right) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.support.DefaultBillOfMaterials;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.eclipse.aether.artifact.Artifact;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Assembles a {@link BillOfMaterials} using the implementation best suited to the number of its dependencies.
+ */
+public final class BillOfMaterialsAssembler implements Supplier<BillOfMaterials> {
+
+    /**
+     * Minimal number of dependencies, for which the model is stored outside the Java heap.
+     *
+     * @see ColumnarBillOfMaterials
+     */
+    public static final int COLUMNAR_THRESHOLD = 50_000;
+
+    private final Supplier<BillOfMaterials> builder;
+    private final Consumer<Component> dependencyConsumer;
+
+    /**
+     * @param billOfMaterials The artifact used to generate the model.
+     * @param component The component described by the model.
+     * @param dependencyCount The expected number of dependencies.
+     */
+    public BillOfMaterialsAssembler(Artifact billOfMaterials, Component component, int dependencyCount) {
+        this(billOfMaterials, component, dependencyCount, null);
+    }
+
+    /**
+     * @param billOfMaterials The artifact used to generate the model.
+     * @param component The component described by the model.
+     * @param dependencyCount The expected number of dependencies.
+     * @param resolver The resolver of the dependencies, whose files are resolved lazily.
+     */
+    public BillOfMaterialsAssembler(
+            Artifact billOfMaterials, Component component, int dependencyCount, @Nullable ComponentResolver resolver) {
+        if (dependencyCount >= COLUMNAR_THRESHOLD) {
+            ColumnarBillOfMaterials.Builder columnarBuilder = ColumnarBillOfMaterials.newBuilder()
+                    .setBillOfMaterials(billOfMaterials)
+                    .setComponent(component)
+                    .setResolver(resolver);
+            this.builder = columnarBuilder;
+            this.dependencyConsumer = columnarBuilder::addDependency;
+        } else {
+            DefaultBillOfMaterials.Builder defaultBuilder = DefaultBillOfMaterials.newBuilder()
+                    .setBillOfMaterials(billOfMaterials)
+                    .setComponent(component);
+            this.builder = defaultBuilder;
+            this.dependencyConsumer = defaultBuilder::addDependency;
+        }
+    }
+
+    public BillOfMaterialsAssembler addDependency(Component dependency) {
+        dependencyConsumer.accept(dependency);
+        return this;
+    }
+
+    @Override
+    public BillOfMaterials get() {
+        return builder.get();
+    }
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.BomBuilderRequest;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.LocalRepository;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reads and writes binary snapshots of a {@link BillOfMaterials}.
+ * <p>
+ *     A snapshot contains the normalized model of an SBOM, including the paths to the resolved artifacts.
+ *     It is keyed by the digest of the SBOM file and the location of the local repository, so that a snapshot is
+ *     only used if the SBOM did not change.
+ * </p>
+ * <p>
+ *     The SBOMs published alongside a dependency are only recorded if some were found.
+ *     Otherwise, they are looked up again when they are first requested, since they might have been published in the
+ *     meantime or the configuration of the remote repositories might have changed.
+ *     The SBOMs of all these dependencies are then requested in a single batch.
+ * </p>
+ * <p>
+ *     The file starts with a header, followed by the main component, the number of dependencies and the dependencies.
+ *     Strings are written once and later referenced by their index.
+ * </p>
+ */
+public final class BomSnapshots {
+
+    /**
+     * The characters {@code SBOM} in ASCII.
+     */
+    private static final int MAGIC = 0x53424F4D;
+
+    /**
+     * Must be incremented on each change of the format.
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * Marks a dependency, whose published SBOMs must be looked up again.
+     */
+    private static final int NOT_FOUND = -1;
+
+    private static final String SUFFIX = ".snapshot";
+
+    /**
+     * Returns the location of the snapshot of an SBOM.
+     *
+     * @param directory The directory containing the snapshots.
+     * @param billOfMaterials A resolved SBOM artifact.
+     */
+    public static Path getSnapshotFile(Path directory, Artifact billOfMaterials) {
+        return directory.resolve(
+                Objects.requireNonNull(billOfMaterials.getFile()).getName() + SUFFIX);
+    }
+
+    /**
+     * Computes the key of the snapshot of an SBOM.
+     *
+     * @param repoSession The repository session used to resolve the dependencies.
+     * @param billOfMaterials A resolved SBOM artifact.
+     * @return A hex-encoded SHA-256 digest.
+     */
+    public static String computeKey(RepositorySystemSession repoSession, Artifact billOfMaterials) throws IOException {
+        MessageDigest digest = DigestUtils.getDigest(MessageDigestAlgorithms.SHA_256);
+        DigestUtils.updateDigest(digest, Objects.requireNonNull(billOfMaterials.getFile()));
+        // The snapshot contains paths inside the local repository
+        LocalRepository localRepository =
+                repoSession.getLocalRepositoryManager().getRepository();
+        digest.update((byte) 0);
+        digest.update(localRepository.getBasedir().getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param file The snapshot file.
+     * @param key The expected key of the snapshot.
+     * @param request The request, which provides the main artifact and its SBOMs.
+     * @param resolver The resolver used to look up the SBOMs of dependencies, which were not found before.
+     * @return The model of the SBOM or {@code null}, if the snapshot is missing, stale or refers to files that no
+     * longer exist.
+     * @throws IOException If the snapshot is corrupted.
+     */
+    public static @Nullable BillOfMaterials read(
+            Path file, String key, BomBuilderRequest request, ComponentResolver resolver) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            SnapshotReader reader = new SnapshotReader(
+                    new DataInputStream(new BufferedInputStream(stream)), Files.size(file), resolver);
+            return reader.readHeader(key) ? reader.readBillOfMaterials(request) : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot.
+     * <p>
+     *     The snapshot is first written to a temporary file, which is atomically moved to its final location.
+     * </p>
+     *
+     * @param file The snapshot file.
+     * @param key The key of the snapshot.
+     * @param bom The model of the SBOM.
+     */
+    public static void write(Path file, String key, BillOfMaterials bom) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null) {
+            throw new IOException("Invalid snapshot location: " + file);
+        }
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, "snapshot", ".tmp");
+        try {
+            try (DataOutputStream output =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                SnapshotWriter writer = new SnapshotWriter(output);
+                writer.writeHeader(key);
+                writer.writeBillOfMaterials(bom);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static final class SnapshotWriter {
+
+        private final DataOutputStream output;
+        private final Map<String, Integer> stringIds = new HashMap<>();
+
+        private SnapshotWriter(DataOutputStream output) {
+            this.output = output;
+        }
+
+        private void writeHeader(String key) throws IOException {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            writeString(key);
+        }
+
+        private void writeBillOfMaterials(BillOfMaterials bom) throws IOException {
+            // The file and the SBOMs of the main component are provided by the request
+            writeComponent(bom.getComponent(), false);
+            Collection<? extends Component> dependencies = bom.getDependencies();
+            output.writeInt(dependencies.size());
+            for (Component dependency : dependencies) {
+                writeComponent(dependency, true);
+            }
+        }
+
+        private void writeComponent(Component component, boolean dependency) throws IOException {
+            writeArtifact(component.getArtifact(), dependency);
+            writePackageURL(component.getPurl());
+            Map<ChecksumAlgorithm, String> checksums = component.getChecksums();
+            output.writeInt(checksums.size());
+            for (Map.Entry<ChecksumAlgorithm, String> entry : checksums.entrySet()) {
+                writeString(entry.getKey().name());
+                writeString(entry.getValue());
+            }
+            Collection<Component.ExternalReference> references = component.getExternalReferences();
+            output.writeInt(references.size());
+            for (Component.ExternalReference reference : references) {
+                writeString(reference.getReferenceType());
+                writeString(reference.getLocation());
+            }
+            Collection<Artifact> billsOfMaterials = dependency ? component.getBillsOfMaterials() : List.of();
+            output.writeInt(dependency && billsOfMaterials.isEmpty() ? NOT_FOUND : billsOfMaterials.size());
+            for (Artifact billOfMaterials : billsOfMaterials) {
+                writeArtifact(billOfMaterials, true);
+            }
+        }
+
+        private void writeArtifact(Artifact artifact, boolean withFile) throws IOException {
+            writeString(artifact.getGroupId());
+            writeString(artifact.getArtifactId());
+            writeString(artifact.getVersion());
+            writeString(artifact.getClassifier());
+            writeString(artifact.getExtension());
+            File file = withFile ? artifact.getFile() : null;
+            writeString(file != null ? file.getAbsolutePath() : null);
+            writeMap(artifact.getProperties());
+        }
+
+        private void writePackageURL(@Nullable PackageURL purl) throws IOException {
+            output.writeBoolean(purl != null);
+            if (purl != null) {
+                // The canonical form of package URLs can not always be parsed back
+                writeString(purl.getType());
+                writeString(purl.getNamespace());
+                writeString(purl.getName());
+                writeString(purl.getVersion());
+                writeMap(CollectionUtils.nullToEmpty(purl.getQualifiers()));
+                writeString(purl.getSubpath());
+            }
+        }
+
+        private void writeMap(Map<String, String> map) throws IOException {
+            output.writeInt(map.size());
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                writeString(entry.getKey());
+                writeString(entry.getValue());
+            }
+        }
+
+        /**
+         * Writes the index of a string, followed by its value, if the string was not written before.
+         */
+        private void writeString(@Nullable String value) throws IOException {
+            if (value == null) {
+                output.writeInt(-1);
+                return;
+            }
+            Integer id = stringIds.get(value);
+            if (id != null) {
+                output.writeInt(id);
+            } else {
+                output.writeInt(stringIds.size());
+                stringIds.put(value, stringIds.size());
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+    }
+
+    private static final class SnapshotReader {
+
+        private final DataInputStream input;
+        /**
+         * The size of the snapshot file, which bounds all the counts and lengths read from it.
+         */
+        private final long size;
+
+        private final ComponentResolver resolver;
+        private final List<String> strings = new ArrayList<>();
+        /**
+         * Whether the SBOMs of the last component read were found, when the snapshot was written.
+         */
+        private boolean billsOfMaterialsFound;
+
+        private SnapshotReader(DataInputStream input, long size, ComponentResolver resolver) {
+            this.input = input;
+            this.size = size;
+            this.resolver = resolver;
+        }
+
+        private boolean readHeader(String key) throws IOException {
+            return input.readInt() == MAGIC && input.readInt() == FORMAT_VERSION && key.equals(readString());
+        }
+
+        private @Nullable BillOfMaterials readBillOfMaterials(BomBuilderRequest request) throws IOException {
+            DefaultComponent.Builder mainBuilder = readComponent(false);
+            if (mainBuilder == null) {
+                return null;
+            }
+            // The file and the SBOMs of the main component are provided by the request
+            Artifact mainArtifact = mainBuilder.get().getArtifact();
+            mainBuilder.setArtifact(mainArtifact.setFile(request.getArtifact().getFile()));
+            request.getAllBillsOfMaterials().forEach(mainBuilder::addBillOfMaterials);
+            int count = readCount();
+            BillOfMaterialsAssembler assembler =
+                    new BillOfMaterialsAssembler(request.getMainBillOfMaterials(), mainBuilder.get(), count, resolver);
+            // The dependencies whose SBOMs were not found are looked up again together
+            List<LazyComponent> batch = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                DefaultComponent.Builder builder = readComponent(true);
+                if (builder == null) {
+                    return null;
+                }
+                Component dependency = builder.get();
+                if (billsOfMaterialsFound) {
+                    assembler.addDependency(dependency);
+                } else {
+                    LazyComponent lazyDependency = new LazyComponent(
+                            dependency, dependency.getArtifact().setFile(null), resolver, batch);
+                    batch.add(lazyDependency);
+                    assembler.addDependency(lazyDependency);
+                }
+            }
+            return assembler.get();
+        }
+
+        /**
+         * Reads a component.
+         *
+         * @param dependency Whether the component is a dependency, whose files were resolved.
+         * @return A component builder or {@code null} if one of the files referenced by the component does not exist.
+         */
+        private DefaultComponent.@Nullable Builder readComponent(boolean dependency) throws IOException {
+            Artifact artifact = readArtifact();
+            // The main component is written without a file
+            boolean filesExist = !dependency || isFilePresent(artifact);
+            DefaultComponent.Builder builder = DefaultComponent.newBuilder().setArtifact(artifact);
+            PackageURL purl = readPackageURL();
+            if (purl != null) {
+                builder.setPurl(purl);
+            }
+            int checksumCount = readCount();
+            for (int i = 0; i < checksumCount; i++) {
+                builder.addChecksum(ChecksumAlgorithm.valueOf(readNonNullString()), readNonNullString());
+            }
+            int referenceCount = readCount();
+            for (int i = 0; i < referenceCount; i++) {
+                builder.addExternalReference(readNonNullString(), readNonNullString());
+            }
+            int bomCount = input.readInt();
+            billsOfMaterialsFound = bomCount != NOT_FOUND;
+            if (billsOfMaterialsFound) {
+                checkCount(bomCount);
+            }
+            for (int i = 0; i < bomCount; i++) {
+                Artifact billOfMaterials = readArtifact();
+                filesExist &= isFilePresent(billOfMaterials);
+                builder.addBillOfMaterials(billOfMaterials);
+            }
+            return filesExist ? builder : null;
+        }
+
+        /**
+         * Checks if the file of a dependency or of its SBOM still exists.
+         * <p>
+         *     The snapshots are only written if all the files were resolved, so a missing file is a corruption.
+         * </p>
+         */
+        private static boolean isFilePresent(Artifact artifact) {
+            File file = artifact.getFile();
+            return file != null && file.isFile();
+        }
+
+        private Artifact readArtifact() throws IOException {
+            String groupId = readNonNullString();
+            String artifactId = readNonNullString();
+            String version = readNonNullString();
+            String classifier = readNonNullString();
+            String extension = readNonNullString();
+            String file = readString();
+            Map<String, String> properties = readMap();
+            return new CompactArtifact(groupId, artifactId, classifier, extension, version, properties)
+                    .setFile(file != null ? new File(file) : null);
+        }
+
+        private @Nullable PackageURL readPackageURL() throws IOException {
+            if (!input.readBoolean()) {
+                return null;
+            }
+            String type = readNonNullString();
+            String namespace = readString();
+            String name = readNonNullString();
+            String version = readString();
+            Map<String, String> qualifiers = readMap();
+            String subpath = readString();
+            try {
+                return new PackageURL(
+                        type,
+                        namespace,
+                        name,
+                        version,
+                        qualifiers.isEmpty() ? null : new TreeMap<>(qualifiers),
+                        subpath);
+            } catch (MalformedPackageURLException e) {
+                throw new IOException("Invalid package URL in snapshot", e);
+            }
+        }
+
+        private Map<String, String> readMap() throws IOException {
+            int count = readCount();
+            if (count == 0) {
+                return Map.of();
+            }
+            Map<String, String> map = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                map.put(readNonNullString(), readNonNullString());
+            }
+            return map;
+        }
+
+        /**
+         * Reads the number of elements or bytes that follow.
+         *
+         * @throws IOException If the count is negative or larger than the snapshot itself.
+         */
+        private int readCount() throws IOException {
+            return checkCount(input.readInt());
+        }
+
+        private int checkCount(int count) throws IOException {
+            if (count < 0 || count > size) {
+                throw new IOException("Invalid count in snapshot: " + count);
+            }
+            return count;
+        }
+
+        private String readNonNullString() throws IOException {
+            String value = readString();
+            if (value == null) {
+                throw new IOException("Unexpected null value in snapshot");
+            }
+            return value;
+        }
+
+        private @Nullable String readString() throws IOException {
+            int id = input.readInt();
+            if (id == -1) {
+                return null;
+            }
+            if (id < strings.size()) {
+                return strings.get(id);
+            }
+            if (id != strings.size()) {
+                throw new IOException("Invalid string index in snapshot: " + id);
+            }
+            int length = readCount();
+            byte[] bytes = input.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException();
+            }
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+    }
+
+    private BomSnapshots() {}
+}
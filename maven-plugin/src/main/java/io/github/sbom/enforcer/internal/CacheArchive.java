@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A portable archive of the persistent state of the plugin, e.g. to be cached between the jobs of a CI system.
+ * <p>
+ *     The archive is a ZIP file, which contains a directory for each section (e.g. the verdict cache) and a manifest
+ *     with the format version, the creation time and the SHA-256 digest of each file.
+ *     An archive is only imported if it has the current format, is not too old and all its files match the manifest.
+ * </p>
+ * <p>
+ *     Imported files never replace existing files, which are at least as recent as the archive.
+ * </p>
+ */
+public final class CacheArchive {
+
+    static final String MANIFEST = "META-INF/sbom-enforcer/manifest.properties";
+
+    /**
+     * Must be incremented on each change of the format of the archive or of the files it contains.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final String FORMAT_KEY = "format";
+    private static final String CREATED_KEY = "created";
+    private static final String DIGEST_PREFIX = "sha256:";
+
+    /**
+     * Writes an archive.
+     * <p>
+     *     The archive is first written to a temporary file, which is atomically moved to its final location.
+     * </p>
+     *
+     * @param archive The location of the archive.
+     * @param sections A map from section names to the directories they contain; missing directories are skipped.
+     * @param clock The clock used to record the creation time.
+     * @return The number of archived files.
+     */
+    public static int write(Path archive, Map<String, Path> sections, Clock clock) throws IOException {
+        Path directory = archive.toAbsolutePath().getParent();
+        if (directory == null) {
+            throw new IOException("Invalid archive location: " + archive);
+        }
+        Files.createDirectories(directory);
+        Properties manifest = new Properties();
+        manifest.setProperty(FORMAT_KEY, Integer.toString(FORMAT_VERSION));
+        manifest.setProperty(CREATED_KEY, Long.toString(clock.millis()));
+        Path tempFile = Files.createTempFile(directory, "cache", ".tmp");
+        try {
+            try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(tempFile))) {
+                for (Map.Entry<String, Path> section : sections.entrySet()) {
+                    for (Path file : listFiles(section.getValue())) {
+                        String name = section.getKey()
+                                + '/'
+                                + toEntryName(section.getValue().relativize(file));
+                        output.putNextEntry(new ZipEntry(name));
+                        MessageDigest digest = DigestUtils.getDigest(MessageDigestAlgorithms.SHA_256);
+                        try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+                            input.transferTo(output);
+                        }
+                        output.closeEntry();
+                        manifest.setProperty(DIGEST_PREFIX + name, Hex.encodeHexString(digest.digest()));
+                    }
+                }
+                output.putNextEntry(new ZipEntry(MANIFEST));
+                manifest.store(output, null);
+                output.closeEntry();
+            }
+            Files.move(tempFile, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return manifest.size() - 2;
+    }
+
+    /**
+     * Imports an archive.
+     * <p>
+     *     All the files of the archive are verified before the first one is extracted.
+     * </p>
+     *
+     * @param archive The location of the archive.
+     * @param sections A map from section names to the directories they should be extracted to; the other sections
+     *                 of the archive are ignored.
+     * @param clock The clock used to check the age of the archive.
+     * @param maxAge The maximum age of the archive.
+     * @return The number of extracted files.
+     * @throws IOException If the archive is corrupted, too old or has a different format.
+     */
+    public static int read(Path archive, Map<String, Path> sections, Clock clock, Duration maxAge) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            Properties manifest = readManifest(zipFile, clock, maxAge);
+            int entryCount = 0;
+            Map<ZipEntry, Path> targets = new LinkedHashMap<>();
+            for (Enumeration<? extends ZipEntry> e = zipFile.entries(); e.hasMoreElements(); ) {
+                ZipEntry entry = e.nextElement();
+                if (!entry.isDirectory() && !MANIFEST.equals(entry.getName())) {
+                    // Validates the name and digest of every file, even in ignored sections
+                    Path target = getTarget(sections, entry.getName());
+                    String expected = getExpectedDigest(manifest, entry);
+                    try (InputStream input = zipFile.getInputStream(entry)) {
+                        verifyDigest(entry, expected, DigestUtils.sha256Hex(input));
+                    }
+                    entryCount++;
+                    if (target != null) {
+                        targets.put(entry, target);
+                    }
+                }
+            }
+            if (entryCount != manifest.size() - 2) {
+                throw new IOException("the archive is truncated");
+            }
+            int count = 0;
+            for (Map.Entry<ZipEntry, Path> target : targets.entrySet()) {
+                if (!Files.exists(target.getValue())
+                        && extract(zipFile, target.getKey(), manifest, target.getValue())) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private static Properties readManifest(ZipFile zipFile, Clock clock, Duration maxAge) throws IOException {
+        ZipEntry entry = zipFile.getEntry(MANIFEST);
+        if (entry == null) {
+            throw new IOException("the manifest is missing");
+        }
+        Properties manifest = new Properties();
+        try (InputStream input = zipFile.getInputStream(entry)) {
+            manifest.load(input);
+        }
+        if (!Integer.toString(FORMAT_VERSION).equals(manifest.getProperty(FORMAT_KEY))) {
+            throw new IOException("unsupported format " + manifest.getProperty(FORMAT_KEY));
+        }
+        long created;
+        try {
+            created = Long.parseLong(manifest.getProperty(CREATED_KEY, ""));
+        } catch (NumberFormatException e) {
+            throw new IOException("invalid creation time", e);
+        }
+        if (clock.millis() - created > maxAge.toMillis()) {
+            throw new IOException("the archive is older than " + maxAge.toDays() + " days");
+        }
+        return manifest;
+    }
+
+    private static String getExpectedDigest(Properties manifest, ZipEntry entry) throws IOException {
+        String expected = manifest.getProperty(DIGEST_PREFIX + entry.getName());
+        if (expected == null) {
+            throw new IOException("unexpected file " + entry.getName());
+        }
+        return expected;
+    }
+
+    private static void verifyDigest(ZipEntry entry, String expected, String actual) throws IOException {
+        if (!expected.equals(actual)) {
+            throw new IOException("the digest of " + entry.getName() + " does not match");
+        }
+    }
+
+    /**
+     * Resolves the location of an entry, rejecting the entries outside of their section.
+     *
+     * @return The location of the entry or {@code null} if its section is ignored.
+     */
+    private static @Nullable Path getTarget(Map<String, Path> sections, String name) throws IOException {
+        int index = name.indexOf('/');
+        if (index <= 0 || name.indexOf('\\') >= 0) {
+            throw new IOException("invalid file name " + name);
+        }
+        for (String segment : name.substring(index + 1).split("/", -1)) {
+            if (segment.isEmpty() || segment.equals(".") || segment.equals("..")) {
+                throw new IOException("invalid file name " + name);
+            }
+        }
+        Path directory = sections.get(name.substring(0, index));
+        if (directory == null) {
+            return null;
+        }
+        Path normalizedDirectory = directory.toAbsolutePath().normalize();
+        Path target = normalizedDirectory.resolve(name.substring(index + 1)).normalize();
+        if (!target.startsWith(normalizedDirectory) || target.equals(normalizedDirectory)) {
+            throw new IOException("invalid file name " + name);
+        }
+        return target;
+    }
+
+    private static boolean extract(ZipFile zipFile, ZipEntry entry, Properties manifest, Path target)
+            throws IOException {
+        Path directory = Objects.requireNonNull(target.getParent());
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, "cache", ".tmp");
+        try {
+            MessageDigest digest = DigestUtils.getDigest(MessageDigestAlgorithms.SHA_256);
+            try (InputStream input = new DigestInputStream(zipFile.getInputStream(entry), digest);
+                    OutputStream output = Files.newOutputStream(tempFile)) {
+                input.transferTo(output);
+            }
+            verifyDigest(entry, getExpectedDigest(manifest, entry), Hex.encodeHexString(digest.digest()));
+            try {
+                createNew(target, tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // Written concurrently by a build
+                return false;
+            }
+            return true;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Publishes a complete file at a location, unless a file already exists there.
+     * <p>
+     *     A hard link is created atomically.
+     *     If hard links are not supported, the file is copied without replacing an existing file.
+     * </p>
+     *
+     * @throws FileAlreadyExistsException If the target already exists.
+     */
+    private static void createNew(Path target, Path file) throws IOException {
+        try {
+            Files.createLink(target, file);
+        } catch (FileAlreadyExistsException e) {
+            throw e;
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, target);
+        }
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            // Skips the temporary files of concurrent writers
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> !String.valueOf(file.getFileName()).endsWith(".tmp"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String toEntryName(Path relativePath) {
+        List<String> segments = new ArrayList<>();
+        for (Path segment : relativePath) {
+            segments.add(segment.toString());
+        }
+        return String.join("/", segments);
+    }
+
+    private CacheArchive() {}
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import io.github.sbom.enforcer.CancellationToken;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link CancellationToken} that can be cancelled.
+ * <p>
+ *     Besides being polled by the rules, the token runs the registered callbacks (e.g. to interrupt the running tasks)
+ *     and aborts the downloads in progress.
+ * </p>
+ * <p>
+ *     A token can have a deadline, after which it is cancelled, and a parent, whose cancellation propagates to its
+ *     children.
+ *     Deadlines are checked each time the token is polled and, if the token has a timer, the token is also cancelled
+ *     by the timer when the deadline is reached, so that the callbacks run even if nobody polls the token.
+ * </p>
+ */
+public final class Cancellation implements CancellationToken {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final @Nullable Cancellation parent;
+    private final @Nullable ScheduledExecutorService timer;
+    private final long deadlineNanos;
+    private final @Nullable String deadlineReason;
+    private final List<Runnable> callbacks = new ArrayList<>();
+    private volatile @Nullable String reason;
+
+    /**
+     * Creates a token, whose deadlines are only checked when it is polled.
+     */
+    public Cancellation() {
+        this(null, null, NO_DEADLINE, null);
+    }
+
+    /**
+     * Creates a token, whose descendants are cancelled by a timer when their deadline is reached.
+     *
+     * @param timer The executor that cancels the tokens or {@code null} to only check the deadlines when polled.
+     */
+    public Cancellation(@Nullable ScheduledExecutorService timer) {
+        this(null, timer, NO_DEADLINE, null);
+    }
+
+    private Cancellation(
+            @Nullable Cancellation parent,
+            @Nullable ScheduledExecutorService timer,
+            long deadlineNanos,
+            @Nullable String deadlineReason) {
+        this.parent = parent;
+        this.timer = timer;
+        this.deadlineNanos = deadlineNanos;
+        this.deadlineReason = deadlineReason;
+    }
+
+    /**
+     * Creates a token that is cancelled together with this one.
+     */
+    public Cancellation newChild() {
+        return register(new Cancellation(this, timer, NO_DEADLINE, null));
+    }
+
+    /**
+     * Creates a token that is cancelled together with this one or after a timeout.
+     *
+     * @param timeout The time after which the new token is cancelled or {@code null} for no timeout.
+     * @param reason The reason reported after the timeout expires.
+     */
+    public Cancellation newChild(@Nullable Duration timeout, String reason) {
+        if (timeout == null) {
+            return newChild();
+        }
+        long nanos = timeout.toNanos();
+        Cancellation child = register(new Cancellation(this, timer, System.nanoTime() + nanos, reason));
+        if (timer != null) {
+            try {
+                ScheduledFuture<?> alarm = timer.schedule(() -> child.cancel(reason), nanos, TimeUnit.NANOSECONDS);
+                child.onCancel(() -> alarm.cancel(false));
+            } catch (RejectedExecutionException e) {
+                // The timer was shut down, the deadline is still checked when the token is polled
+            }
+        }
+        return child;
+    }
+
+    private Cancellation register(Cancellation child) {
+        onCancel(() -> child.cancel(Objects.requireNonNull(reason)));
+        return child;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return getReason() != null;
+    }
+
+    /**
+     * Returns the reason of the cancellation.
+     *
+     * @return A human-readable reason or {@code null} if the token has not been cancelled.
+     */
+    public @Nullable String getReason() {
+        String reason = this.reason;
+        if (reason == null) {
+            String parentReason = parent != null ? parent.getReason() : null;
+            if (parentReason != null) {
+                cancel(parentReason);
+            } else if (deadlineReason != null && getRemainingNanos() <= 0) {
+                cancel(deadlineReason);
+            }
+            reason = this.reason;
+        }
+        return reason;
+    }
+
+    /**
+     * Returns the time left before the earliest deadline of this token or of its ancestors.
+     *
+     * @return A number of nanoseconds, which is {@link Long#MAX_VALUE} if there is no deadline.
+     */
+    public long getRemainingNanos() {
+        long remaining = deadlineNanos == NO_DEADLINE ? NO_DEADLINE : deadlineNanos - System.nanoTime();
+        return parent != null ? Math.min(remaining, parent.getRemainingNanos()) : remaining;
+    }
+
+    /**
+     * Cancels the token and runs the registered callbacks.
+     * <p>
+     *     Subsequent calls have no effect.
+     * </p>
+     *
+     * @param reason A human-readable reason for the cancellation.
+     */
+    public void cancel(String reason) {
+        List<Runnable> callbacks;
+        synchronized (this) {
+            if (this.reason != null) {
+                return;
+            }
+            this.reason = reason;
+            callbacks = new ArrayList<>(this.callbacks);
+            this.callbacks.clear();
+        }
+        callbacks.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers a callback to run when the token is cancelled.
+     * <p>
+     *     If the token is already cancelled, the callback runs immediately.
+     * </p>
+     */
+    public void onCancel(Runnable callback) {
+        synchronized (this) {
+            if (reason == null) {
+                callbacks.add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    /**
+     * Wraps a transfer listener to abort the transfers after the token is cancelled.
+     */
+    public TransferListener cancelTransfers(@Nullable TransferListener delegate) {
+        return new CancellingTransferListener(delegate, this);
+    }
+
+    private static final class CancellingTransferListener extends AbstractTransferListener {
+
+        private final @Nullable TransferListener delegate;
+        private final Cancellation cancellation;
+
+        private CancellingTransferListener(@Nullable TransferListener delegate, Cancellation cancellation) {
+            this.delegate = delegate;
+            this.cancellation = cancellation;
+        }
+
+        private void checkCancelled(TransferEvent event) throws TransferCancelledException {
+            String reason = cancellation.getReason();
+            if (reason != null) {
+                throw new TransferCancelledException(
+                        "Transfer of " + event.getResource().getResourceName() + " cancelled: " + reason);
+            }
+        }
+
+        @Override
+        public void transferInitiated(TransferEvent event) throws TransferCancelledException {
+            checkCancelled(event);
+            if (delegate != null) {
+                delegate.transferInitiated(event);
+            }
+        }
+
+        @Override
+        public void transferStarted(TransferEvent event) throws TransferCancelledException {
+            checkCancelled(event);
+            if (delegate != null) {
+                delegate.transferStarted(event);
+            }
+        }
+
+        @Override
+        public void transferProgressed(TransferEvent event) throws TransferCancelledException {
+            checkCancelled(event);
+            if (delegate != null) {
+                delegate.transferProgressed(event);
+            }
+        }
+
+        @Override
+        public void transferCorrupted(TransferEvent event) throws TransferCancelledException {
+            if (delegate != null) {
+                delegate.transferCorrupted(event);
+            }
+        }
+
+        @Override
+        public void transferSucceeded(TransferEvent event) {
+            if (delegate != null) {
+                delegate.transferSucceeded(event);
+            }
+        }
+
+        @Override
+        public void transferFailed(TransferEvent event) {
+            if (delegate != null) {
+                delegate.transferFailed(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,692 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.support.DefaultExternalReference;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.eclipse.aether.artifact.Artifact;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link BillOfMaterials} implementation for SBOMs with hundreds of thousands of components.
+ * <p>
+ *     The dependencies are not stored as objects, but as rows of integer columns in direct buffers, outside the Java
+ *     heap.
+ *     Each string is stored once in an off-heap dictionary and referenced by its index.
+ * </p>
+ * <p>
+ *     {@link #getDependencies()} returns flyweight {@link Component} views of the rows, which decode their values on
+ *     each call.
+ *     Rules can therefore iterate over all the dependencies without materializing them at the same time.
+ *     Like {@link io.github.sbom.enforcer.support.DefaultComponent}, the views are compared by value.
+ * </p>
+ * <p>
+ *     The dependencies are sorted by their Maven coordinates and indexed by the hash code of their Package URL.
+ * </p>
+ * <p>
+ *     The files of the dependencies that were not resolved when the model was assembled are resolved by the views on
+ *     each access.
+ * </p>
+ */
+public final class ColumnarBillOfMaterials implements BillOfMaterials {
+
+    private static final int NULL = -1;
+    /**
+     * Marks a file or a list of SBOMs that was not resolved, when the dependency was encoded.
+     */
+    private static final int UNRESOLVED = -2;
+
+    // Columns of an encoded artifact
+    private static final int GROUP_ID = 0;
+    private static final int ARTIFACT_ID = 1;
+    private static final int VERSION = 2;
+    private static final int CLASSIFIER = 3;
+    private static final int EXTENSION = 4;
+    private static final int FILE = 5;
+    private static final int PROPERTIES = 6;
+    private static final int ARTIFACT_WIDTH = 7;
+    private static final int[] SORT_COLUMNS = {GROUP_ID, ARTIFACT_ID, VERSION, CLASSIFIER, EXTENSION};
+
+    // Columns of an encoded component
+    private static final int PURL_TYPE = ARTIFACT_WIDTH;
+    private static final int PURL_NAMESPACE = PURL_TYPE + 1;
+    private static final int PURL_NAME = PURL_NAMESPACE + 1;
+    private static final int PURL_VERSION = PURL_NAME + 1;
+    private static final int PURL_QUALIFIERS = PURL_VERSION + 1;
+    private static final int PURL_SUBPATH = PURL_QUALIFIERS + 1;
+    /**
+     * The hash code of the package URL, used by the package URL index.
+     */
+    private static final int PURL_HASH = PURL_SUBPATH + 1;
+    /**
+     * Offset of the variable-length data of the component, which contains in order:
+     * <ol>
+     *     <li>the checksums as (algorithm, value) pairs,</li>
+     *     <li>the external references as (type, location) pairs,</li>
+     *     <li>the encoded artifacts of the bills of materials.</li>
+     * </ol>
+     */
+    private static final int DATA = PURL_HASH + 1;
+
+    private static final int CHECKSUM_COUNT = DATA + 1;
+    private static final int REFERENCE_COUNT = CHECKSUM_COUNT + 1;
+    private static final int BOM_COUNT = REFERENCE_COUNT + 1;
+    private static final int COMPONENT_WIDTH = BOM_COUNT + 1;
+
+    private final Artifact billOfMaterials;
+    private final Component component;
+    private final @Nullable ComponentResolver resolver;
+    private final StringDictionary strings;
+    private final List<Map<String, String>> maps;
+    private final IntBuffer components;
+    private final IntBuffer data;
+    /**
+     * Open addressing hash table of the rows with a package URL.
+     * <p>
+     *     Each slot contains the index of a row plus one or {@code 0} if empty.
+     * </p>
+     */
+    private final IntBuffer purlIndex;
+
+    private final int size;
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    private ColumnarBillOfMaterials(
+            Artifact billOfMaterials,
+            Component component,
+            @Nullable ComponentResolver resolver,
+            StringDictionary strings,
+            List<Map<String, String>> maps,
+            IntBuffer components,
+            IntBuffer data,
+            IntBuffer purlIndex) {
+        this.billOfMaterials = billOfMaterials;
+        this.component = component;
+        this.resolver = resolver;
+        this.strings = strings;
+        this.maps = maps;
+        this.components = components;
+        this.data = data;
+        this.purlIndex = purlIndex;
+        this.size = components.capacity() / COMPONENT_WIDTH;
+    }
+
+    @Override
+    public Artifact getBillOfMaterials() {
+        return billOfMaterials;
+    }
+
+    @Override
+    public Component getComponent() {
+        return component;
+    }
+
+    @Override
+    public List<Component> getDependencies() {
+        return new Dependencies();
+    }
+
+    @Override
+    public Collection<? extends Component> getDependencies(String groupId, String artifactId) {
+        // The rows are sorted by group id and artifact id
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(middle, groupId, artifactId) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int end = low;
+        while (end < size && compare(end, groupId, artifactId) == 0) {
+            end++;
+        }
+        return new Dependencies().subList(low, end);
+    }
+
+    @Override
+    public @Nullable Component getDependency(Artifact artifact) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = compare(middle, artifact);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return new Row(middle);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public @Nullable Component getDependency(PackageURL purl) {
+        int hash = purl.hashCode();
+        int mask = purlIndex.capacity() - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            int row = purlIndex.get(slot) - 1;
+            if (row < 0) {
+                return null;
+            }
+            // Only the rows with the same hash code are decoded
+            if (components.get(row * COMPONENT_WIDTH + PURL_HASH) == hash) {
+                Row candidate = new Row(row);
+                if (purl.equals(candidate.getPurl())) {
+                    return candidate;
+                }
+            }
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private int compare(int row, String groupId, String artifactId) {
+        int offset = row * COMPONENT_WIDTH;
+        int result = strings.get(components.get(offset + GROUP_ID)).compareTo(groupId);
+        if (result == 0) {
+            result = strings.get(components.get(offset + ARTIFACT_ID)).compareTo(artifactId);
+        }
+        return result;
+    }
+
+    /**
+     * Compares a row with an artifact using the same order as {@link Artifacts#compare}.
+     */
+    private int compare(int row, Artifact artifact) {
+        int result = compare(row, artifact.getGroupId(), artifact.getArtifactId());
+        int offset = row * COMPONENT_WIDTH;
+        if (result == 0) {
+            result = strings.get(components.get(offset + VERSION)).compareTo(artifact.getVersion());
+        }
+        if (result == 0) {
+            result = strings.get(components.get(offset + CLASSIFIER)).compareTo(artifact.getClassifier());
+        }
+        if (result == 0) {
+            result = strings.get(components.get(offset + EXTENSION)).compareTo(artifact.getExtension());
+        }
+        return result;
+    }
+
+    private Artifact decodeArtifact(IntBuffer buffer, int offset) {
+        int file = buffer.get(offset + FILE);
+        if (file == UNRESOLVED) {
+            return Objects.requireNonNull(resolver).createLazyArtifact(decodeArtifact(buffer, offset, null));
+        }
+        return decodeArtifact(buffer, offset, file != NULL ? new File(strings.get(file)) : null);
+    }
+
+    private Artifact decodeArtifact(IntBuffer buffer, int offset, @Nullable File file) {
+        return new CompactArtifact(
+                strings.get(buffer.get(offset + GROUP_ID)),
+                strings.get(buffer.get(offset + ARTIFACT_ID)),
+                strings.get(buffer.get(offset + VERSION)),
+                strings.get(buffer.get(offset + CLASSIFIER)),
+                strings.get(buffer.get(offset + EXTENSION)),
+                file,
+                maps.get(buffer.get(offset + PROPERTIES)));
+    }
+
+    private final class Dependencies extends AbstractList<Component> implements RandomAccess {
+
+        @Override
+        public Component get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return new Row(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * A flyweight view of a single dependency.
+     */
+    private final class Row implements Component {
+
+        private final int offset;
+
+        private Row(int row) {
+            this.offset = row * COMPONENT_WIDTH;
+        }
+
+        @Override
+        public Artifact getArtifact() {
+            return decodeArtifact(components, offset);
+        }
+
+        @Override
+        public @Nullable PackageURL getPurl() {
+            int type = components.get(offset + PURL_TYPE);
+            if (type == NULL) {
+                return null;
+            }
+            int qualifiers = components.get(offset + PURL_QUALIFIERS);
+            try {
+                return new PackageURL(
+                        strings.get(type),
+                        getNullableString(PURL_NAMESPACE),
+                        strings.get(components.get(offset + PURL_NAME)),
+                        getNullableString(PURL_VERSION),
+                        qualifiers != NULL ? new TreeMap<>(maps.get(qualifiers)) : null,
+                        getNullableString(PURL_SUBPATH));
+            } catch (MalformedPackageURLException e) {
+                // The value was already validated, when the row was encoded
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private @Nullable String getNullableString(int column) {
+            int value = components.get(offset + column);
+            return value != NULL ? strings.get(value) : null;
+        }
+
+        @Override
+        public List<Artifact> getBillsOfMaterials() {
+            int count = components.get(offset + BOM_COUNT);
+            if (count == UNRESOLVED) {
+                return Objects.requireNonNull(resolver)
+                        .findBillsOfMaterials(List.of(decodeArtifact(components, offset, null)))
+                        .get(0);
+            }
+            if (count == 0) {
+                return List.of();
+            }
+            int start = components.get(offset + DATA)
+                    + 2 * components.get(offset + CHECKSUM_COUNT)
+                    + 2 * components.get(offset + REFERENCE_COUNT);
+            Artifact[] billsOfMaterials = new Artifact[count];
+            for (int i = 0; i < count; i++) {
+                billsOfMaterials[i] = decodeArtifact(data, start + i * ARTIFACT_WIDTH);
+            }
+            return List.of(billsOfMaterials);
+        }
+
+        @Override
+        public List<ExternalReference> getExternalReferences() {
+            int count = components.get(offset + REFERENCE_COUNT);
+            if (count == 0) {
+                return List.of();
+            }
+            int start = components.get(offset + DATA) + 2 * components.get(offset + CHECKSUM_COUNT);
+            ExternalReference[] references = new ExternalReference[count];
+            for (int i = 0; i < count; i++) {
+                references[i] = DefaultExternalReference.of(
+                        strings.get(data.get(start + 2 * i)), strings.get(data.get(start + 2 * i + 1)));
+            }
+            return List.of(references);
+        }
+
+        @Override
+        public Map<ChecksumAlgorithm, String> getChecksums() {
+            int count = components.get(offset + CHECKSUM_COUNT);
+            if (count == 0) {
+                return Map.of();
+            }
+            int start = components.get(offset + DATA);
+            Map<ChecksumAlgorithm, String> checksums = new EnumMap<>(ChecksumAlgorithm.class);
+            for (int i = 0; i < count; i++) {
+                checksums.put(
+                        ChecksumAlgorithm.valueOf(strings.get(data.get(start + 2 * i))),
+                        strings.get(data.get(start + 2 * i + 1)));
+            }
+            return Collections.unmodifiableMap(checksums);
+        }
+
+        private ColumnarBillOfMaterials getOwner() {
+            return ColumnarBillOfMaterials.this;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Row that)) return false;
+            if (offset == that.offset && getOwner() == that.getOwner()) return true;
+            // The SBOMs are compared last, since they might need to be resolved
+            return getArtifact().equals(that.getArtifact())
+                    && Objects.equals(getPurl(), that.getPurl())
+                    && getExternalReferences().equals(that.getExternalReferences())
+                    && getChecksums().equals(that.getChecksums())
+                    && getBillsOfMaterials().equals(that.getBillsOfMaterials());
+        }
+
+        /**
+         * Only hashes the values that do not need to be resolved.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(getArtifact(), getPurl(), getExternalReferences(), getChecksums());
+        }
+
+        @Override
+        public String toString() {
+            return getArtifact().toString();
+        }
+    }
+
+    /**
+     * Immutable dictionary of UTF-8 encoded strings stored outside the Java heap.
+     */
+    private static final class StringDictionary {
+
+        private final ByteBuffer bytes;
+        private final IntBuffer offsets;
+
+        private StringDictionary(List<String> values) {
+            byte[][] encoded = new byte[values.size()][];
+            int length = 0;
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = values.get(i).getBytes(StandardCharsets.UTF_8);
+                length = Math.addExact(length, encoded[i].length);
+            }
+            bytes = ByteBuffer.allocateDirect(length);
+            offsets = allocateInts(encoded.length + 1);
+            offsets.put(0, 0);
+            int offset = 0;
+            for (int i = 0; i < encoded.length; i++) {
+                bytes.put(offset, encoded[i]);
+                offset += encoded[i].length;
+                offsets.put(i + 1, offset);
+            }
+        }
+
+        private String get(int index) {
+            int start = offsets.get(index);
+            byte[] value = new byte[offsets.get(index + 1) - start];
+            bytes.get(start, value);
+            return new String(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static IntBuffer allocateInts(int capacity) {
+        return ByteBuffer.allocateDirect(Math.multiplyExact(capacity, Integer.BYTES))
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    /**
+     * Growable array of integers used while building the columns.
+     */
+    private static final class IntArray {
+
+        private int[] values = new int[1024];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.multiplyExact(size, 2));
+            }
+            values[size++] = value;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+
+    public static final class Builder implements Supplier<BillOfMaterials> {
+        private @Nullable Artifact billOfMaterials;
+        private @Nullable Component component;
+        private @Nullable ComponentResolver resolver;
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<Map<String, String>, Integer> mapIds = new HashMap<>();
+        private final List<Map<String, String>> maps = new ArrayList<>();
+        private final IntArray components = new IntArray();
+        private final IntArray data = new IntArray();
+
+        private Builder() {}
+
+        public Builder setBillOfMaterials(Artifact billOfMaterials) {
+            this.billOfMaterials = billOfMaterials;
+            return this;
+        }
+
+        public Builder setComponent(Component component) {
+            this.component = component;
+            return this;
+        }
+
+        /**
+         * Sets the resolver of the dependencies, whose files are resolved lazily.
+         */
+        public Builder setResolver(@Nullable ComponentResolver resolver) {
+            this.resolver = resolver;
+            return this;
+        }
+
+        /**
+         * Encodes a dependency.
+         * <p>
+         *     As in {@link io.github.sbom.enforcer.support.DefaultBillOfMaterials}, if multiple dependencies have the
+         *     same coordinates, only the first one is retained.
+         * </p>
+         */
+        public Builder addDependency(Component dependency) {
+            encodeArtifact(components, dependency.getArtifact());
+            encodePurl(dependency.getPurl());
+            components.add(data.size());
+            Map<Component.ChecksumAlgorithm, String> checksums = dependency.getChecksums();
+            Collection<Component.ExternalReference> references = dependency.getExternalReferences();
+            @Nullable
+            Collection<Artifact> billsOfMaterials =
+                    ComponentResolver.areBillsOfMaterialsResolved(dependency) ? dependency.getBillsOfMaterials() : null;
+            components.add(checksums.size());
+            components.add(references.size());
+            components.add(billsOfMaterials != null ? billsOfMaterials.size() : UNRESOLVED);
+            checksums.forEach((algorithm, value) -> {
+                // The name is stable across versions, unlike the ordinal
+                data.add(encodeString(algorithm.name()));
+                data.add(encodeString(value));
+            });
+            for (Component.ExternalReference reference : references) {
+                data.add(encodeString(reference.getReferenceType()));
+                data.add(encodeString(reference.getLocation()));
+            }
+            if (billsOfMaterials != null) {
+                billsOfMaterials.forEach(artifact -> encodeArtifact(data, artifact));
+            }
+            return this;
+        }
+
+        private void encodeArtifact(IntArray array, Artifact artifact) {
+            array.add(encodeString(artifact.getGroupId()));
+            array.add(encodeString(artifact.getArtifactId()));
+            array.add(encodeString(artifact.getVersion()));
+            array.add(encodeString(artifact.getClassifier()));
+            array.add(encodeString(artifact.getExtension()));
+            if (ComponentResolver.isFileResolved(artifact)) {
+                File file = artifact.getFile();
+                array.add(file != null ? encodeString(file.getPath()) : NULL);
+            } else if (resolver != null) {
+                array.add(UNRESOLVED);
+            } else {
+                throw new IllegalStateException("No resolver for the lazy artifact " + artifact);
+            }
+            array.add(encodeMap(artifact.getProperties()));
+        }
+
+        /**
+         * Encodes the parts of a package URL separately, since its canonical form can not always be parsed back.
+         */
+        private void encodePurl(@Nullable PackageURL purl) {
+            if (purl == null) {
+                for (int column = PURL_TYPE; column <= PURL_SUBPATH; column++) {
+                    components.add(NULL);
+                }
+                components.add(0);
+                return;
+            }
+            components.add(encodeString(purl.getType()));
+            components.add(encodeNullableString(purl.getNamespace()));
+            components.add(encodeString(purl.getName()));
+            components.add(encodeNullableString(purl.getVersion()));
+            Map<String, String> qualifiers = purl.getQualifiers();
+            components.add(qualifiers != null ? encodeMap(qualifiers) : NULL);
+            components.add(encodeNullableString(purl.getSubpath()));
+            components.add(purl.hashCode());
+        }
+
+        private int encodeMap(Map<String, String> map) {
+            return mapIds.computeIfAbsent(map, key -> {
+                maps.add(CompactArtifact.shareProperties(key));
+                return maps.size() - 1;
+            });
+        }
+
+        private int encodeNullableString(@Nullable String value) {
+            return value != null ? encodeString(value) : NULL;
+        }
+
+        private int encodeString(String value) {
+            return stringIds.computeIfAbsent(value, key -> {
+                strings.add(key);
+                return strings.size() - 1;
+            });
+        }
+
+        @Override
+        public BillOfMaterials get() {
+            if (billOfMaterials == null) {
+                throw new IllegalStateException("No SBOM has been specified");
+            }
+            if (component == null) {
+                throw new IllegalStateException("No component has been specified");
+            }
+            int[] rows = sortAndDeduplicateRows();
+            IntBuffer sortedComponents = allocateInts(rows.length * COMPONENT_WIDTH);
+            for (int i = 0; i < rows.length; i++) {
+                int source = rows[i] * COMPONENT_WIDTH;
+                for (int column = 0; column < COMPONENT_WIDTH; column++) {
+                    sortedComponents.put(i * COMPONENT_WIDTH + column, components.get(source + column));
+                }
+            }
+            IntBuffer sortedData = allocateInts(data.size());
+            sortedData.put(data.values, 0, data.size());
+            return new ColumnarBillOfMaterials(
+                    billOfMaterials,
+                    component,
+                    resolver,
+                    new StringDictionary(strings),
+                    List.copyOf(maps),
+                    sortedComponents,
+                    sortedData,
+                    createPurlIndex(sortedComponents, rows.length));
+        }
+
+        /**
+         * Creates an open addressing hash table of the rows with a package URL.
+         * <p>
+         *     The table is at most half full and the rows are inserted in order, so that the first of the rows with
+         *     equal package URLs is found first.
+         * </p>
+         */
+        private static IntBuffer createPurlIndex(IntBuffer components, int size) {
+            int capacity = Integer.highestOneBit(Math.max(1, size)) << 2;
+            IntBuffer index = allocateInts(capacity);
+            int mask = capacity - 1;
+            for (int row = 0; row < size; row++) {
+                int offset = row * COMPONENT_WIDTH;
+                if (components.get(offset + PURL_TYPE) != NULL) {
+                    int slot = mix(components.get(offset + PURL_HASH)) & mask;
+                    while (index.get(slot) != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    index.put(slot, row + 1);
+                }
+            }
+            return index;
+        }
+
+        /**
+         * Sorts the rows in the order given by {@link Artifacts#compare} and removes duplicates.
+         *
+         * @return The indexes of the rows to retain in their final order.
+         */
+        private int[] sortAndDeduplicateRows() {
+            // Sorting the dictionary once allows to compare the rows by string rank
+            Integer[] sortedStrings = new Integer[strings.size()];
+            Arrays.setAll(sortedStrings, i -> i);
+            Arrays.sort(sortedStrings, (left, right) -> strings.get(left).compareTo(strings.get(right)));
+            int[] ranks = new int[strings.size()];
+            for (int i = 0; i < sortedStrings.length; i++) {
+                ranks[sortedStrings[i]] = i;
+            }
+            Integer[] rows = new Integer[components.size() / COMPONENT_WIDTH];
+            Arrays.setAll(rows, i -> i);
+            // The sort is stable, so the first of the duplicated rows is retained
+            Arrays.sort(rows, (left, right) -> compareRows(ranks, left, right));
+            int[] result = new int[rows.length];
+            int count = 0;
+            for (int i = 0; i < rows.length; i++) {
+                if (count == 0 || compareRows(ranks, result[count - 1], rows[i]) != 0) {
+                    result[count++] = rows[i];
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private int compareRows(int[] ranks, int left, int right) {
+            for (int column : SORT_COLUMNS) {
+                int result = Integer.compare(
+                        ranks[components.get(left * COMPONENT_WIDTH + column)],
+                        ranks[components.get(right * COMPONENT_WIDTH + column)]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.aether.artifact.AbstractArtifact;
+import org.eclipse.aether.artifact.Artifact;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link Artifact} implementation optimized for SBOMs with a large number of components.
+ * <p>
+ *     Differently from {@link org.eclipse.aether.artifact.DefaultArtifact}, which copies the artifact properties in
+ *     each instance, this implementation:
+ * </p>
+ * <ul>
+ *     <li>shares the group ids and extensions, which are often repeated,</li>
+ *     <li>shares the immutable property maps between all the artifacts with the same properties,</li>
+ *     <li>caches the hash code.</li>
+ * </ul>
+ */
+public final class CompactArtifact extends AbstractArtifact {
+
+    /**
+     * Maximum number of distinct property maps that are shared.
+     * <p>
+     *     The properties usually only contain the type of the artifact and the URL of the repository.
+     * </p>
+     */
+    private static final int MAX_SHARED_PROPERTIES = 1024;
+
+    private static final ConcurrentMap<Map<String, String>, Map<String, String>> SHARED_PROPERTIES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of distinct group ids and extensions that are shared.
+     * <p>
+     *     Unlike {@link String#intern()}, the pool only contains coordinates with few distinct values, so it does not
+     *     grow with the number of artifacts.
+     * </p>
+     */
+    private static final int MAX_SHARED_STRINGS = 16384;
+
+    private static final ConcurrentMap<String, String> SHARED_STRINGS = new ConcurrentHashMap<>();
+
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+    private final String classifier;
+    private final String extension;
+    private final @Nullable File file;
+    private final Map<String, String> properties;
+    private int hashCode;
+
+    public CompactArtifact(
+            String groupId,
+            String artifactId,
+            @Nullable String classifier,
+            @Nullable String extension,
+            @Nullable String version,
+            Map<String, String> properties) {
+        this(
+                share(groupId),
+                nullToEmpty(artifactId),
+                nullToEmpty(version),
+                nullToEmpty(classifier),
+                share(extension),
+                null,
+                shareProperties(properties));
+    }
+
+    /**
+     * Creates an artifact from coordinates that are already shared.
+     *
+     * @param properties A map returned by {@link #shareProperties}.
+     */
+    CompactArtifact(
+            String groupId,
+            String artifactId,
+            String version,
+            String classifier,
+            String extension,
+            @Nullable File file,
+            Map<String, String> properties) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+        this.classifier = classifier;
+        this.extension = extension;
+        this.file = file;
+        this.properties = properties;
+    }
+
+    private static String nullToEmpty(@Nullable String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Returns a string equal to the given one, which is shared between all artifacts with the same coordinate.
+     */
+    static String share(@Nullable String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String shared = SHARED_STRINGS.get(value);
+        if (shared == null) {
+            shared = value;
+            if (SHARED_STRINGS.size() < MAX_SHARED_STRINGS) {
+                String previous = SHARED_STRINGS.putIfAbsent(shared, shared);
+                if (previous != null) {
+                    shared = previous;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Returns an immutable map equal to the given one, which is shared between all artifacts with the same properties.
+     */
+    static Map<String, String> shareProperties(@Nullable Map<String, String> properties) {
+        if (properties == null || properties.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> shared = SHARED_PROPERTIES.get(properties);
+        if (shared == null) {
+            shared = Collections.unmodifiableMap(new HashMap<>(properties));
+            if (SHARED_PROPERTIES.size() < MAX_SHARED_PROPERTIES) {
+                Map<String, String> previous = SHARED_PROPERTIES.putIfAbsent(shared, shared);
+                if (previous != null) {
+                    shared = previous;
+                }
+            }
+        }
+        return shared;
+    }
+
+    @Override
+    public String getGroupId() {
+        return groupId;
+    }
+
+    @Override
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    @Override
+    public String getVersion() {
+        return version;
+    }
+
+    @Override
+    public Artifact setVersion(@Nullable String version) {
+        String newVersion = nullToEmpty(version);
+        if (this.version.equals(newVersion)) {
+            return this;
+        }
+        return new CompactArtifact(groupId, artifactId, newVersion, classifier, extension, file, properties);
+    }
+
+    @Override
+    public String getClassifier() {
+        return classifier;
+    }
+
+    @Override
+    public String getExtension() {
+        return extension;
+    }
+
+    @Override
+    public @Nullable File getFile() {
+        return file;
+    }
+
+    @Override
+    public Artifact setFile(@Nullable File file) {
+        if (Objects.equals(this.file, file)) {
+            return this;
+        }
+        return new CompactArtifact(groupId, artifactId, version, classifier, extension, file, properties);
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public Artifact setProperties(@Nullable Map<String, String> properties) {
+        if (this.properties.equals(properties) || (properties == null && this.properties.isEmpty())) {
+            return this;
+        }
+        return new CompactArtifact(
+                groupId, artifactId, version, classifier, extension, file, shareProperties(properties));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = super.hashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import java.util.TreeMap;
+
+/**
+ * Identifies the components of an SBOM across builds.
+ * <p>
+ *     The same key is used by the samplers, the verdict cache and the fingerprints, so that they agree on which
+ *     components changed.
+ * </p>
+ */
+public final class ComponentKeys {
+
+    /**
+     * Computes a key that changes if the identity or the declared checksums of a component change.
+     * <p>
+     *     The key is based on the package URL of the component or, if missing, on the coordinates of its artifact.
+     * </p>
+     *
+     * @param component A component.
+     * @return A key for the component.
+     */
+    public static String of(Component component) {
+        PackageURL purl = component.getPurl();
+        StringBuilder key = new StringBuilder(
+                purl != null ? purl.canonicalize() : component.getArtifact().toString());
+        new TreeMap<ChecksumAlgorithm, String>(component.getChecksums())
+                .forEach((algorithm, value) ->
+                        key.append(' ').append(algorithm.name()).append('=').append(value));
+        return key.toString();
+    }
+
+    private ComponentKeys() {}
+}
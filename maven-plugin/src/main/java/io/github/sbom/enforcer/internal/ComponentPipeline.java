@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.ComponentListener;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Passes components to a listener asynchronously.
+ * <p>
+ *     The components are buffered in a bounded queue: if the listener is slower than the producer, the producer
+ *     blocks until space is available.
+ *     While the queue is not empty, a task that drains it is scheduled on the executor.
+ *     The task does not wait for new components, so many pipelines can share a small executor.
+ * </p>
+ * <p>
+ *     The listener is never called concurrently and receives the components in the order in which they were produced.
+ *     If the listener throws an exception, the remaining components are discarded and the exception is rethrown by
+ *     {@link #close()}.
+ * </p>
+ * <p>
+ *     {@link #close()} waits for the listener until the deadline of the cancellation token.
+ *     Once the deadline is reached, the token is cancelled, so that the listener skips the remaining components and
+ *     aborts the current one at its next check of the token.
+ * </p>
+ */
+public final class ComponentPipeline implements ComponentListener, AutoCloseable {
+
+    /**
+     * Default number of components that can be buffered.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final Entry END = new Entry(null, false);
+
+    private final ComponentListener listener;
+    private final BlockingQueue<Entry> queue;
+    private final Executor executor;
+    private final Cancellation cancellation;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile @Nullable Throwable failure;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param listener The listener that receives the components.
+     * @param capacity The maximum number of buffered components.
+     * @param executor The executor that runs the listener.
+     */
+    public ComponentPipeline(ComponentListener listener, int capacity, Executor executor) {
+        this(listener, capacity, executor, new Cancellation());
+    }
+
+    /**
+     * Creates a new pipeline, whose listener must stop at the deadline of a token.
+     *
+     * @param listener The listener that receives the components.
+     * @param capacity The maximum number of buffered components.
+     * @param executor The executor that runs the listener.
+     * @param cancellation The token checked by the listener.
+     */
+    public ComponentPipeline(ComponentListener listener, int capacity, Executor executor, Cancellation cancellation) {
+        this.listener = listener;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.executor = executor;
+        this.cancellation = cancellation;
+    }
+
+    @Override
+    public void onMainComponent(Component component) {
+        put(new Entry(component, true));
+    }
+
+    @Override
+    public void onComponent(Component dependency) {
+        put(new Entry(dependency, false));
+    }
+
+    /**
+     * Waits until all the components have been processed.
+     *
+     * @throws RuntimeException If the listener failed.
+     * @throws Error If the listener failed.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            put(END);
+            closed = true;
+            try {
+                awaitDone();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for the checks of the components.");
+            }
+        }
+        Throwable failure = this.failure;
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+    }
+
+    private void awaitDone() throws InterruptedException {
+        long remainingNanos = cancellation.getRemainingNanos();
+        if (remainingNanos != Long.MAX_VALUE && !done.await(Math.max(remainingNanos, 0L), TimeUnit.NANOSECONDS)) {
+            // Polling the token cancels it after the deadline, the listener then only drains the queue
+            cancellation.getReason();
+        }
+        done.await();
+    }
+
+    private void put(Entry entry) {
+        if (closed) {
+            throw new IllegalStateException("The pipeline is closed.");
+        }
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the checks of the components.");
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Entry entry;
+            while ((entry = queue.poll()) != null) {
+                Component component = entry.component();
+                if (component == null) {
+                    done.countDown();
+                    return;
+                }
+                // After a failure, the remaining components are only drained, so that the producer does not block
+                if (failure == null) {
+                    dispatch(component, entry.main());
+                }
+            }
+        } finally {
+            scheduled.set(false);
+        }
+        // A component might have been added after the last poll, but before the flag was reset
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void dispatch(Component component, boolean main) {
+        try {
+            if (main) {
+                listener.onMainComponent(component);
+            } else {
+                listener.onComponent(component);
+            }
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+    }
+
+    private record Entry(@Nullable Component component, boolean main) {}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.codehaus.plexus.logging.Logger;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+
+/**
+ * Resolves the files referenced by the dependencies of an SBOM: their artifacts and the SBOMs published alongside them.
+ * <p>
+ *     The files can be resolved:
+ * </p>
+ * <ul>
+ *     <li>in batches, which lets the resolver download them in parallel, if a rule needs all of them,</li>
+ *     <li>lazily, the first time they are accessed, so that rules that do not read files (e.g. the validation of
+ *     external references) cause no repository I/O.</li>
+ * </ul>
+ */
+public final class ComponentResolver {
+
+    /**
+     * Number of dependencies resolved together, when the files are prefetched.
+     */
+    public static final int BATCH_SIZE = 64;
+
+    // Only CycloneDX SBOMs are published alongside the artifacts
+    private static final String BOM_CLASSIFIER = "cyclonedx";
+    private static final String[] BOM_EXTENSIONS = {"xml", "json"};
+
+    private final RepositorySystem repoSystem;
+    private final RepositorySystemSession repoSession;
+    private final Metrics metrics;
+    private final Logger logger;
+
+    public ComponentResolver(RepositorySystem repoSystem, RepositorySystemSession repoSession, Logger logger) {
+        this.repoSystem = repoSystem;
+        this.repoSession = repoSession;
+        this.metrics = Metrics.of(repoSession);
+        this.logger = logger;
+    }
+
+    /**
+     * Resolves the files of a batch of artifacts.
+     * <p>
+     *     The artifacts found in the workspace of the build are not requested from the remote repositories.
+     *     The artifacts of the reactor projects that were not packaged yet are not resolved at all.
+     * </p>
+     *
+     * @param artifacts A list of artifacts without files.
+     * @return The resolved artifacts in the same order or the original artifacts, if they could not be resolved.
+     */
+    public List<Artifact> resolveArtifacts(List<Artifact> artifacts) {
+        WorkspaceReader workspaceReader = repoSession.getWorkspaceReader();
+        List<Artifact> resolved = new ArrayList<>(artifacts);
+        List<ArtifactRequest> requests = new ArrayList<>(artifacts.size());
+        List<Integer> positions = new ArrayList<>(artifacts.size());
+        try (Metrics.Measurement measurement = metrics.start(Metrics.RESOLVE)) {
+            for (int i = 0; i < artifacts.size(); i++) {
+                Artifact artifact = artifacts.get(i);
+                File file = workspaceReader != null ? workspaceReader.findArtifact(artifact) : null;
+                if (file != null && file.isFile()) {
+                    measurement.addBytes(file.length());
+                    resolved.set(i, artifact.setFile(file));
+                } else if (ReactorWorkspaceReader.isReactorArtifact(workspaceReader, artifact)) {
+                    logger.debug("Artifact " + artifact + " belongs to the reactor, but was not packaged yet.");
+                } else {
+                    requests.add(new ArtifactRequest(artifact, getRepositories(artifact), null));
+                    positions.add(i);
+                }
+            }
+            List<ArtifactResult> results =
+                    requests.isEmpty() ? List.of() : Artifacts.downloadArtifacts(repoSystem, repoSession, requests);
+            for (int i = 0; i < results.size(); i++) {
+                ArtifactResult result = results.get(i);
+                if (result.isResolved()) {
+                    measurement.addBytes(result.getArtifact().getFile().length());
+                    resolved.set(positions.get(i), result.getArtifact());
+                } else {
+                    logger.warn("Failed to download artifact " + requests.get(i).getArtifact());
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Finds the SBOMs published alongside a batch of artifacts.
+     * <p>
+     *     The SBOMs of the reactor projects are only looked up in the workspace of the build.
+     * </p>
+     *
+     * @param artifacts A list of artifacts without files.
+     * @return For each artifact, the list of resolved SBOM artifacts.
+     */
+    public List<List<Artifact>> findBillsOfMaterials(List<Artifact> artifacts) {
+        WorkspaceReader workspaceReader = repoSession.getWorkspaceReader();
+        List<List<Artifact>> found = new ArrayList<>(artifacts.size());
+        List<ArtifactRequest> requests = new ArrayList<>(BOM_EXTENSIONS.length * artifacts.size());
+        List<Integer> positions = new ArrayList<>(BOM_EXTENSIONS.length * artifacts.size());
+        try (Metrics.Measurement measurement = metrics.start(Metrics.SIDECARS)) {
+            for (int i = 0; i < artifacts.size(); i++) {
+                Artifact artifact = artifacts.get(i);
+                List<Artifact> billsOfMaterials = new ArrayList<>(BOM_EXTENSIONS.length);
+                found.add(billsOfMaterials);
+                boolean reactorArtifact = ReactorWorkspaceReader.isReactorArtifact(workspaceReader, artifact);
+                List<RemoteRepository> repositories = reactorArtifact ? List.of() : getRepositories(artifact);
+                Artifact cycloneDxArtifact = Artifacts.withClassifier(artifact.setFile(null), BOM_CLASSIFIER);
+                for (String extension : BOM_EXTENSIONS) {
+                    Artifact billOfMaterials = Artifacts.withExtension(cycloneDxArtifact, extension);
+                    File file = workspaceReader != null ? workspaceReader.findArtifact(billOfMaterials) : null;
+                    if (file != null && file.isFile()) {
+                        measurement.addBytes(file.length());
+                        billsOfMaterials.add(billOfMaterials.setFile(file));
+                    } else if (!reactorArtifact) {
+                        requests.add(new ArtifactRequest(billOfMaterials, repositories, null));
+                        positions.add(i);
+                    }
+                }
+            }
+            List<ArtifactResult> results =
+                    requests.isEmpty() ? List.of() : Artifacts.downloadArtifacts(repoSystem, repoSession, requests);
+            // The artifacts that are not present are ignored
+            for (int i = 0; i < results.size(); i++) {
+                ArtifactResult result = results.get(i);
+                if (result.isResolved()) {
+                    measurement.addBytes(result.getArtifact().getFile().length());
+                    found.get(positions.get(i)).add(result.getArtifact());
+                }
+            }
+        }
+        List<List<Artifact>> billsOfMaterials = new ArrayList<>(found.size());
+        for (List<Artifact> list : found) {
+            billsOfMaterials.add(List.copyOf(list));
+        }
+        return billsOfMaterials;
+    }
+
+    /**
+     * Creates a dependency, whose files are resolved the first time they are accessed.
+     *
+     * @param builder A builder containing the metadata of the dependency.
+     * @param artifact The artifact of the dependency without a file.
+     * @return A dependency with the same metadata.
+     */
+    public Component createLazyComponent(DefaultComponent.Builder builder, Artifact artifact) {
+        return new LazyComponent(
+                builder.setArtifact(createLazyArtifact(artifact)).get(), artifact, this);
+    }
+
+    Artifact createLazyArtifact(Artifact artifact) {
+        return new LazyArtifact(artifact, this);
+    }
+
+    /**
+     * Checks if the file of an artifact is known, without resolving it.
+     */
+    static boolean isFileResolved(Artifact artifact) {
+        return !(artifact instanceof LazyArtifact lazyArtifact) || lazyArtifact.isResolved();
+    }
+
+    /**
+     * Checks if the SBOMs of a component are known, without resolving them.
+     */
+    static boolean areBillsOfMaterialsResolved(Component component) {
+        return !(component instanceof LazyComponent lazyComponent) || lazyComponent.areBillsOfMaterialsResolved();
+    }
+
+    private List<RemoteRepository> getRepositories(Artifact artifact) {
+        return List.of(Artifacts.getRemoteRepository(artifact, repoSession));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import org.eclipse.aether.AbstractForwardingRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.transfer.TransferListener;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Repository system session used by a single execution of the plugin.
+ * <p>
+ *     If a local repository manager is provided, it replaces the local repository manager of the build to prevent
+ *     the usage of artifacts installed locally.
+ *     The session then reports the repository of that manager as local repository, so that the components that store
+ *     files next to the local repository (e.g. the file locks) use the private one.
+ * </p>
+ * <p>
+ *     If the local repository is shared by all the modules, the Maven Resolver uses file locks.
+ * </p>
+ * <p>
+ *     The workspace reader also knows the projects of the reactor that were not packaged yet.
+ * </p>
+ * <p>
+ *     The session has its own data, the data that should outlive the execution is stored in the data of the build.
+ * </p>
+ */
+public final class ExecutionRepositorySystemSession extends AbstractForwardingRepositorySystemSession {
+
+    private final RepositorySystemSession session;
+    private final @Nullable LocalRepositoryManager localRepositoryManager;
+    private final TransferListener transferListener;
+    private final SessionData data;
+    private final @Nullable WorkspaceReader workspaceReader;
+    private final Map<String, Object> configProperties;
+
+    public ExecutionRepositorySystemSession(
+            RepositorySystemSession session,
+            @Nullable LocalRepositoryManager localRepositoryManager,
+            TransferListener transferListener,
+            SessionData data,
+            @Nullable WorkspaceReader workspaceReader,
+            boolean sharedLocalRepository) {
+        this.session = session;
+        this.localRepositoryManager = localRepositoryManager;
+        this.transferListener = transferListener;
+        this.data = data;
+        this.workspaceReader = workspaceReader;
+        this.configProperties = sharedLocalRepository
+                ? Collections.unmodifiableMap(PrivateLocalRepositories.withFileLocks(session.getConfigProperties()))
+                : session.getConfigProperties();
+    }
+
+    @Override
+    protected RepositorySystemSession getSession() {
+        return session;
+    }
+
+    @Override
+    public String getChecksumPolicy() {
+        return localRepositoryManager != null ? RepositoryPolicy.CHECKSUM_POLICY_FAIL : session.getChecksumPolicy();
+    }
+
+    @Override
+    public LocalRepositoryManager getLocalRepositoryManager() {
+        return localRepositoryManager != null ? localRepositoryManager : session.getLocalRepositoryManager();
+    }
+
+    @Override
+    public LocalRepository getLocalRepository() {
+        return getLocalRepositoryManager().getRepository();
+    }
+
+    @Override
+    public Map<String, Object> getConfigProperties() {
+        return configProperties;
+    }
+
+    @Override
+    public TransferListener getTransferListener() {
+        return transferListener;
+    }
+
+    @Override
+    public SessionData getData() {
+        return data;
+    }
+
+    /**
+     * Returns the data of the repository session of the build, which is shared by all the executions.
+     */
+    public SessionData getBuildData() {
+        return session.getData();
+    }
+
+    @Override
+    public @Nullable WorkspaceReader getWorkspaceReader() {
+        return workspaceReader;
+    }
+}
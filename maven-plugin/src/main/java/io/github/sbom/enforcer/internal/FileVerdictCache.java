@@ -0,0 +1,396 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.VerdictCache;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link VerdictCache} persisted in a file and a set of append-only segments.
+ * <p>
+ *     The verdicts are loaded in memory by {@link #load()} from the main file and all the segments next to it.
+ *     The new verdicts are written by {@link #save()} to a new segment, so that concurrent builds sharing the cache
+ *     never write to the same file and never wait for each other.
+ * </p>
+ * <p>
+ *     When the number of segments exceeds {@value #MAX_SEGMENTS}, the process that holds the lock of the cache merges
+ *     them into the main file.
+ *     Since all the files are written to a temporary file first and atomically renamed, readers never see a partial
+ *     file: in the worst case, a reader misses a segment being compacted and checks the corresponding components
+ *     again.
+ * </p>
+ * <p>
+ *     Expired verdicts are ignored and removed from the main file on the next compaction.
+ *     If a component appears in several files, the verdict that expires last is kept: since all the verdicts of a
+ *     cache file come from the same rule configuration, and therefore have the same time to live, it is also the
+ *     newest one.
+ *     Verdicts that never expire are equivalent, since any change of their inputs changes their key.
+ * </p>
+ */
+public final class FileVerdictCache implements VerdictCache {
+
+    /**
+     * The characters {@code VRDT} in ASCII.
+     */
+    private static final int MAGIC = 0x56524454;
+
+    /**
+     * Must be incremented on each change of the format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String SUFFIX = ".verdicts";
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private static final String LOCK_SUFFIX = ".lock";
+
+    /**
+     * Number of segments that triggers a compaction.
+     */
+    static final int MAX_SEGMENTS = 16;
+
+    private final Path file;
+    private final Clock clock;
+    private final ConcurrentMap<String, Verdict> verdicts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Verdict> updates = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean corrupted;
+
+    /**
+     * Returns the location of the verdicts of a rule.
+     *
+     * @param directory The root directory of the cache.
+     * @param ruleName The name of the rule.
+     * @param configuration A description of the configuration of the rule.
+     */
+    public static Path getCacheFile(Path directory, String ruleName, String configuration) {
+        return directory.resolve(ruleName).resolve(DigestUtils.sha256Hex(configuration) + SUFFIX);
+    }
+
+    public FileVerdictCache(Path file, Clock clock) {
+        this.file = file;
+        this.clock = clock;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Loads the verdicts stored in the main file and in the segments.
+     * <p>
+     *     An unreadable main file or segment is ignored.
+     *     A corrupted main file is replaced by the next call to {@link #save()} and corrupted segments are removed by
+     *     the next compaction.
+     * </p>
+     *
+     * @throws IOException If the segments can not be listed.
+     */
+    public void load() throws IOException {
+        long now = clock.millis();
+        Map<String, Verdict> loaded;
+        try {
+            loaded = read(file, now);
+        } catch (IOException e) {
+            // Replaced by the next save
+            loaded = new HashMap<>();
+            corrupted = true;
+        }
+        for (Path segment : listSegments()) {
+            try {
+                merge(loaded, read(segment, now));
+            } catch (IOException e) {
+                // Removed by the next compaction
+            }
+        }
+        verdicts.putAll(loaded);
+    }
+
+    /**
+     * Writes the verdicts added since the cache was loaded to a new segment.
+     * <p>
+     *     The segment is first written to a temporary file, which is atomically moved to its final location.
+     *     If there are too many segments or the main file was corrupted, they are compacted.
+     * </p>
+     */
+    public void save() throws IOException {
+        if (updates.isEmpty()) {
+            if (corrupted) {
+                compact();
+            }
+            return;
+        }
+        long now = clock.millis();
+        Map<String, Verdict> segment = new HashMap<>();
+        for (Map.Entry<String, Verdict> entry : updates.entrySet()) {
+            if (entry.getValue().expiresAt() > now) {
+                segment.put(entry.getKey(), entry.getValue());
+            }
+        }
+        write(file.resolveSibling(file.getFileName() + "." + UUID.randomUUID() + SEGMENT_SUFFIX), segment);
+        updates.clear();
+        if (corrupted || listSegments().size() > MAX_SEGMENTS) {
+            compact();
+        }
+    }
+
+    /**
+     * Merges the segments into the main file.
+     * <p>
+     *     The compaction is skipped if another process or thread holds the lock of the cache.
+     * </p>
+     */
+    void compact() throws IOException {
+        Path lockFile = file.resolveSibling(file.getFileName() + LOCK_SUFFIX);
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock lock = channel.tryLock()) {
+            if (lock == null) {
+                return;
+            }
+            long now = clock.millis();
+            // The segments created after this point are compacted next time
+            List<Path> segments = listSegments();
+            Map<String, Verdict> merged;
+            try {
+                merged = read(file, now);
+            } catch (IOException e) {
+                // A corrupted file is replaced
+                merged = new HashMap<>();
+            }
+            for (Path segment : segments) {
+                try {
+                    merge(merged, read(segment, now));
+                } catch (IOException e) {
+                    // A corrupted segment is deleted
+                }
+            }
+            write(file, merged);
+            corrupted = false;
+            for (Path segment : segments) {
+                Files.deleteIfExists(segment);
+            }
+        } catch (OverlappingFileLockException e) {
+            // Another thread of this process is compacting the cache
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        List<Path> segments = new ArrayList<>();
+        if (directory != null && Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> stream =
+                    Files.newDirectoryStream(directory, file.getFileName() + ".*" + SEGMENT_SUFFIX)) {
+                stream.forEach(segments::add);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Keeps the verdict that expires last, if a component appears in several files.
+     * <p>
+     *     See the class documentation for why this is the newest verdict.
+     * </p>
+     */
+    private static void merge(Map<String, Verdict> target, Map<String, Verdict> source) {
+        for (Map.Entry<String, Verdict> entry : source.entrySet()) {
+            target.merge(
+                    entry.getKey(),
+                    entry.getValue(),
+                    (left, right) -> left.expiresAt() >= right.expiresAt() ? left : right);
+        }
+    }
+
+    private static void write(Path file, Map<String, Verdict> verdicts) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null) {
+            throw new IOException("Invalid verdict cache location: " + file);
+        }
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, "verdicts", ".tmp");
+        try {
+            try (DataOutputStream output =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeInt(verdicts.size());
+                for (Map.Entry<String, Verdict> entry : verdicts.entrySet()) {
+                    writeString(output, entry.getKey());
+                    output.writeLong(entry.getValue().expiresAt());
+                    List<String> errors = entry.getValue().errors();
+                    output.writeInt(errors.size());
+                    for (String error : errors) {
+                        writeString(output, error);
+                    }
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public @Nullable List<String> get(Component component, String context) {
+        String key = computeKey(component, context);
+        if (key == null) {
+            return null;
+        }
+        Verdict verdict = verdicts.get(key);
+        if (verdict == null || verdict.expiresAt() <= clock.millis()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return verdict.errors();
+    }
+
+    @Override
+    public void put(Component component, String context, List<String> errors, @Nullable Duration timeToLive) {
+        String key = computeKey(component, context);
+        if (key == null) {
+            return;
+        }
+        long expiresAt = timeToLive != null ? clock.millis() + timeToLive.toMillis() : Long.MAX_VALUE;
+        Verdict verdict = new Verdict(expiresAt, List.copyOf(errors));
+        verdicts.put(key, verdict);
+        updates.put(key, verdict);
+    }
+
+    /**
+     * Returns the number of requests that returned a valid verdict.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of requests for cacheable components that did not find a valid verdict.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Computes the key of a component.
+     *
+     * @param context The other inputs of the verdict.
+     * @return A key or {@code null}, if the component can not be cached.
+     */
+    private static @Nullable String computeKey(Component component, String context) {
+        PackageURL purl = component.getPurl();
+        if (purl == null || component.getArtifact().isSnapshot()) {
+            return null;
+        }
+        String key = ComponentKeys.of(component);
+        return context.isEmpty() ? key : key + '\n' + context;
+    }
+
+    private static Map<String, Verdict> read(Path file, long now) throws IOException {
+        Map<String, Verdict> result = new HashMap<>();
+        try (InputStream stream = Files.newInputStream(file)) {
+            // Bounds all the counts and lengths read from the file
+            long size = Files.size(file);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(stream));
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported verdict cache format: " + file);
+            }
+            int count = readCount(input, size);
+            for (int i = 0; i < count; i++) {
+                String key = readString(input, size);
+                long expiresAt = input.readLong();
+                int errorCount = readCount(input, size);
+                List<String> errors = new ArrayList<>();
+                for (int j = 0; j < errorCount; j++) {
+                    errors.add(readString(input, size));
+                }
+                if (expiresAt > now) {
+                    result.put(key, new Verdict(expiresAt, List.copyOf(errors)));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // Empty cache
+        }
+        return result;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads the number of elements or bytes that follow.
+     *
+     * @param size The size of the file.
+     * @throws IOException If the count is negative or larger than the file.
+     */
+    private static int readCount(DataInputStream input, long size) throws IOException {
+        int count = input.readInt();
+        if (count < 0 || count > size) {
+            throw new IOException("Invalid count in verdict cache: " + count);
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream input, long size) throws IOException {
+        int length = readCount(input, size);
+        byte[] bytes = input.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param expiresAt The expiration time in milliseconds since the epoch.
+     * @param errors The error messages about the component.
+     */
+    private record Verdict(long expiresAt, List<String> errors) {}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import io.github.sbom.enforcer.Component;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.eclipse.aether.artifact.Artifact;
+
+/**
+ * Records the inputs of the last successful check of an SBOM.
+ * <p>
+ *     A fingerprint combines the configuration of the rules with the package URLs and the declared checksums of the
+ *     dependencies listed in the SBOM.
+ *     The main component, the timestamp and the serial number of the SBOM are left out, since they change on every
+ *     build, even if the dependencies do not.
+ * </p>
+ */
+public final class Fingerprints {
+
+    private static final String HEADER = "# SBOM Enforcer fingerprint, version 2";
+
+    private static final String SUFFIX = ".fingerprint";
+
+    /**
+     * Returns the location of the fingerprint of an SBOM.
+     *
+     * @param directory The directory containing the fingerprints.
+     * @param billOfMaterials A resolved SBOM artifact.
+     */
+    public static Path getFingerprintFile(Path directory, Artifact billOfMaterials) {
+        return directory.resolve(
+                Objects.requireNonNull(billOfMaterials.getFile()).getName() + SUFFIX);
+    }
+
+    /**
+     * Checks if the inputs of a check did not change since the fingerprint was written.
+     *
+     * @param file The fingerprint file.
+     * @param fingerprint The fingerprint of the current execution.
+     * @return {@code true} if the fingerprint exists and matches the current one.
+     * @throws IOException If the fingerprint can not be read.
+     */
+    public static boolean isUpToDate(Path file, String fingerprint) throws IOException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        return lines.size() == 2 && HEADER.equals(lines.get(0)) && fingerprint.equals(lines.get(1));
+    }
+
+    /**
+     * Writes the fingerprint of a successful check.
+     * <p>
+     *     The fingerprint is first written to a temporary file, which is atomically moved to its final location.
+     * </p>
+     *
+     * @param file The fingerprint file.
+     * @param fingerprint The fingerprint of the current execution.
+     * @throws IOException If the fingerprint can not be written.
+     */
+    public static void write(Path file, String fingerprint) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null) {
+            throw new IOException("Invalid fingerprint location: " + file);
+        }
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, "fingerprint", ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.write('\n');
+                writer.write(fingerprint);
+                writer.write('\n');
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Computes a fingerprint.
+     *
+     * @param configuration A description of the configuration of the rules.
+     * @param dependencies The dependencies listed in the SBOM, without the main component.
+     * @return A hex-encoded SHA-256 digest.
+     */
+    public static String compute(String configuration, Collection<? extends Component> dependencies) {
+        // The order of the components in the SBOM is not significant
+        SortedSet<String> keys = new TreeSet<>();
+        for (Component dependency : dependencies) {
+            keys.add(ComponentKeys.of(dependency));
+        }
+        MessageDigest digest = DigestUtils.getDigest(MessageDigestAlgorithms.SHA_256);
+        digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+        for (String key : keys) {
+            digest.update((byte) 0);
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private Fingerprints() {}
+}
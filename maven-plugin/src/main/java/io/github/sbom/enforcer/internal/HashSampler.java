@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.Sampler;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Selects a stable fraction of the components and external references.
+ * <p>
+ *     An item is selected if the SHA-256 digest of the seed and of its key, interpreted as a number in `[0, 1)`, is
+ *     smaller than the sampling rate.
+ *     Components are identified by their package URL and checksums, external references by their location, so that
+ *     a URL shared by many components is either always or never selected.
+ * </p>
+ * <p>
+ *     If a baseline is provided, the components that are not part of it, together with all their references, are
+ *     always selected.
+ * </p>
+ */
+public final class HashSampler implements Sampler {
+
+    private static final double TWO_TO_MINUS_53 = 0x1.0p-53;
+
+    private final double rate;
+    private final String seed;
+    private final @Nullable Set<String> baseline;
+    private final LongAdder components = new LongAdder();
+    private final LongAdder selectedComponents = new LongAdder();
+    private final LongAdder references = new LongAdder();
+    private final LongAdder selectedReferences = new LongAdder();
+
+    /**
+     * @param rate The fraction of the items to select.
+     * @param seed A seed that changes the selection, e.g. the identifier of a commit.
+     * @param baseline The keys of the components of the baseline SBOM or {@code null} if there is no baseline.
+     * @see ComponentKeys#of
+     */
+    public HashSampler(double rate, String seed, @Nullable Set<String> baseline) {
+        this.rate = rate;
+        this.seed = seed;
+        this.baseline = baseline != null ? Set.copyOf(baseline) : null;
+    }
+
+    @Override
+    public boolean isSelected(Component component) {
+        components.increment();
+        String key = ComponentKeys.of(component);
+        boolean selected = isChanged(key) || isSelected(key);
+        if (selected) {
+            selectedComponents.increment();
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean isSelected(Component component, String location) {
+        references.increment();
+        boolean selected = isChanged(ComponentKeys.of(component)) || isSelected(location);
+        if (selected) {
+            selectedReferences.increment();
+        }
+        return selected;
+    }
+
+    private boolean isChanged(String key) {
+        return baseline != null && !baseline.contains(key);
+    }
+
+    private boolean isSelected(String key) {
+        byte[] digest = DigestUtils.sha256((seed + '\0' + key).getBytes(StandardCharsets.UTF_8));
+        long value = ByteBuffer.wrap(digest).getLong() >>> 11;
+        return value * TWO_TO_MINUS_53 < rate;
+    }
+
+    /**
+     * Describes the fraction of the components and references that were checked.
+     */
+    public String getCoverage() {
+        StringBuilder builder = new StringBuilder();
+        appendCoverage(builder, selectedComponents.sum(), components.sum(), "dependencies");
+        long references = this.references.sum();
+        if (references > 0) {
+            builder.append(", ");
+            appendCoverage(builder, selectedReferences.sum(), references, "references");
+        }
+        return builder.toString();
+    }
+
+    private static void appendCoverage(StringBuilder builder, long selected, long total, String items) {
+        builder.append(selected).append(" of ").append(total).append(' ').append(items);
+        if (total > 0) {
+            builder.append(String.format(Locale.ROOT, " (%.1f%%)", 100.0 * selected / total));
+        }
+    }
+}
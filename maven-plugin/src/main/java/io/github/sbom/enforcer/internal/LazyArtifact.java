@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.aether.artifact.AbstractArtifact;
+import org.eclipse.aether.artifact.Artifact;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An artifact, whose file is resolved the first time it is requested.
+ * <p>
+ *     The coordinates and properties are available without any repository I/O.
+ *     Two lazy artifacts are equal if they have the same coordinates and properties: {@link #equals} and
+ *     {@link #hashCode} never resolve the artifact.
+ * </p>
+ */
+final class LazyArtifact extends AbstractArtifact {
+
+    private final Artifact artifact;
+    private final ComponentResolver resolver;
+    private volatile @Nullable Artifact resolved;
+
+    /**
+     * @param artifact An artifact without a file.
+     * @param resolver The resolver to use.
+     */
+    LazyArtifact(Artifact artifact, ComponentResolver resolver) {
+        this.artifact = artifact;
+        this.resolver = resolver;
+    }
+
+    boolean isResolved() {
+        return resolved != null;
+    }
+
+    private Artifact resolve() {
+        Artifact result = resolved;
+        if (result == null) {
+            synchronized (this) {
+                result = resolved;
+                if (result == null) {
+                    result = resolver.resolveArtifacts(List.of(artifact)).get(0);
+                    resolved = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String getGroupId() {
+        return artifact.getGroupId();
+    }
+
+    @Override
+    public String getArtifactId() {
+        return artifact.getArtifactId();
+    }
+
+    @Override
+    public String getVersion() {
+        return artifact.getVersion();
+    }
+
+    @Override
+    public Artifact setVersion(@Nullable String version) {
+        Artifact newArtifact = artifact.setVersion(version);
+        return newArtifact == artifact ? this : new LazyArtifact(newArtifact, resolver);
+    }
+
+    @Override
+    public String getClassifier() {
+        return artifact.getClassifier();
+    }
+
+    @Override
+    public String getExtension() {
+        return artifact.getExtension();
+    }
+
+    @Override
+    public @Nullable File getFile() {
+        return resolve().getFile();
+    }
+
+    @Override
+    public Artifact setFile(@Nullable File file) {
+        return artifact.setFile(file);
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return artifact.getProperties();
+    }
+
+    @Override
+    public Artifact setProperties(@Nullable Map<String, String> properties) {
+        Artifact newArtifact = artifact.setProperties(properties);
+        return newArtifact == artifact ? this : new LazyArtifact(newArtifact, resolver);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return this == o || (o instanceof LazyArtifact that && artifact.equals(that.artifact));
+    }
+
+    @Override
+    public int hashCode() {
+        return artifact.hashCode();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.aether.artifact.Artifact;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A dependency, whose SBOMs are looked up in the remote repository the first time they are requested.
+ * <p>
+ *     The file of its artifact is also resolved on first access.
+ *     Since the SBOMs only depend on the coordinates of the artifact, they are not taken into account by
+ *     {@link #equals}, which never resolves the component.
+ *     Like {@link io.github.sbom.enforcer.support.DefaultComponent}, a lazy component is only equal to components of
+ *     the same class, so that the relation stays symmetric.
+ * </p>
+ * <p>
+ *     Lazy components can share a batch: the first time the SBOMs of one of them are requested, the SBOMs of all the
+ *     components of the batch that were not looked up yet are requested together.
+ * </p>
+ */
+final class LazyComponent implements Component {
+
+    private final Component component;
+    private final Artifact artifact;
+    private final ComponentResolver resolver;
+    /**
+     * The components, whose SBOMs are looked up together, or an empty list.
+     */
+    private final List<LazyComponent> batch;
+
+    private volatile @Nullable List<Artifact> billsOfMaterials;
+
+    /**
+     * @param component The metadata of the dependency, with a lazy artifact and without SBOMs.
+     * @param artifact The artifact of the dependency without a file.
+     * @param resolver The resolver to use.
+     */
+    LazyComponent(Component component, Artifact artifact, ComponentResolver resolver) {
+        this(component, artifact, resolver, List.of());
+    }
+
+    /**
+     * @param component The metadata of the dependency, with a lazy artifact and without SBOMs.
+     * @param artifact The artifact of the dependency without a file.
+     * @param resolver The resolver to use.
+     * @param batch The components, whose SBOMs are looked up together. The caller adds the new component to it.
+     */
+    LazyComponent(Component component, Artifact artifact, ComponentResolver resolver, List<LazyComponent> batch) {
+        this.component = component;
+        this.artifact = artifact;
+        this.resolver = resolver;
+        this.batch = batch;
+    }
+
+    boolean areBillsOfMaterialsResolved() {
+        return billsOfMaterials != null;
+    }
+
+    @Override
+    public Artifact getArtifact() {
+        return component.getArtifact();
+    }
+
+    @Override
+    public @Nullable PackageURL getPurl() {
+        return component.getPurl();
+    }
+
+    @Override
+    public Collection<Artifact> getBillsOfMaterials() {
+        List<Artifact> result = billsOfMaterials;
+        if (result == null) {
+            synchronized (batch.isEmpty() ? this : batch) {
+                result = billsOfMaterials;
+                if (result == null) {
+                    findBillsOfMaterials(batch.isEmpty() ? List.of(this) : batch);
+                    result = Objects.requireNonNull(billsOfMaterials);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void findBillsOfMaterials(List<LazyComponent> components) {
+        List<LazyComponent> pending = new ArrayList<>(components.size());
+        for (LazyComponent lazyComponent : components) {
+            if (lazyComponent.billsOfMaterials == null) {
+                pending.add(lazyComponent);
+            }
+        }
+        for (int start = 0; start < pending.size(); start += ComponentResolver.BATCH_SIZE) {
+            List<LazyComponent> slice =
+                    pending.subList(start, Math.min(start + ComponentResolver.BATCH_SIZE, pending.size()));
+            List<Artifact> artifacts = new ArrayList<>(slice.size());
+            slice.forEach(lazyComponent -> artifacts.add(lazyComponent.artifact));
+            List<List<Artifact>> found = resolver.findBillsOfMaterials(artifacts);
+            for (int i = 0; i < slice.size(); i++) {
+                slice.get(i).billsOfMaterials = found.get(i);
+            }
+        }
+    }
+
+    @Override
+    public Collection<ExternalReference> getExternalReferences() {
+        return component.getExternalReferences();
+    }
+
+    @Override
+    public Map<ChecksumAlgorithm, String> getChecksums() {
+        return component.getChecksums();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return this == o || (o instanceof LazyComponent that && component.equals(that.component));
+    }
+
+    @Override
+    public int hashCode() {
+        return component.hashCode();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded, thread-safe cache of the results of a pure function.
+ * <p>
+ *     The cache is meant to be stored in a static field, so that its values are shared by all the modules of a
+ *     reactor.
+ *     When the cache is full, the least recently used entry is evicted.
+ *     To reduce contention, the keys are distributed among up to {@value #MAX_SEGMENTS} independently locked
+ *     segments, each with its own LRU order.
+ * </p>
+ * <p>
+ *     Only successful results are cached.
+ *     Two threads might compute the value for the same key concurrently, in which case the first result is retained.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values, which must be immutable.
+ */
+public final class MemoCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * Minimal number of entries of a segment, so that small caches use a single LRU order.
+     */
+    private static final int MIN_SEGMENT_SIZE = 1024;
+
+    private final List<Segment<K, V>> segments;
+
+    /**
+     * @param maxSize The maximal number of cached values.
+     */
+    public MemoCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The size of the cache must be positive: " + maxSize);
+        }
+        int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, maxSize / MIN_SEGMENT_SIZE)));
+        List<Segment<K, V>> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // The first segments receive the remainder
+            segments.add(new Segment<>(maxSize / count + (i < maxSize % count ? 1 : 0)));
+        }
+        this.segments = List.copyOf(segments);
+    }
+
+    /**
+     * Returns the cached value for the given key or computes it.
+     *
+     * @param key A key.
+     * @param function The function to memoize.
+     * @return The value of the function for the given key.
+     * @throws E If the function fails.
+     */
+    public <E extends Exception> V get(K key, Function<? super K, ? extends V, E> function) throws E {
+        Segment<K, V> segment = getSegment(key);
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value == null) {
+            // The function is called outside the lock, since it can be slow or throw checked exceptions
+            value = function.apply(key);
+            synchronized (segment) {
+                V previous = segment.putIfAbsent(key, value);
+                if (previous != null) {
+                    value = previous;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of cached values.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> getSegment(K key) {
+        int hash = key.hashCode();
+        return segments.get((hash ^ (hash >>> 16)) & (segments.size() - 1));
+    }
+
+    /**
+     * A map in access order, which evicts its least recently used entry when full.
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    /**
+     * A function that can throw a checked exception.
+     */
+    @FunctionalInterface
+    public interface Function<T, R, E extends Exception> {
+
+        R apply(T value) throws E;
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Collects timing and resource usage statistics of a single execution of the plugin.
+ * <p>
+ *     Each measurement belongs to a named phase (e.g. {@value #PARSE} or {@code rule:checksum}).
+ *     Measurements of the same phase are aggregated.
+ * </p>
+ */
+public final class Metrics {
+
+    /**
+     * Parsing of the SBOM document.
+     */
+    public static final String PARSE = "parse";
+
+    /**
+     * Resolution of the artifacts described by the SBOM.
+     */
+    public static final String RESOLVE = "resolve";
+
+    /**
+     * Discovery of the SBOMs published alongside the dependencies.
+     */
+    public static final String SIDECARS = "sidecars";
+
+    /**
+     * Reading and writing of the binary snapshots of the SBOM model.
+     */
+    public static final String SNAPSHOT = "snapshot";
+
+    /**
+     * Verification and recording of the fingerprints of the successful checks.
+     */
+    public static final String FINGERPRINT = "fingerprint";
+
+    /**
+     * Loading and saving of the verdicts of the rules about single components.
+     */
+    public static final String VERDICTS = "verdicts";
+
+    /**
+     * Prefix of the phases corresponding to the execution of a rule.
+     */
+    public static final String RULE_PREFIX = "rule:";
+
+    private static final Metrics DISABLED = new Metrics(false);
+
+    private static final com.sun.management.@Nullable ThreadMXBean THREAD_MX_BEAN = findThreadMXBean();
+
+    private final boolean enabled;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final LongAdder downloadedBytes = new LongAdder();
+
+    public static Metrics create() {
+        return new Metrics(true);
+    }
+
+    /**
+     * Retrieves the metrics associated with a repository system session.
+     *
+     * @param session A repository system session.
+     * @return The metrics of the current execution or a disabled instance, if metrics are not collected.
+     */
+    public static Metrics of(RepositorySystemSession session) {
+        SessionData data = session.getData();
+        return data != null && data.get(Metrics.class) instanceof Metrics metrics ? metrics : DISABLED;
+    }
+
+    private Metrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Associates these metrics with a session.
+     */
+    public void attachTo(SessionData data) {
+        data.set(Metrics.class, this);
+    }
+
+    /**
+     * Starts measuring an operation.
+     * <p>
+     *     The returned object must be closed on the same thread, so that the allocated memory can be measured.
+     * </p>
+     *
+     * @param phase The name of the phase the operation belongs to.
+     * @return A measurement, which must be closed at the end of the operation.
+     */
+    public Measurement start(String phase) {
+        return enabled ? new Measurement(getPhase(phase)) : Measurement.NOOP;
+    }
+
+    /**
+     * Wraps a transfer listener to count the number of downloaded bytes.
+     */
+    public TransferListener countDownloads(@Nullable TransferListener delegate) {
+        return new CountingTransferListener(delegate, downloadedBytes);
+    }
+
+    private synchronized Phase getPhase(String name) {
+        return phases.computeIfAbsent(name, Phase::new);
+    }
+
+    private synchronized List<Phase> getPhases() {
+        return new ArrayList<>(phases.values());
+    }
+
+    /**
+     * Formats a human-readable summary of the collected metrics.
+     *
+     * @return A list of lines to log.
+     */
+    public List<String> toSummary() {
+        List<String> lines = new ArrayList<>();
+        String format = "%-32s %8s %12s %14s %14s";
+        lines.add(String.format(Locale.ROOT, format, "Phase", "Count", "Time (ms)", "Bytes", "Allocated"));
+        for (Phase phase : getPhases()) {
+            lines.add(String.format(
+                    Locale.ROOT,
+                    format,
+                    phase.name,
+                    phase.count.sum(),
+                    toMillis(phase.nanos.sum()),
+                    phase.bytes.sum(),
+                    THREAD_MX_BEAN != null ? phase.allocatedBytes.sum() : "n/a"));
+        }
+        lines.add(String.format(
+                Locale.ROOT,
+                "Total time: %s ms, downloaded: %d bytes",
+                toMillis(System.nanoTime() - startNanos),
+                downloadedBytes.sum()));
+        return lines;
+    }
+
+    /**
+     * Writes the collected metrics in JSON format.
+     *
+     * @param file The destination file.
+     * @param project An identifier of the current project.
+     */
+    public void writeJson(Path file, String project) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\n");
+            writer.write("  \"project\": " + quote(project) + ",\n");
+            writer.write("  \"totalTimeMs\": " + toMillis(System.nanoTime() - startNanos) + ",\n");
+            writer.write("  \"downloadedBytes\": " + downloadedBytes.sum() + ",\n");
+            writer.write("  \"phases\": [");
+            String separator = "\n";
+            for (Phase phase : getPhases()) {
+                writer.write(separator);
+                writer.write("    {\"name\": " + quote(phase.name)
+                        + ", \"count\": " + phase.count.sum()
+                        + ", \"timeMs\": " + toMillis(phase.nanos.sum())
+                        + ", \"bytes\": " + phase.bytes.sum()
+                        + ", \"allocatedBytes\": " + (THREAD_MX_BEAN != null ? phase.allocatedBytes.sum() : -1)
+                        + "}");
+                separator = ",\n";
+            }
+            writer.write("\n  ]\n}\n");
+        }
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String quote(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static com.sun.management.@Nullable ThreadMXBean findThreadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()
+                    && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+        } catch (LinkageError e) {
+            // The `jdk.management` module is not available
+        }
+        return null;
+    }
+
+    private static long getAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    private static final class Phase {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        private Phase(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * A single measured operation.
+     */
+    public static class Measurement implements AutoCloseable {
+
+        private static final Measurement NOOP = new Measurement(null);
+
+        private final @Nullable Phase phase;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private long bytes;
+
+        private Measurement(@Nullable Phase phase) {
+            this.phase = phase;
+            this.startNanos = phase != null ? System.nanoTime() : 0L;
+            this.startAllocatedBytes = phase != null ? getAllocatedBytes() : 0L;
+        }
+
+        /**
+         * Records the number of bytes read or written by this operation.
+         */
+        public void addBytes(long bytes) {
+            this.bytes += bytes;
+        }
+
+        @Override
+        public void close() {
+            if (phase != null) {
+                phase.count.increment();
+                phase.nanos.add(System.nanoTime() - startNanos);
+                phase.bytes.add(bytes);
+                phase.allocatedBytes.add(getAllocatedBytes() - startAllocatedBytes);
+            }
+        }
+    }
+
+    private static final class CountingTransferListener extends AbstractTransferListener {
+
+        private final @Nullable TransferListener delegate;
+        private final LongAdder downloadedBytes;
+
+        private CountingTransferListener(@Nullable TransferListener delegate, LongAdder downloadedBytes) {
+            this.delegate = delegate;
+            this.downloadedBytes = downloadedBytes;
+        }
+
+        @Override
+        public void transferInitiated(TransferEvent event) throws TransferCancelledException {
+            if (delegate != null) {
+                delegate.transferInitiated(event);
+            }
+        }
+
+        @Override
+        public void transferStarted(TransferEvent event) throws TransferCancelledException {
+            if (delegate != null) {
+                delegate.transferStarted(event);
+            }
+        }
+
+        @Override
+        public void transferProgressed(TransferEvent event) throws TransferCancelledException {
+            if (delegate != null) {
+                delegate.transferProgressed(event);
+            }
+        }
+
+        @Override
+        public void transferCorrupted(TransferEvent event) throws TransferCancelledException {
+            if (delegate != null) {
+                delegate.transferCorrupted(event);
+            }
+        }
+
+        @Override
+        public void transferSucceeded(TransferEvent event) {
+            if (event.getRequestType() == TransferEvent.RequestType.GET) {
+                downloadedBytes.add(event.getTransferredBytes());
+            }
+            if (delegate != null) {
+                delegate.transferSucceeded(event);
+            }
+        }
+
+        @Override
+        public void transferFailed(TransferEvent event) {
+            if (delegate != null) {
+                delegate.transferFailed(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.apache.maven.AbstractMavenLifecycleParticipant;
+import org.apache.maven.execution.MavenSession;
+import org.codehaus.plexus.logging.Logger;
+
+/**
+ * Stops the prefetches of the projects, whose {@code check} goal did not run, e.g. because the build failed.
+ * <p>
+ *     Maven only calls lifecycle participants of plugins declared with {@code <extensions>true</extensions>}.
+ * </p>
+ */
+@Named("sbom-enforcer-prefetch")
+@Singleton
+public class PrefetchLifecycleParticipant extends AbstractMavenLifecycleParticipant {
+
+    private final Logger logger;
+
+    @Inject
+    public PrefetchLifecycleParticipant(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void afterSessionEnd(MavenSession session) {
+        int count = Prefetcher.closeAll(session.getRepositorySession().getData());
+        if (count > 0) {
+            logger.debug("Stopped " + count + " background prefetches.");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.Artifact;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Resolves artifacts and their SBOMs on background threads, so that a later check finds them in the local repository.
+ * <p>
+ *     A prefetch is attached to the data of the repository system session of the build, which is shared by all the
+ *     goals of a project, so that the {@code check} goal can report and stop it.
+ * </p>
+ */
+public final class Prefetcher implements AutoCloseable {
+
+    private final Cancellation cancellation;
+    private final ExecutorService executor;
+    private final int artifactCount;
+    private final AtomicInteger resolvedCount = new AtomicInteger();
+    private final AtomicInteger pendingBatches = new AtomicInteger();
+
+    private Prefetcher(Cancellation cancellation, int threads, int artifactCount) {
+        this.cancellation = cancellation;
+        this.executor =
+                Executors.newFixedThreadPool(threads, RuleScheduler.newThreadFactory("sbom-enforcer-prefetch-"));
+        this.artifactCount = artifactCount;
+    }
+
+    /**
+     * Starts resolving artifacts in batches.
+     *
+     * @param resolver The resolver to use.
+     * @param artifacts The artifacts to resolve, without files.
+     * @param threads The number of background threads.
+     * @param cancellation A cancellation, which also cancels the transfers of the session of the resolver.
+     * @return A running prefetch.
+     */
+    public static Prefetcher start(
+            ComponentResolver resolver, Collection<Artifact> artifacts, int threads, Cancellation cancellation) {
+        Prefetcher prefetcher = new Prefetcher(cancellation, threads, artifacts.size());
+        List<Artifact> batch = new ArrayList<>(ComponentResolver.BATCH_SIZE);
+        for (Artifact artifact : artifacts) {
+            batch.add(artifact);
+            if (batch.size() == ComponentResolver.BATCH_SIZE) {
+                prefetcher.submit(resolver, batch);
+                batch = new ArrayList<>(ComponentResolver.BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            prefetcher.submit(resolver, batch);
+        }
+        // The threads terminate once all the batches are resolved
+        prefetcher.executor.shutdown();
+        return prefetcher;
+    }
+
+    private void submit(ComponentResolver resolver, List<Artifact> batch) {
+        pendingBatches.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                if (!cancellation.isCancelled()) {
+                    for (Artifact artifact : resolver.resolveArtifacts(batch)) {
+                        if (artifact.getFile() != null) {
+                            resolvedCount.incrementAndGet();
+                        }
+                    }
+                    resolver.findBillsOfMaterials(batch);
+                }
+            } finally {
+                pendingBatches.decrementAndGet();
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<String, Prefetcher> getPrefetchers(SessionData data) {
+        return (ConcurrentMap<String, Prefetcher>)
+                Objects.requireNonNull(data.computeIfAbsent(Prefetcher.class.getName(), ConcurrentHashMap::new));
+    }
+
+    /**
+     * Associates this prefetch with a project.
+     * <p>
+     *     A previous prefetch of the same project is stopped.
+     * </p>
+     *
+     * @param data The data of the repository system session of the build.
+     * @param projectId The identifier of the project.
+     */
+    public void attachTo(SessionData data, String projectId) {
+        Prefetcher previous = getPrefetchers(data).put(projectId, this);
+        if (previous != null && previous != this) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Removes the prefetch associated with a project.
+     *
+     * @param data The data of the repository system session of the build.
+     * @param projectId The identifier of the project.
+     * @return The prefetch of the project or {@code null} if there is none.
+     */
+    public static @Nullable Prefetcher detach(SessionData data, String projectId) {
+        return getPrefetchers(data).remove(projectId);
+    }
+
+    /**
+     * Stops all the prefetches still associated with a project.
+     * <p>
+     *     Called at the end of the build, for the projects whose {@code check} goal did not run.
+     * </p>
+     *
+     * @param data The data of the repository system session of the build.
+     * @return The number of stopped prefetches.
+     */
+    public static int closeAll(SessionData data) {
+        ConcurrentMap<String, Prefetcher> prefetchers = getPrefetchers(data);
+        int count = 0;
+        for (String projectId : prefetchers.keySet()) {
+            Prefetcher prefetcher = prefetchers.remove(projectId);
+            if (prefetcher != null) {
+                prefetcher.close();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if all the batches were resolved.
+     */
+    public boolean isDone() {
+        return pendingBatches.get() == 0;
+    }
+
+    /**
+     * Describes the progress of the prefetch.
+     */
+    public String getSummary() {
+        return resolvedCount.get() + " of " + artifactCount + " artifacts resolved"
+                + (isDone() ? "" : ", still running");
+    }
+
+    /**
+     * Stops the prefetch, cancelling the transfers in progress.
+     */
+    @Override
+    public void close() {
+        cancellation.cancel("the prefetch was stopped");
+        executor.shutdownNow();
+    }
+}
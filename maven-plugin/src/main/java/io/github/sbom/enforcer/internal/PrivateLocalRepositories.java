@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.NoLocalRepositoryManagerException;
+import org.eclipse.aether.spi.localrepo.LocalRepositoryManagerFactory;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Creates the local repository managers of the private local repositories.
+ * <p>
+ *     A private repository can be:
+ * </p>
+ * <ul>
+ *     <li>specific to a module, in which case a new manager is created for each execution,</li>
+ *     <li>shared by all the modules of the reactor, in which case a single manager is created for each build and
+ *     the concurrent accesses are synchronized with file locks.</li>
+ * </ul>
+ */
+public final class PrivateLocalRepositories {
+
+    /**
+     * Configuration key of the named lock factory of the Maven Resolver.
+     */
+    static final String NAMED_LOCK_FACTORY = "aether.syncContext.named.factory";
+
+    /**
+     * Configuration key of the mapper from resources to lock names of the Maven Resolver.
+     */
+    static final String NAME_MAPPER = "aether.syncContext.named.nameMapper";
+
+    /**
+     * Creates a manager for a private local repository.
+     *
+     * @param factory The factory of the local repository managers.
+     * @param repoSession The repository system session of the build.
+     * @param path The location of the private repository.
+     * @param shared If {@code true}, the manager is created once per build and shared by all the modules.
+     * @param seedStore An optional store used to seed the repository.
+     * @return A local repository manager.
+     */
+    public static LocalRepositoryManager getLocalRepositoryManager(
+            LocalRepositoryManagerFactory factory,
+            RepositorySystemSession repoSession,
+            Path path,
+            boolean shared,
+            @Nullable SeedStore seedStore)
+            throws NoLocalRepositoryManagerException {
+        if (!shared) {
+            return createLocalRepositoryManager(factory, repoSession, path, seedStore);
+        }
+        SessionData data = repoSession.getData();
+        String key = PrivateLocalRepositories.class.getName()
+                + ':'
+                + path.toAbsolutePath().normalize();
+        Object manager = data.get(key);
+        while (!(manager instanceof LocalRepositoryManager)) {
+            LocalRepositoryManager newManager = createLocalRepositoryManager(factory, repoSession, path, seedStore);
+            // Another module might have created the manager concurrently
+            manager = data.set(key, manager, newManager) ? newManager : data.get(key);
+        }
+        return (LocalRepositoryManager) manager;
+    }
+
+    private static LocalRepositoryManager createLocalRepositoryManager(
+            LocalRepositoryManagerFactory factory,
+            RepositorySystemSession repoSession,
+            Path path,
+            @Nullable SeedStore seedStore)
+            throws NoLocalRepositoryManagerException {
+        LocalRepositoryManager manager = factory.newInstance(repoSession, new LocalRepository(path.toFile()));
+        return seedStore != null ? seedStore.wrap(manager) : manager;
+    }
+
+    /**
+     * Configures the Maven Resolver to use file locks, unless the user chose another kind of locks.
+     * <p>
+     *     File locks synchronize both the threads of a multi-threaded build and concurrent builds.
+     *     The lock files are created in the {@code .locks} directory of the local repository of the session, unless
+     *     the user sets {@code aether.syncContext.named.basedir.locksDir}.
+     *     Since {@link ExecutionRepositorySystemSession} reports the private repository as local repository, all the
+     *     builds sharing it use the same lock files.
+     * </p>
+     *
+     * @param configProperties The configuration of the repository system session of the build.
+     * @return The configuration for a session using a shared private local repository.
+     */
+    static Map<String, Object> withFileLocks(Map<String, Object> configProperties) {
+        Map<String, Object> result = new HashMap<>(configProperties);
+        result.putIfAbsent(NAMED_LOCK_FACTORY, "file-lock");
+        result.putIfAbsent(NAME_MAPPER, "file-gav");
+        return result;
+    }
+
+    private PrivateLocalRepositories() {}
+}
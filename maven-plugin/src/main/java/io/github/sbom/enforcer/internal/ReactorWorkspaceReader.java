@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.repository.WorkspaceRepository;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A workspace reader that knows all the projects of the reactor, even those that were not packaged yet.
+ * <p>
+ *     Artifacts are first looked up in the workspace reader of the build and then in the outputs of the reactor
+ *     projects, i.e. their main and attached artifacts.
+ *     Differently from the workspace reader of Maven, {@link #findVersions} also returns the versions of the projects
+ *     that were not built yet, so that their artifacts are never requested from a remote repository.
+ * </p>
+ */
+public final class ReactorWorkspaceReader implements WorkspaceReader {
+
+    private static final WorkspaceRepository REPOSITORY = new WorkspaceRepository("reactor");
+
+    private final @Nullable WorkspaceReader delegate;
+    private final Map<String, MavenProject> projects = new HashMap<>();
+
+    /**
+     * @param delegate The workspace reader of the build.
+     * @param projects The projects of the reactor.
+     */
+    public ReactorWorkspaceReader(@Nullable WorkspaceReader delegate, Collection<MavenProject> projects) {
+        this.delegate = delegate;
+        for (MavenProject project : projects) {
+            this.projects.put(getKey(project.getGroupId(), project.getArtifactId(), project.getVersion()), project);
+        }
+    }
+
+    private static String getKey(String groupId, String artifactId, String version) {
+        return groupId + ':' + artifactId + ':' + version;
+    }
+
+    private @Nullable MavenProject findProject(Artifact artifact) {
+        return projects.get(getKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion()));
+    }
+
+    @Override
+    public WorkspaceRepository getRepository() {
+        return delegate != null ? delegate.getRepository() : REPOSITORY;
+    }
+
+    @Override
+    public @Nullable File findArtifact(Artifact artifact) {
+        File file = delegate != null ? delegate.findArtifact(artifact) : null;
+        if (file == null) {
+            MavenProject project = findProject(artifact);
+            if (project != null) {
+                file = findOutput(project, artifact);
+            }
+        }
+        // Before the `package` phase, Maven returns the directory containing the classes
+        return file != null && file.isFile() ? file : null;
+    }
+
+    private static @Nullable File findOutput(MavenProject project, Artifact artifact) {
+        if (artifact.getClassifier().isEmpty() && "pom".equals(artifact.getExtension())) {
+            return project.getFile();
+        }
+        List<org.apache.maven.artifact.Artifact> outputs = new ArrayList<>();
+        if (project.getArtifact() != null) {
+            outputs.add(project.getArtifact());
+        }
+        outputs.addAll(project.getAttachedArtifacts());
+        for (org.apache.maven.artifact.Artifact output : outputs) {
+            String classifier = output.getClassifier() != null ? output.getClassifier() : "";
+            if (classifier.equals(artifact.getClassifier())
+                    && output.getArtifactHandler().getExtension().equals(artifact.getExtension())) {
+                return output.getFile();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<String> findVersions(Artifact artifact) {
+        List<String> versions = new ArrayList<>();
+        if (delegate != null) {
+            versions.addAll(delegate.findVersions(artifact));
+        }
+        MavenProject project = findProject(artifact);
+        if (project != null && !versions.contains(project.getVersion())) {
+            versions.add(project.getVersion());
+        }
+        return versions;
+    }
+
+    /**
+     * Checks if an artifact belongs to a project of the reactor.
+     *
+     * @param reader The workspace reader of a session.
+     * @param artifact An artifact.
+     * @return {@code true} if the artifact is produced by the current build, even if it was not packaged yet.
+     */
+    static boolean isReactorArtifact(@Nullable WorkspaceReader reader, Artifact artifact) {
+        return reader != null && reader.findVersions(artifact).contains(artifact.getBaseVersion());
+    }
+}
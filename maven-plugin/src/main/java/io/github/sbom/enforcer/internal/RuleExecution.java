@@ -0,0 +1,303 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.ComponentListener;
+import io.github.sbom.enforcer.ComponentRule;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Tracks the execution of a rule on a single SBOM.
+ * <p>
+ *     A component rule receives the components through this object, which skips them after the token of the rule is
+ *     cancelled and counts the checked and skipped components.
+ *     The other rules run as a task started by {@link #start}.
+ * </p>
+ * <p>
+ *     After {@link #finish}, {@link #getSummary()} describes what was verified and what was skipped.
+ * </p>
+ */
+public final class RuleExecution implements ComponentListener {
+
+    /**
+     * The result of the execution.
+     */
+    public enum Outcome {
+        /**
+         * The rule has not finished yet.
+         */
+        PENDING,
+        /**
+         * The rule checked all the components and did not find any problem.
+         */
+        PASSED,
+        /**
+         * The rule found some problems.
+         */
+        FAILED,
+        /**
+         * The rule checked only some of the components and did not find any problem.
+         */
+        PARTIAL,
+        /**
+         * The rule was cancelled before checking any component.
+         */
+        SKIPPED
+    }
+
+    private final String name;
+    private final Cancellation cancellation;
+    private final @Nullable Cancellation failFastCancellation;
+    private final Metrics metrics;
+    private ComponentRule.@Nullable Checker checker;
+    private @Nullable ComponentListener listener;
+    private @Nullable Future<?> future;
+    // Set by a failing task that cancels itself in fail-fast mode
+    private volatile @Nullable MojoFailureException earlyFailure;
+    private final AtomicInteger checkedComponents = new AtomicInteger();
+    private final AtomicInteger skippedComponents = new AtomicInteger();
+    private Outcome outcome = Outcome.PENDING;
+    private @Nullable String skipReason;
+
+    /**
+     * @param name The name of the rule.
+     * @param cancellation The token of the rule.
+     * @param failFastCancellation The token to cancel if the rule fails or {@code null} if the other rules should
+     *                             continue.
+     * @param metrics The metrics of the current execution.
+     */
+    public RuleExecution(
+            String name, Cancellation cancellation, @Nullable Cancellation failFastCancellation, Metrics metrics) {
+        this.name = name;
+        this.cancellation = cancellation;
+        this.failFastCancellation = failFastCancellation;
+        this.metrics = metrics;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Cancellation getCancellation() {
+        return cancellation;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Checks if the rule verified all the components.
+     */
+    public boolean isComplete() {
+        return outcome == Outcome.PASSED || outcome == Outcome.FAILED;
+    }
+
+    /**
+     * Sets the checker of a component rule.
+     *
+     * @param checker The checker that reports the result.
+     * @param listener The listener that receives the components, usually a wrapper of the checker.
+     */
+    public void setChecker(ComponentRule.Checker checker, ComponentListener listener) {
+        this.checker = checker;
+        this.listener = listener;
+    }
+
+    @Override
+    public void onMainComponent(Component component) {
+        deliver(component, true);
+    }
+
+    @Override
+    public void onComponent(Component dependency) {
+        deliver(dependency, false);
+    }
+
+    private void deliver(Component component, boolean main) {
+        ComponentRule.Checker checker = this.checker;
+        ComponentListener listener = this.listener;
+        if (checker == null || listener == null) {
+            throw new IllegalStateException("Rule `" + name + "` does not check single components.");
+        }
+        if (cancellation.isCancelled()) {
+            skippedComponents.incrementAndGet();
+            return;
+        }
+        try {
+            if (main) {
+                listener.onMainComponent(component);
+            } else {
+                listener.onComponent(component);
+            }
+            checkedComponents.incrementAndGet();
+        } catch (CancellationException e) {
+            if (!cancellation.isCancelled()) {
+                throw e;
+            }
+            skippedComponents.incrementAndGet();
+        }
+        if (checker.hasFailed()) {
+            cancelOthers();
+        }
+    }
+
+    /**
+     * Starts a rule that checks the whole SBOM.
+     *
+     * @param executor The executor that runs the rule.
+     * @param task The task that runs the rule.
+     */
+    public void start(ExecutorService executor, Callable<@Nullable Void> task) {
+        Future<?> future = executor.submit(() -> {
+            try {
+                return task.call();
+            } catch (MojoFailureException e) {
+                earlyFailure = e;
+                cancelOthers();
+                throw e;
+            }
+        });
+        this.future = future;
+        cancellation.onCancel(() -> future.cancel(true));
+    }
+
+    private void cancelOthers() {
+        if (failFastCancellation != null) {
+            failFastCancellation.cancel("cancelled after a failure of rule `" + name + "`");
+        }
+    }
+
+    /**
+     * Waits for the end of the rule and reports its result.
+     * <p>
+     *     Component rules always report the problems found so far, even if some components were skipped.
+     * </p>
+     *
+     * @param modelComplete Whether all the components of the SBOM were resolved.
+     * @throws MojoFailureException If the rule found some problems.
+     * @throws MojoExecutionException If the rule failed unexpectedly.
+     */
+    public void finish(boolean modelComplete) throws MojoFailureException, MojoExecutionException {
+        try {
+            if (checker != null) {
+                Metrics.Measurement measurement = metrics.start(Metrics.RULE_PREFIX + name);
+                try {
+                    checker.finish();
+                } finally {
+                    measurement.close();
+                }
+                if (skippedComponents.get() > 0 || !modelComplete) {
+                    skip(checkedComponents.get() > 0 ? Outcome.PARTIAL : Outcome.SKIPPED);
+                } else {
+                    outcome = Outcome.PASSED;
+                }
+            } else if (future != null) {
+                waitFor(future);
+                outcome = Outcome.PASSED;
+            } else {
+                skip(Outcome.SKIPPED);
+            }
+        } catch (MojoFailureException e) {
+            outcome = Outcome.FAILED;
+            throw e;
+        } catch (RuntimeException | MojoExecutionException e) {
+            // Errors of the cancelled rules are not relevant
+            if (!cancellation.isCancelled()) {
+                throw e;
+            }
+            MojoFailureException earlyFailure = this.earlyFailure;
+            if (earlyFailure != null) {
+                outcome = Outcome.FAILED;
+                throw earlyFailure;
+            }
+            skip(Outcome.SKIPPED);
+        }
+    }
+
+    private void skip(Outcome outcome) {
+        this.outcome = outcome;
+        String reason = cancellation.getReason();
+        skipReason = reason != null ? reason : "the model of the SBOM is incomplete";
+    }
+
+    private void waitFor(Future<?> future) throws MojoExecutionException, MojoFailureException {
+        try {
+            while (true) {
+                long remainingNanos = cancellation.getRemainingNanos();
+                if (remainingNanos == Long.MAX_VALUE) {
+                    future.get();
+                    return;
+                }
+                try {
+                    future.get(Math.max(remainingNanos, 0L), TimeUnit.NANOSECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    // Polling the token cancels it after the deadline, which interrupts the task
+                    String reason = cancellation.getReason();
+                    if (reason != null) {
+                        throw new CancellationException(reason);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while waiting for SBOM Enforcer rule `" + name + "`.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MojoFailureException failure) {
+                throw failure;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new MojoExecutionException(cause);
+        }
+    }
+
+    /**
+     * Describes what the rule verified and what it skipped.
+     */
+    public String getSummary() {
+        StringBuilder builder = new StringBuilder("rule `").append(name).append("`: ");
+        builder.append(outcome.name().toLowerCase(Locale.ROOT));
+        if (checker != null) {
+            builder.append(", ").append(checkedComponents).append(" components checked");
+            if (skippedComponents.get() > 0) {
+                builder.append(", ").append(skippedComponents).append(" skipped");
+            }
+        }
+        if (skipReason != null) {
+            builder.append(" (").append(skipReason).append(')');
+        }
+        return builder.toString();
+    }
+}
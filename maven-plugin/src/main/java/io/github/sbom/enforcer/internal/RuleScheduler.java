@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import io.github.sbom.enforcer.EnforcerRule.ResourceClass;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the executors used to run the rules, according to their {@link ResourceClass}.
+ * <ul>
+ *     <li>CPU-bound rules run on a pool with one thread per processor.</li>
+ *     <li>I/O-bound rules run on a pool that grows on demand, since its threads mostly wait for remote servers.</li>
+ * </ul>
+ * <p>
+ *     A single timer thread cancels the executions, whose deadline is reached.
+ * </p>
+ */
+public final class RuleScheduler implements AutoCloseable {
+
+    private final ExecutorService cpuExecutor;
+    private final ExecutorService ioExecutor;
+    private final ScheduledThreadPoolExecutor timer;
+
+    public RuleScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param cpuThreads The number of threads of the CPU-bound pool.
+     */
+    public RuleScheduler(int cpuThreads) {
+        cpuExecutor = Executors.newFixedThreadPool(cpuThreads, newThreadFactory("sbom-enforcer-cpu-"));
+        ioExecutor = Executors.newCachedThreadPool(newThreadFactory("sbom-enforcer-io-"));
+        timer = new ScheduledThreadPoolExecutor(1, newThreadFactory("sbom-enforcer-timer-"));
+        // Most deadlines are never reached
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Returns the executor for rules limited by the given resource.
+     */
+    public ExecutorService getExecutor(ResourceClass resourceClass) {
+        return switch (resourceClass) {
+            case CPU -> cpuExecutor;
+            case IO -> ioExecutor;
+        };
+    }
+
+    /**
+     * Creates a root cancellation, whose children are cancelled by the timer of this scheduler at their deadline.
+     */
+    public Cancellation newCancellation() {
+        return new Cancellation(timer);
+    }
+
+    @Override
+    public void close() {
+        cpuExecutor.shutdownNow();
+        ioExecutor.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    /**
+     * Creates a factory of daemon threads, which do not prevent the JVM from exiting.
+     *
+     * @param prefix The prefix of the names of the threads.
+     */
+    static ThreadFactory newThreadFactory(String prefix) {
+        return new RuleThreadFactory(prefix);
+    }
+
+    private static final class RuleThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private RuleThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
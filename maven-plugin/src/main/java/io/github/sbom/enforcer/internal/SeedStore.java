@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A content-addressed store of the artifacts downloaded into private local repositories.
+ * <p>
+ *     The store contains:
+ * </p>
+ * <ul>
+ *     <li>objects, named after the SHA-256 digest of their content,</li>
+ *     <li>an index, which maps the URL of a remote repository and the path of an artifact to the digest of the
+ *     artifact.</li>
+ * </ul>
+ * <p>
+ *     Only artifacts downloaded from a remote repository, whose checksums were verified by the resolver, are added to
+ *     the store.
+ *     Before an object is linked into a private local repository, its digest is verified again.
+ *     All the files are written to a temporary location first and atomically moved, so that several builds can share
+ *     the same store.
+ * </p>
+ */
+public final class SeedStore {
+
+    private static final Pattern SHA_256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path objects;
+    private final Path index;
+
+    public SeedStore(Path directory) {
+        this.objects = directory.resolve("objects");
+        this.index = directory.resolve("index");
+    }
+
+    /**
+     * Wraps the manager of a private local repository, so that it is seeded from this store.
+     *
+     * @param delegate A local repository manager.
+     * @return A local repository manager that finds the artifacts of this store.
+     */
+    public LocalRepositoryManager wrap(LocalRepositoryManager delegate) {
+        return new SeedingLocalRepositoryManager(delegate, this);
+    }
+
+    /**
+     * Adds an artifact downloaded from a remote repository.
+     *
+     * @param repository The remote repository.
+     * @param path The path of the artifact relative to the local repository.
+     * @param file The downloaded file.
+     */
+    void store(RemoteRepository repository, String path, Path file) throws IOException {
+        String digest = computeDigest(file);
+        Path object = getObject(digest);
+        if (!Files.isRegularFile(object)) {
+            linkOrCopy(file, object);
+        }
+        Path indexFile = getIndexFile(repository, path);
+        Path tempFile = createTempFile(indexFile);
+        try {
+            Files.writeString(tempFile, digest, StandardCharsets.UTF_8);
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Seeds a local repository with an artifact from the store.
+     *
+     * @param repository The remote repository of the artifact.
+     * @param path The path of the artifact relative to the local repository.
+     * @param target The location of the artifact in the local repository.
+     * @return {@code true} if the artifact was found in the store and its digest is valid.
+     */
+    boolean seed(RemoteRepository repository, String path, Path target) throws IOException {
+        String digest = readDigest(getIndexFile(repository, path));
+        if (digest == null) {
+            return false;
+        }
+        Path object = getObject(digest);
+        if (!Files.isRegularFile(object)) {
+            return false;
+        }
+        // A hard link shares its content with the local repositories, which might have modified it
+        if (!digest.equals(computeDigest(object))) {
+            Files.deleteIfExists(object);
+            return false;
+        }
+        linkOrCopy(object, target);
+        return true;
+    }
+
+    private static @Nullable String readDigest(Path indexFile) throws IOException {
+        try {
+            String digest = Files.readString(indexFile, StandardCharsets.UTF_8).trim();
+            return SHA_256.matcher(digest).matches() ? digest : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private static String computeDigest(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return DigestUtils.sha256Hex(input);
+        }
+    }
+
+    private Path getObject(String digest) {
+        return objects.resolve(digest.substring(0, 2)).resolve(digest);
+    }
+
+    private Path getIndexFile(RemoteRepository repository, String path) {
+        // The path comes from the local repository manager and does not contain `..` segments
+        return index.resolve(DigestUtils.sha256Hex(repository.getUrl()).substring(0, 16))
+                .resolve(path + ".sha256");
+    }
+
+    /**
+     * Creates a hard link to a file or copies it, if hard links are not supported (e.g. on different file systems).
+     */
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        Path tempFile = createTempFile(target);
+        try {
+            Files.delete(tempFile);
+            try {
+                Files.createLink(tempFile, source);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static Path createTempFile(Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        if (directory == null) {
+            throw new IOException("Invalid location: " + target);
+        }
+        Files.createDirectories(directory);
+        return Files.createTempFile(directory, UUID.randomUUID().toString(), ".tmp");
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.LocalArtifactRegistration;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
+import org.eclipse.aether.repository.LocalMetadataRegistration;
+import org.eclipse.aether.repository.LocalMetadataRequest;
+import org.eclipse.aether.repository.LocalMetadataResult;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * A local repository manager, which copies the released artifacts from and to a {@link SeedStore}.
+ * <p>
+ *     The artifacts of the store are registered as downloaded from the same remote repository, so the isolation from
+ *     the artifacts installed locally is preserved.
+ *     Snapshots are never seeded.
+ * </p>
+ */
+final class SeedingLocalRepositoryManager implements LocalRepositoryManager {
+
+    private final LocalRepositoryManager delegate;
+    private final SeedStore store;
+    private final Path basedir;
+
+    SeedingLocalRepositoryManager(LocalRepositoryManager delegate, SeedStore store) {
+        this.delegate = delegate;
+        this.store = store;
+        this.basedir = delegate.getRepository().getBasedir().toPath();
+    }
+
+    @Override
+    public LocalRepository getRepository() {
+        return delegate.getRepository();
+    }
+
+    @Override
+    public String getPathForLocalArtifact(Artifact artifact) {
+        return delegate.getPathForLocalArtifact(artifact);
+    }
+
+    @Override
+    public String getPathForRemoteArtifact(Artifact artifact, RemoteRepository repository, String context) {
+        return delegate.getPathForRemoteArtifact(artifact, repository, context);
+    }
+
+    @Override
+    public String getPathForLocalMetadata(Metadata metadata) {
+        return delegate.getPathForLocalMetadata(metadata);
+    }
+
+    @Override
+    public String getPathForRemoteMetadata(Metadata metadata, RemoteRepository repository, String context) {
+        return delegate.getPathForRemoteMetadata(metadata, repository, context);
+    }
+
+    @Override
+    public LocalArtifactResult find(RepositorySystemSession session, LocalArtifactRequest request) {
+        LocalArtifactResult result = delegate.find(session, request);
+        Artifact artifact = request.getArtifact();
+        if (result.isAvailable() || artifact.isSnapshot()) {
+            return result;
+        }
+        String context = Objects.toString(request.getContext(), "");
+        for (RemoteRepository repository : request.getRepositories()) {
+            String path = delegate.getPathForRemoteArtifact(artifact, repository, context);
+            try {
+                if (store.seed(repository, path, basedir.resolve(path))) {
+                    delegate.add(session, new LocalArtifactRegistration(artifact, repository, List.of(context)));
+                    return delegate.find(session, request);
+                }
+            } catch (IOException e) {
+                // The artifact is downloaded again
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void add(RepositorySystemSession session, LocalArtifactRegistration request) {
+        delegate.add(session, request);
+        Artifact artifact = request.getArtifact();
+        RemoteRepository repository = request.getRepository();
+        // Only the artifacts downloaded from a remote repository are stored
+        if (repository != null && !artifact.isSnapshot()) {
+            Collection<String> contexts = request.getContexts();
+            String context = contexts.isEmpty() ? "" : contexts.iterator().next();
+            String path = delegate.getPathForRemoteArtifact(artifact, repository, context);
+            Path file = basedir.resolve(path);
+            if (Files.isRegularFile(file)) {
+                try {
+                    store.store(repository, path, file);
+                } catch (IOException e) {
+                    // The store is only an optimization
+                }
+            }
+        }
+    }
+
+    @Override
+    public LocalMetadataResult find(RepositorySystemSession session, LocalMetadataRequest request) {
+        return delegate.find(session, request);
+    }
+
+    @Override
+    public void add(RepositorySystemSession session, LocalMetadataRegistration request) {
+        delegate.add(session, request);
+    }
+}
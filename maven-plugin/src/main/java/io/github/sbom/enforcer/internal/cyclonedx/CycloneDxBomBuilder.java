@@ -23,11 +23,20 @@ import io.github.sbom.enforcer.BomBuilderRequest;
 import io.github.sbom.enforcer.BomBuildingException;
 import io.github.sbom.enforcer.Component;
 import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
-import io.github.sbom.enforcer.internal.Artifacts;
-import io.github.sbom.enforcer.support.DefaultBillOfMaterials;
+import io.github.sbom.enforcer.ComponentListener;
+import io.github.sbom.enforcer.internal.BillOfMaterialsAssembler;
+import io.github.sbom.enforcer.internal.BomSnapshots;
+import io.github.sbom.enforcer.internal.ComponentResolver;
+import io.github.sbom.enforcer.internal.Metrics;
+import io.github.sbom.enforcer.internal.jfr.ParseBomEvent;
 import io.github.sbom.enforcer.support.DefaultComponent;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -39,8 +48,6 @@ import org.cyclonedx.model.Metadata;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
-import org.eclipse.aether.repository.RemoteRepository;
-import org.eclipse.aether.resolution.ArtifactResolutionException;
 
 /**
  * Creates a {@link BillOfMaterials} model for a CycloneDX document.
@@ -50,6 +57,14 @@ import org.eclipse.aether.resolution.ArtifactResolutionException;
 @org.codehaus.plexus.component.annotations.Component(role = BomBuilder.class, hint = "cyclonedx")
 public class CycloneDxBomBuilder implements BomBuilder {
 
+    private static final ComponentListener NO_OP_LISTENER = new ComponentListener() {
+        @Override
+        public void onMainComponent(Component component) {}
+
+        @Override
+        public void onComponent(Component dependency) {}
+    };
+
     private final RepositorySystem repoSystem;
     private final Logger logger;
 
@@ -67,20 +82,116 @@ public class CycloneDxBomBuilder implements BomBuilder {
     @Override
     public BillOfMaterials build(RepositorySystemSession repoSession, BomBuilderRequest request)
             throws BomBuildingException {
-        Bom bom = CycloneDxUtils.parseArtifact(request.getMainBillOfMaterials());
+        return build(repoSession, request, NO_OP_LISTENER);
+    }
+
+    @Override
+    public BillOfMaterials build(
+            RepositorySystemSession repoSession, BomBuilderRequest request, ComponentListener listener)
+            throws BomBuildingException {
+        Metrics metrics = Metrics.of(repoSession);
+        ComponentResolver resolver = new ComponentResolver(repoSystem, repoSession, logger);
+        Path snapshotDirectory = request.getSnapshotDirectory();
+        Path snapshotFile = null;
+        String snapshotKey = null;
+        if (snapshotDirectory != null && request.getMainBillOfMaterials().getFile() != null) {
+            snapshotFile = BomSnapshots.getSnapshotFile(snapshotDirectory, request.getMainBillOfMaterials());
+            try (Metrics.Measurement measurement = metrics.start(Metrics.SNAPSHOT)) {
+                snapshotKey = BomSnapshots.computeKey(repoSession, request.getMainBillOfMaterials());
+                BillOfMaterials snapshot = BomSnapshots.read(snapshotFile, snapshotKey, request, resolver);
+                if (snapshot != null) {
+                    measurement.addBytes(Files.size(snapshotFile));
+                    logger.debug("Loaded the model of " + request.getMainBillOfMaterials() + " from " + snapshotFile);
+                    listener.onMainComponent(snapshot.getComponent());
+                    snapshot.getDependencies().forEach(listener::onComponent);
+                    return snapshot;
+                }
+            } catch (IOException e) {
+                logger.debug("Ignoring unreadable snapshot " + snapshotFile, e);
+            }
+        }
+        Bom bom;
+        ParseBomEvent event = new ParseBomEvent();
+        event.begin();
+        try (Metrics.Measurement measurement = metrics.start(Metrics.PARSE)) {
+            File file = request.getMainBillOfMaterials().getFile();
+            long bytes = file != null ? file.length() : 0L;
+            measurement.addBytes(bytes);
+            bom = CycloneDxUtils.parseArtifact(request.getMainBillOfMaterials());
+            if (event.shouldCommit()) {
+                event.setCoordinates(request.getMainBillOfMaterials().toString());
+                event.setBytes(bytes);
+                event.setComponents(nullToEmpty(bom.getComponents()).size());
+                event.commit();
+            }
+        }
         org.cyclonedx.model.Component cdxComponent = getMainComponent(request, bom);
         Component mainComponent =
                 processMainComponent(cdxComponent, request.getArtifact(), request.getAllBillsOfMaterials());
-        DefaultBillOfMaterials.Builder builder = DefaultBillOfMaterials.newBuilder()
-                .setBillOfMaterials(request.getMainBillOfMaterials())
-                .setComponent(mainComponent);
+        listener.onMainComponent(mainComponent);
+        List<org.cyclonedx.model.Component> dependencies = nullToEmpty(bom.getComponents());
+        BillOfMaterialsAssembler assembler = new BillOfMaterialsAssembler(
+                request.getMainBillOfMaterials(), mainComponent, dependencies.size(), resolver);
         // Create dependencies
-        for (org.cyclonedx.model.Component dependency : nullToEmpty(bom.getComponents())) {
-            builder.addDependency(createDependency(repoSession, dependency));
+        boolean resolved = request.isPrefetchFiles();
+        if (request.isPrefetchFiles()) {
+            for (int start = 0; start < dependencies.size(); start += ComponentResolver.BATCH_SIZE) {
+                List<org.cyclonedx.model.Component> batch = dependencies.subList(
+                        start, Math.min(start + ComponentResolver.BATCH_SIZE, dependencies.size()));
+                for (Component component : createDependencies(resolver, batch)) {
+                    resolved &= component.getArtifact().getFile() != null;
+                    assembler.addDependency(component);
+                    listener.onComponent(component);
+                }
+            }
+        } else {
+            for (org.cyclonedx.model.Component dependency : dependencies) {
+                DefaultComponent.Builder builder = DefaultComponent.newBuilder();
+                processGenericComponent(builder, dependency);
+                Component component = resolver.createLazyComponent(builder, CycloneDxUtils.toArtifact(dependency));
+                assembler.addDependency(component);
+                listener.onComponent(component);
+            }
+        }
+        BillOfMaterials billOfMaterials = assembler.get();
+        // Artifacts that failed to resolve are retried in the next build, lazy artifacts might never be resolved
+        if (snapshotFile != null && snapshotKey != null && resolved) {
+            writeSnapshot(metrics, snapshotFile, snapshotKey, billOfMaterials);
+        }
+        return billOfMaterials;
+    }
+
+    @Override
+    public List<Component> readComponents(Artifact billOfMaterials) throws BomBuildingException {
+        Bom bom = CycloneDxUtils.parseArtifact(billOfMaterials);
+        List<org.cyclonedx.model.Component> dependencies = nullToEmpty(bom.getComponents());
+        List<Component> components = new ArrayList<>(dependencies.size() + 1);
+        Metadata metadata = bom.getMetadata();
+        if (metadata != null && metadata.getComponent() != null) {
+            components.add(readComponent(metadata.getComponent()));
         }
+        for (org.cyclonedx.model.Component dependency : dependencies) {
+            components.add(readComponent(dependency));
+        }
+        return components;
+    }
+
+    private static Component readComponent(org.cyclonedx.model.Component cdxComponent) throws BomBuildingException {
+        DefaultComponent.Builder builder =
+                DefaultComponent.newBuilder().setArtifact(CycloneDxUtils.toArtifact(cdxComponent));
+        processGenericComponent(builder, cdxComponent);
         return builder.get();
     }
 
+    private void writeSnapshot(Metrics metrics, Path snapshotFile, String snapshotKey, BillOfMaterials bom) {
+        try (Metrics.Measurement measurement = metrics.start(Metrics.SNAPSHOT)) {
+            BomSnapshots.write(snapshotFile, snapshotKey, bom);
+            measurement.addBytes(Files.size(snapshotFile));
+        } catch (IOException e) {
+            logger.warn("Failed to write snapshot " + snapshotFile, e);
+        }
+    }
+
     private static org.cyclonedx.model.Component getMainComponent(BomBuilderRequest request, Bom bom)
             throws BomBuildingException {
         Metadata metadata = bom.getMetadata();
@@ -107,42 +218,25 @@ public class CycloneDxBomBuilder implements BomBuilder {
         return builder.get();
     }
 
-    private Component createDependency(RepositorySystemSession repoSession, org.cyclonedx.model.Component cdxComponent)
-            throws BomBuildingException {
-        Artifact artifact = CycloneDxUtils.toArtifact(cdxComponent);
-        RemoteRepository remoteRepository = Artifacts.getRemoteRepository(artifact, repoSession);
-        try {
-            artifact = Artifacts.downloadArtifact(repoSystem, repoSession, artifact, remoteRepository);
-        } catch (ArtifactResolutionException e) {
-            // This usually happens for "aggregate" SBOMs and artifacts from the reactor that were not built yet.
-            logger.warn("Failed to download artifact " + artifact);
-        }
-        DefaultComponent.Builder builder = DefaultComponent.newBuilder().setArtifact(artifact);
-        processGenericComponent(builder, cdxComponent);
-        for (Artifact bom : findBomArtifacts(repoSession, artifact, remoteRepository)) {
-            builder.addBillOfMaterials(bom);
+    /**
+     * Creates a batch of dependencies, whose files are resolved together.
+     */
+    private static List<Component> createDependencies(
+            ComponentResolver resolver, List<org.cyclonedx.model.Component> cdxComponents) throws BomBuildingException {
+        List<Artifact> artifacts = new ArrayList<>(cdxComponents.size());
+        for (org.cyclonedx.model.Component cdxComponent : cdxComponents) {
+            artifacts.add(CycloneDxUtils.toArtifact(cdxComponent));
         }
-        return builder.get();
-    }
-
-    private Collection<Artifact> findBomArtifacts(
-            RepositorySystemSession repoSession, Artifact artifact, RemoteRepository remoteRepository) {
-        Collection<Artifact> bomArtifacts = new ArrayList<>();
-        Artifact cycloneDxArtifact =
-                Artifacts.withClassifier(artifact.setFile(null), CycloneDxUtils.CYCLONE_DX_CLASSIFIER);
-        for (String extension : new String[] {"xml", "json"}) {
-            try {
-                Artifact bom = Artifacts.downloadArtifact(
-                        repoSystem,
-                        repoSession,
-                        Artifacts.withExtension(cycloneDxArtifact, extension),
-                        remoteRepository);
-                bomArtifacts.add(bom);
-            } catch (ArtifactResolutionException e) {
-                // The artifact is not present
-            }
+        List<Artifact> resolvedArtifacts = resolver.resolveArtifacts(artifacts);
+        List<List<Artifact>> billsOfMaterials = resolver.findBillsOfMaterials(artifacts);
+        List<Component> components = new ArrayList<>(cdxComponents.size());
+        for (int i = 0; i < cdxComponents.size(); i++) {
+            DefaultComponent.Builder builder = DefaultComponent.newBuilder().setArtifact(resolvedArtifacts.get(i));
+            processGenericComponent(builder, cdxComponents.get(i));
+            billsOfMaterials.get(i).forEach(builder::addBillOfMaterials);
+            components.add(builder.get());
         }
-        return bomArtifacts;
+        return components;
     }
 
     // package-private for testing
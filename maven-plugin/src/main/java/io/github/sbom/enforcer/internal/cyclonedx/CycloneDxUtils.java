@@ -21,6 +21,8 @@ import com.github.packageurl.PackageURLBuilder;
 import io.github.sbom.enforcer.BomBuildingException;
 import io.github.sbom.enforcer.Component.Properties;
 import io.github.sbom.enforcer.internal.CollectionUtils;
+import io.github.sbom.enforcer.internal.CompactArtifact;
+import io.github.sbom.enforcer.internal.MemoCache;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
@@ -32,7 +34,6 @@ import org.cyclonedx.parsers.Parser;
 import org.cyclonedx.parsers.XmlParser;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.ArtifactProperties;
-import org.eclipse.aether.artifact.DefaultArtifact;
 
 public final class CycloneDxUtils {
 
@@ -44,6 +45,15 @@ public final class CycloneDxUtils {
     private static final String XML = "xml";
     private static final String JSON = "json";
 
+    /**
+     * Maximal number of distinct package URLs that are cached.
+     */
+    private static final int MEMO_CACHE_SIZE = 16_384;
+
+    // The same package URLs appear in the SBOMs of all the modules of a reactor
+    private static final MemoCache<String, PackageURL> PACKAGE_URLS = new MemoCache<>(MEMO_CACHE_SIZE);
+    private static final MemoCache<PackageURL, Artifact> ARTIFACTS = new MemoCache<>(MEMO_CACHE_SIZE);
+
     public static Bom parseArtifact(Artifact artifact) throws BomBuildingException {
         File file = artifact.getFile();
         try {
@@ -55,7 +65,10 @@ public final class CycloneDxUtils {
     }
 
     public static Artifact toArtifact(Component component) throws BomBuildingException {
-        PackageURL packageURL = toPackageURL(component);
+        return ARTIFACTS.get(toPackageURL(component), CycloneDxUtils::toArtifact);
+    }
+
+    private static Artifact toArtifact(PackageURL packageURL) {
         Map<String, String> qualifiers = CollectionUtils.nullToEmpty(packageURL.getQualifiers());
         String type = qualifiers.getOrDefault(ArtifactProperties.TYPE, "jar");
         String classifier = qualifiers.get(CLASSIFIER);
@@ -66,16 +79,15 @@ public final class CycloneDxUtils {
         if (repositoryUrl != null) {
             properties.put(Properties.REPOSITORY_URL, repositoryUrl);
         }
-        return new DefaultArtifact(
-                        packageURL.getNamespace(), packageURL.getName(), classifier, type, packageURL.getVersion())
-                .setProperties(properties);
+        return new CompactArtifact(
+                packageURL.getNamespace(), packageURL.getName(), classifier, type, packageURL.getVersion(), properties);
     }
 
     public static PackageURL toPackageURL(Component component) throws BomBuildingException {
         String purl = component.getPurl();
         try {
             if (purl != null) {
-                return new PackageURL(purl);
+                return PACKAGE_URLS.get(purl, PackageURL::new);
             }
             String group = component.getGroup();
             if (group != null) {
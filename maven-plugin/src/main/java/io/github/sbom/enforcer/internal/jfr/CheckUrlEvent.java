@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JFR event emitted when an external reference is checked.
+ */
+@Name("io.github.sbom.enforcer.CheckUrl")
+@Label("Check URL")
+@Category("SBOM Enforcer")
+@Description("HTTP request to verify an external reference")
+@StackTrace(false)
+// The fields are read by the JFR runtime
+@SuppressWarnings("UnusedVariable")
+public final class CheckUrlEvent extends jdk.jfr.Event {
+
+    @Label("URL")
+    private @Nullable String url;
+
+    @Label("Host")
+    private @Nullable String host;
+
+    @Label("Status")
+    @Description("HTTP response code or -1 if the connection failed")
+    private int status = -1;
+
+    @Label("Cached")
+    @Description("Whether the response code was retrieved from the cache")
+    private boolean cached;
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public void setCached(boolean cached) {
+        this.cached = cached;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JFR event emitted when the checksum of a file is computed.
+ */
+@Name("io.github.sbom.enforcer.HashFile")
+@Label("Hash File")
+@Category("SBOM Enforcer")
+@Description("Computation of the checksum of an artifact file")
+@StackTrace(false)
+// The fields are read by the JFR runtime
+@SuppressWarnings("UnusedVariable")
+public final class HashFileEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    private @Nullable String path;
+
+    @Label("Algorithm")
+    private @Nullable String algorithm;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Valid")
+    @Description("Whether the computed checksum matches the one in the SBOM")
+    private boolean valid;
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+}
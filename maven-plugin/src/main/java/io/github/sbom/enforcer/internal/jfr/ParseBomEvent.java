@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JFR event emitted when an SBOM document is parsed.
+ */
+@Name("io.github.sbom.enforcer.ParseBom")
+@Label("Parse SBOM")
+@Category("SBOM Enforcer")
+@Description("Parsing of an SBOM document")
+@StackTrace(false)
+// The fields are read by the JFR runtime
+@SuppressWarnings("UnusedVariable")
+public final class ParseBomEvent extends jdk.jfr.Event {
+
+    @Label("Coordinates")
+    @Description("Maven coordinates of the SBOM artifact")
+    private @Nullable String coordinates;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Components")
+    @Description("Number of components in the SBOM")
+    private int components;
+
+    public void setCoordinates(String coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setComponents(int components) {
+        this.components = components;
+    }
+}
@@ -15,7 +15,7 @@
  */
 @Export
 @NullMarked
-@Version("0.1.0")
+@Version("0.2.0")
 package io.github.sbom.enforcer;
 
 import org.jspecify.annotations.NullMarked;
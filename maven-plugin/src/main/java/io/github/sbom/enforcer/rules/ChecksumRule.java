@@ -15,12 +15,19 @@
  */
 package io.github.sbom.enforcer.rules;
 
-import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.CancellationToken;
 import io.github.sbom.enforcer.Component;
 import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
-import io.github.sbom.enforcer.EnforcerRule;
+import io.github.sbom.enforcer.SampledRule;
+import io.github.sbom.enforcer.Sampler;
+import io.github.sbom.enforcer.VerdictCache;
+import io.github.sbom.enforcer.internal.jfr.HashFileEvent;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,43 +36,50 @@ import javax.inject.Named;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.maven.plugin.MojoFailureException;
+import org.eclipse.aether.artifact.Artifact;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Rules to check if the checksums present in the SBOM are correct.
  */
 @Named("checksum")
-public class ChecksumRule implements EnforcerRule {
+public class ChecksumRule implements SampledRule {
+
+    private static final String MISSING_FILE = "Missing file for artifact: ";
+    private static final String FAILED_CHECKSUM = "Failed to calculate checksum for file ";
+    /**
+     * Size of the chunks of a file that are hashed between two checks of the cancellation token.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     @Override
-    public void execute(BillOfMaterials bom) throws MojoFailureException {
-        List<String> errors = new ArrayList<>(validateChecksums(bom.getComponent()));
-        for (Component dependency : bom.getDependencies()) {
-            errors.addAll(validateChecksums(dependency));
-        }
+    public ResourceClass getResourceClass() {
+        return ResourceClass.CPU;
+    }
 
-        if (!errors.isEmpty()) {
-            String message = errors.stream()
-                    .sorted()
-                    .collect(Collectors.joining(
-                            "\n* ",
-                            "\nSBOM " + bom.getBillOfMaterials().getFile() + " contains invalid checksums:\n* ",
-                            ""));
-            throw new MojoFailureException(message);
-        }
+    @Override
+    public Checker newChecker(Artifact billOfMaterials, VerdictCache cache) {
+        return newChecker(billOfMaterials, cache, CancellationToken.none());
+    }
+
+    @Override
+    public Checker newChecker(
+            Artifact billOfMaterials, VerdictCache cache, CancellationToken cancellation, Sampler sampler) {
+        return new ChecksumChecker(billOfMaterials, cache, cancellation, sampler);
     }
 
-    private static List<String> validateChecksums(Component component) {
+    private static List<String> validateChecksums(Component component, CancellationToken cancellation) {
         // If there are no checksums, there is nothing to validate
         if (component.getChecksums().isEmpty()) {
             return List.of();
         }
         File file = component.getArtifact().getFile();
         if (file == null || !file.exists()) {
-            return List.of("Missing file for artifact: " + component.getArtifact());
+            return List.of(MISSING_FILE + component.getArtifact());
         }
         return component.getChecksums().entrySet().stream()
                 .<String>mapMulti((entry, consumer) -> {
-                    String error = validateChecksum(entry.getKey(), entry.getValue(), file);
+                    String error = validateChecksum(entry.getKey(), entry.getValue(), file, cancellation);
                     if (error != null) {
                         consumer.accept(error);
                     }
@@ -73,20 +87,133 @@ public class ChecksumRule implements EnforcerRule {
                 .toList();
     }
 
+    /**
+     * Describes the identity of a file.
+     * <p>
+     *     A file that is replaced or modified in place, e.g. by a new download, gets a different description.
+     * </p>
+     *
+     * @return The path, size and modification time of the file or {@code null} if the file does not exist.
+     */
+    private static @Nullable String describeFile(@Nullable File file) {
+        if (file == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            return file.getAbsolutePath()
+                    + ' '
+                    + attributes.size()
+                    + ' '
+                    + attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     static @Nullable String validateChecksum(ChecksumAlgorithm algorithm, String expectedValue, File file) {
+        return validateChecksum(algorithm, expectedValue, file, CancellationToken.none());
+    }
+
+    /**
+     * Checks the checksum of a file.
+     * <p>
+     *     The token is checked before each chunk of the file, so that large files do not delay a cancellation.
+     * </p>
+     */
+    static @Nullable String validateChecksum(
+            ChecksumAlgorithm algorithm, String expectedValue, File file, CancellationToken cancellation) {
+        HashFileEvent event = new HashFileEvent();
+        event.begin();
         try {
             MessageDigest digest = DigestUtils.getDigest(algorithm.toJce());
-            String computedValue = Hex.encodeHexString(DigestUtils.digest(digest, file));
+            try (InputStream input = new FileInputStream(file)) {
+                byte[] buffer = new byte[CHUNK_SIZE];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    cancellation.throwIfCancelled();
+                    digest.update(buffer, 0, read);
+                }
+            }
+            String computedValue = Hex.encodeHexString(digest.digest());
+            if (event.shouldCommit()) {
+                event.setPath(file.getPath());
+                event.setAlgorithm(algorithm.toJce());
+                event.setBytes(file.length());
+                event.setValid(expectedValue.equals(computedValue));
+                event.commit();
+            }
             if (!expectedValue.equals(computedValue)) {
                 return "Invalid " + algorithm + " checksum for file " + file.getName() + ": expecting `" + expectedValue
                         + "` but got `" + computedValue + "`";
             }
         } catch (IllegalArgumentException e) {
-            return "Failed to calculate checksum for file " + file.getName() + ": algorithm " + algorithm.toJce()
-                    + " is not supported.";
+            return FAILED_CHECKSUM + file.getName() + ": algorithm " + algorithm.toJce() + " is not supported.";
         } catch (IOException e) {
-            return "Failed to calculate checksum for file " + file.getName() + ": " + e;
+            return FAILED_CHECKSUM + file.getName() + ": " + e;
         }
         return null;
     }
+
+    private static final class ChecksumChecker implements Checker {
+
+        private final Artifact billOfMaterials;
+        private final VerdictCache cache;
+        private final CancellationToken cancellation;
+        private final Sampler sampler;
+        private final List<String> errors = new ArrayList<>();
+
+        private ChecksumChecker(
+                Artifact billOfMaterials, VerdictCache cache, CancellationToken cancellation, Sampler sampler) {
+            this.billOfMaterials = billOfMaterials;
+            this.cache = cache;
+            this.cancellation = cancellation;
+            this.sampler = sampler;
+        }
+
+        @Override
+        public void onMainComponent(Component component) {
+            // The file of the main component is usually built by the current project
+            errors.addAll(validateChecksums(component, cancellation));
+        }
+
+        @Override
+        public void onComponent(Component dependency) {
+            if (!sampler.isSelected(dependency)) {
+                return;
+            }
+            // The verdict is only valid for the file that was checked
+            String context = describeFile(dependency.getArtifact().getFile());
+            List<String> dependencyErrors = context != null ? cache.get(dependency, context) : null;
+            if (dependencyErrors == null) {
+                dependencyErrors = validateChecksums(dependency, cancellation);
+                // Missing files and I/O errors are not cached
+                if (context != null
+                        && dependencyErrors.stream()
+                                .noneMatch(
+                                        error -> error.startsWith(MISSING_FILE) || error.startsWith(FAILED_CHECKSUM))) {
+                    cache.put(dependency, context, dependencyErrors, null);
+                }
+            }
+            errors.addAll(dependencyErrors);
+        }
+
+        @Override
+        public boolean hasFailed() {
+            return !errors.isEmpty();
+        }
+
+        @Override
+        public void finish() throws MojoFailureException {
+            if (!errors.isEmpty()) {
+                String message = errors.stream()
+                        .sorted()
+                        .collect(Collectors.joining(
+                                "\n* ",
+                                "\nSBOM " + billOfMaterials.getFile() + " contains invalid checksums:\n* ",
+                                ""));
+                throw new MojoFailureException(message);
+            }
+        }
+    }
 }
@@ -15,16 +15,20 @@
  */
 package io.github.sbom.enforcer.rules;
 
-import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.CancellationToken;
 import io.github.sbom.enforcer.Component;
 import io.github.sbom.enforcer.Component.ExternalReference;
-import io.github.sbom.enforcer.EnforcerRule;
+import io.github.sbom.enforcer.SampledRule;
+import io.github.sbom.enforcer.Sampler;
+import io.github.sbom.enforcer.VerdictCache;
+import io.github.sbom.enforcer.internal.jfr.CheckUrlEvent;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,10 +40,11 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.plugin.MojoFailureException;
 import org.codehaus.plexus.logging.Logger;
+import org.eclipse.aether.artifact.Artifact;
 import org.jspecify.annotations.Nullable;
 
 @Named("validateReferences")
-public class ValidateReferencesRule implements EnforcerRule {
+public class ValidateReferencesRule implements SampledRule {
 
     private static final Set<Integer> RESPONSE_CODES_AUTH =
             Set.of(HttpURLConnection.HTTP_UNAUTHORIZED, HttpURLConnection.HTTP_FORBIDDEN);
@@ -49,11 +54,23 @@ public class ValidateReferencesRule implements EnforcerRule {
 
     private static final int DEFAULT_MAX_FAILURES_PER_HOST = 3;
 
+    private static final int DEFAULT_VERDICT_TTL_HOURS = 24;
+
     private final Logger logger;
     private final HttpUrlChecker urlChecker;
     private final Map<String, Integer> failureCountByHost = new HashMap<>();
     private final Map<URI, Integer> responseCodeCache = new HashMap<>();
 
+    /**
+     * Number of references that could not be checked due to I/O errors.
+     */
+    private int transientFailures;
+
+    /**
+     * Number of references that were not selected by the sampler.
+     */
+    private int unsampledReferences;
+
     /**
      * If {@code true}, the rule will fail if any reference returns a `401` or `403` code.
      */
@@ -85,6 +102,14 @@ public class ValidateReferencesRule implements EnforcerRule {
      */
     int maxFailuresPerHost = DEFAULT_MAX_FAILURES_PER_HOST;
 
+    /**
+     * Number of hours the verdicts about the references of a dependency are cached.
+     * <p>
+     *     If {@code 0}, the verdicts are not cached.
+     * </p>
+     */
+    int verdictTtlHours = DEFAULT_VERDICT_TTL_HOURS;
+
     /**
      * Set of external reference types to include in the check.
      * <p>
@@ -121,35 +146,61 @@ public class ValidateReferencesRule implements EnforcerRule {
     }
 
     @Override
-    public void execute(BillOfMaterials bom) throws MojoFailureException {
-        List<String> errors = new ArrayList<>(validateReferences(bom.getComponent()));
-        List<String> dependencyErrors = new ArrayList<>();
-        if (checkDependencies) {
-            for (Component dependency : bom.getDependencies()) {
-                dependencyErrors.addAll(validateReferences(dependency));
-            }
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
 
-            if (failOnDependencies) {
-                errors.addAll(dependencyErrors);
-            } else {
-                dependencyErrors.stream().sorted().forEach(logger::warn);
-            }
-        }
+    @Override
+    public boolean requiresFiles() {
+        return false;
+    }
 
-        if (!errors.isEmpty()) {
-            String message = errors.stream()
-                    .sorted()
-                    .collect(Collectors.joining(
-                            "\n* ", "SBOM " + bom.getBillOfMaterials() + " contains invalid references:\n\n* ", ""));
-            throw new MojoFailureException(message);
+    @Override
+    public Checker newChecker(Artifact billOfMaterials, VerdictCache cache) {
+        return newChecker(billOfMaterials, cache, CancellationToken.none());
+    }
+
+    @Override
+    public Checker newChecker(
+            Artifact billOfMaterials, VerdictCache cache, CancellationToken cancellation, Sampler sampler) {
+        return new ReferencesChecker(billOfMaterials, cache, cancellation, sampler);
+    }
+
+    private List<String> validateReferences(
+            Component component, VerdictCache cache, CancellationToken cancellation, Sampler sampler) {
+        if (verdictTtlHours <= 0) {
+            return validateReferences(component, cancellation, sampler);
+        }
+        // The same component might have different references in different SBOMs
+        String context = component.getExternalReferences().stream()
+                .map(ExternalReference::getLocation)
+                .sorted()
+                .collect(Collectors.joining(" "));
+        List<String> errors = cache.get(component, context);
+        if (errors == null) {
+            int previousFailures = transientFailures;
+            int previousUnsampled = unsampledReferences;
+            errors = validateReferences(component, cancellation, sampler);
+            // The response of an unreachable server and the verdicts about a sample of the references are not cached
+            if (transientFailures == previousFailures && unsampledReferences == previousUnsampled) {
+                cache.put(component, context, errors, Duration.ofHours(verdictTtlHours));
+            }
         }
+        return errors;
     }
 
-    private List<String> validateReferences(Component component) {
+    private List<String> validateReferences(Component component, CancellationToken cancellation, Sampler sampler) {
         return component.getExternalReferences().stream()
                 .filter(this::shouldCheck)
+                .filter(ref -> {
+                    boolean selected = sampler.isSelected(component, ref.getLocation());
+                    if (!selected) {
+                        unsampledReferences++;
+                    }
+                    return selected;
+                })
                 .<String>mapMulti((ref, consumer) -> {
-                    String errorMessage = validateReference(ref.getLocation());
+                    String errorMessage = validateReference(ref.getLocation(), cancellation);
                     if (errorMessage != null) {
                         consumer.accept(errorMessage);
                     }
@@ -164,6 +215,18 @@ public class ValidateReferencesRule implements EnforcerRule {
 
     @Nullable
     String validateReference(String location) {
+        return validateReference(location, CancellationToken.none());
+    }
+
+    /**
+     * Checks a reference.
+     * <p>
+     *     The token is checked before each connection, the responses already known are reported even after a
+     *     cancellation.
+     * </p>
+     */
+    @Nullable
+    String validateReference(String location, CancellationToken cancellation) {
         try {
             URI uri = new URI(location);
             String scheme = uri.getScheme();
@@ -172,26 +235,39 @@ public class ValidateReferencesRule implements EnforcerRule {
                 // 1. Skip if error limit exceeded
                 Integer failureCount = failureCountByHost.get(url.getAuthority());
                 if (failureCount != null && failureCount >= maxFailuresPerHost) {
+                    transientFailures++;
                     logger.debug("Maximum IO errors reached for host: " + url.getAuthority());
                     return null;
                 }
                 // 2. Check the URL
+                CheckUrlEvent event = new CheckUrlEvent();
+                event.begin();
                 try {
                     Integer responseCode = responseCodeCache.get(uri);
                     if (responseCode == null) {
+                        cancellation.throwIfCancelled();
                         responseCode = urlChecker.getResponseCode(url);
                         responseCodeCache.put(uri, responseCode);
                     } else {
                         logger.debug("Using cached response for URL: " + url);
+                        event.setCached(true);
                     }
+                    event.setStatus(responseCode);
                     if (HttpURLConnection.HTTP_OK != responseCode
                             && (failOnAuth || !RESPONSE_CODES_AUTH.contains(responseCode))
                             && (failOnRedirect || !RESPONSE_CODES_REDIRECT.contains(responseCode))) {
                         return "Broken external reference (" + responseCode + "): " + location;
                     }
                 } catch (IOException e) {
+                    transientFailures++;
                     failureCountByHost.merge(url.getAuthority(), 1, Integer::sum);
                     return "Failed to connect to URL: " + location;
+                } finally {
+                    if (event.shouldCommit()) {
+                        event.setUrl(location);
+                        event.setHost(url.getAuthority());
+                        event.commit();
+                    }
                 }
             }
             return null;
@@ -240,6 +316,14 @@ public class ValidateReferencesRule implements EnforcerRule {
         this.maxFailuresPerHost = maxFailuresPerHost;
     }
 
+    public int getVerdictTtlHours() {
+        return verdictTtlHours;
+    }
+
+    public void setVerdictTtlHours(int verdictTtlHours) {
+        this.verdictTtlHours = verdictTtlHours;
+    }
+
     public int getTimeoutMs() {
         return urlChecker.getTimeoutMs();
     }
@@ -266,6 +350,59 @@ public class ValidateReferencesRule implements EnforcerRule {
         this.excludes = excludes;
     }
 
+    private final class ReferencesChecker implements Checker {
+
+        private final Artifact billOfMaterials;
+        private final VerdictCache cache;
+        private final CancellationToken cancellation;
+        private final Sampler sampler;
+        private final List<String> errors = new ArrayList<>();
+        private final List<String> dependencyErrors = new ArrayList<>();
+
+        private ReferencesChecker(
+                Artifact billOfMaterials, VerdictCache cache, CancellationToken cancellation, Sampler sampler) {
+            this.billOfMaterials = billOfMaterials;
+            this.cache = cache;
+            this.cancellation = cancellation;
+            this.sampler = sampler;
+        }
+
+        @Override
+        public void onMainComponent(Component component) {
+            // The references of the main component usually change with the current project and are never sampled
+            errors.addAll(validateReferences(component, cancellation, Sampler.all()));
+        }
+
+        @Override
+        public void onComponent(Component dependency) {
+            if (checkDependencies) {
+                dependencyErrors.addAll(validateReferences(dependency, cache, cancellation, sampler));
+            }
+        }
+
+        @Override
+        public boolean hasFailed() {
+            return !errors.isEmpty() || (failOnDependencies && !dependencyErrors.isEmpty());
+        }
+
+        @Override
+        public void finish() throws MojoFailureException {
+            if (failOnDependencies) {
+                errors.addAll(dependencyErrors);
+            } else {
+                dependencyErrors.stream().sorted().forEach(logger::warn);
+            }
+
+            if (!errors.isEmpty()) {
+                String message = errors.stream()
+                        .sorted()
+                        .collect(Collectors.joining(
+                                "\n* ", "SBOM " + billOfMaterials + " contains invalid references:\n\n* ", ""));
+                throw new MojoFailureException(message);
+            }
+        }
+    }
+
     interface HttpUrlChecker {
 
         /**
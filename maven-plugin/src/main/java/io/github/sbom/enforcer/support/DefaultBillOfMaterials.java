@@ -15,11 +15,15 @@
  */
 package io.github.sbom.enforcer.support;
 
+import com.github.packageurl.PackageURL;
 import io.github.sbom.enforcer.BillOfMaterials;
 import io.github.sbom.enforcer.Component;
 import io.github.sbom.enforcer.internal.Artifacts;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -28,12 +32,19 @@ import org.jspecify.annotations.Nullable;
 
 /**
  * Default {@link BillOfMaterials} implementation.
+ * <p>
+ *     The dependencies are indexed by group id and artifact id, by full coordinates and by package URL at construction
+ *     time, so that lookups run in constant time.
+ * </p>
  */
 public class DefaultBillOfMaterials implements BillOfMaterials {
 
     private final Artifact billOfMaterials;
     private final Component component;
-    private final Set<Component> dependencies;
+    private final List<Component> dependencies;
+    private final Map<ArtifactKey, List<Component>> dependenciesByArtifactKey;
+    private final Map<Coordinates, Component> dependenciesByCoordinates;
+    private final Map<PackageURL, Component> dependenciesByPurl;
 
     public static Builder newBuilder() {
         return new Builder();
@@ -42,7 +53,26 @@ public class DefaultBillOfMaterials implements BillOfMaterials {
     private DefaultBillOfMaterials(Artifact billOfMaterials, Component component, Set<Component> dependencies) {
         this.billOfMaterials = billOfMaterials;
         this.component = component;
-        this.dependencies = Collections.unmodifiableSet(dependencies);
+        // The sorted set is converted into an immutable list, which has a smaller memory footprint
+        this.dependencies = List.copyOf(dependencies);
+        Map<ArtifactKey, List<Component>> byArtifactKey = new HashMap<>();
+        Map<Coordinates, Component> byCoordinates = new HashMap<>();
+        Map<PackageURL, Component> byPurl = new HashMap<>();
+        for (Component dependency : this.dependencies) {
+            Artifact artifact = dependency.getArtifact();
+            byArtifactKey
+                    .computeIfAbsent(ArtifactKey.of(artifact), key -> new ArrayList<>(1))
+                    .add(dependency);
+            byCoordinates.putIfAbsent(Coordinates.of(artifact), dependency);
+            PackageURL purl = dependency.getPurl();
+            if (purl != null) {
+                byPurl.putIfAbsent(purl, dependency);
+            }
+        }
+        byArtifactKey.replaceAll((key, value) -> List.copyOf(value));
+        this.dependenciesByArtifactKey = byArtifactKey;
+        this.dependenciesByCoordinates = byCoordinates;
+        this.dependenciesByPurl = byPurl;
     }
 
     @Override
@@ -60,6 +90,40 @@ public class DefaultBillOfMaterials implements BillOfMaterials {
         return dependencies;
     }
 
+    @Override
+    public Collection<? extends Component> getDependencies(String groupId, String artifactId) {
+        return dependenciesByArtifactKey.getOrDefault(new ArtifactKey(groupId, artifactId), List.of());
+    }
+
+    @Override
+    public @Nullable Component getDependency(Artifact artifact) {
+        return dependenciesByCoordinates.get(Coordinates.of(artifact));
+    }
+
+    @Override
+    public @Nullable Component getDependency(PackageURL purl) {
+        return dependenciesByPurl.get(purl);
+    }
+
+    private record ArtifactKey(String groupId, String artifactId) {
+
+        private static ArtifactKey of(Artifact artifact) {
+            return new ArtifactKey(artifact.getGroupId(), artifact.getArtifactId());
+        }
+    }
+
+    private record Coordinates(String groupId, String artifactId, String version, String classifier, String extension) {
+
+        private static Coordinates of(Artifact artifact) {
+            return new Coordinates(
+                    artifact.getGroupId(),
+                    artifact.getArtifactId(),
+                    artifact.getVersion(),
+                    artifact.getClassifier(),
+                    artifact.getExtension());
+        }
+    }
+
     public static final class Builder implements Supplier<BillOfMaterials> {
         private @Nullable Artifact billOfMaterials;
         private @Nullable Component component;
@@ -17,6 +17,7 @@ package io.github.sbom.enforcer.support;
 
 import io.github.sbom.enforcer.BomBuilderRequest;
 import io.github.sbom.enforcer.internal.Artifacts;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
@@ -33,16 +34,24 @@ public class DefaultBomBuilderRequest implements BomBuilderRequest {
     private final Artifact artifact;
     private final Artifact mainBillOfMaterials;
     private final Set<Artifact> allBillsOfMaterials;
+    private final @Nullable Path snapshotDirectory;
+    private final boolean prefetchFiles;
 
     public static Builder newBuilder() {
         return new Builder();
     }
 
     private DefaultBomBuilderRequest(
-            Artifact artifact, Artifact mainBillOfMaterials, Set<Artifact> allBillsOfMaterials) {
+            Artifact artifact,
+            Artifact mainBillOfMaterials,
+            Set<Artifact> allBillsOfMaterials,
+            @Nullable Path snapshotDirectory,
+            boolean prefetchFiles) {
         this.artifact = artifact;
         this.mainBillOfMaterials = mainBillOfMaterials;
         this.allBillsOfMaterials = Collections.unmodifiableSet(allBillsOfMaterials);
+        this.snapshotDirectory = snapshotDirectory;
+        this.prefetchFiles = prefetchFiles;
     }
 
     @Override
@@ -60,10 +69,22 @@ public class DefaultBomBuilderRequest implements BomBuilderRequest {
         return allBillsOfMaterials;
     }
 
+    @Override
+    public @Nullable Path getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    @Override
+    public boolean isPrefetchFiles() {
+        return prefetchFiles;
+    }
+
     public static final class Builder implements Supplier<BomBuilderRequest> {
         private @Nullable Artifact artifact;
         private @Nullable Artifact mainBillOfMaterials;
         private final Set<Artifact> allBillsOfMaterials = new TreeSet<>(Artifacts::compare);
+        private @Nullable Path snapshotDirectory;
+        private boolean prefetchFiles = true;
 
         private Builder() {}
 
@@ -82,13 +103,24 @@ public class DefaultBomBuilderRequest implements BomBuilderRequest {
             return this;
         }
 
+        public Builder setSnapshotDirectory(@Nullable Path snapshotDirectory) {
+            this.snapshotDirectory = snapshotDirectory;
+            return this;
+        }
+
+        public Builder setPrefetchFiles(boolean prefetchFiles) {
+            this.prefetchFiles = prefetchFiles;
+            return this;
+        }
+
         @Override
         public BomBuilderRequest get() {
             if (artifact == null || mainBillOfMaterials == null) {
                 throw new IllegalStateException("Required `artifact` (" + artifact + ") and `mainBillOfMaterials` ("
                         + mainBillOfMaterials + ") arguments were not provided.");
             }
-            return new DefaultBomBuilderRequest(artifact, mainBillOfMaterials, allBillsOfMaterials);
+            return new DefaultBomBuilderRequest(
+                    artifact, mainBillOfMaterials, allBillsOfMaterials, snapshotDirectory, prefetchFiles);
         }
     }
 }
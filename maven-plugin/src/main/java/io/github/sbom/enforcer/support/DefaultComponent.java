@@ -17,10 +17,11 @@ package io.github.sbom.enforcer.support;
 
 import com.github.packageurl.PackageURL;
 import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.internal.ArrayMap;
 import io.github.sbom.enforcer.internal.Artifacts;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -35,14 +36,21 @@ public final class DefaultComponent implements Component {
 
     private final Artifact artifact;
     private final @Nullable PackageURL purl;
-    private final Set<Artifact> billsOfMaterials;
-    private final Set<ExternalReference> externalReferences;
+    private final List<Artifact> billsOfMaterials;
+    private final List<ExternalReference> externalReferences;
     private final Map<ChecksumAlgorithm, String> checksums;
+    private int hashCode;
 
     public static Builder newBuilder() {
         return new Builder();
     }
 
+    /**
+     * Creates a component from the sorted contents of a builder.
+     * <p>
+     *     The sorted sets of the builder are converted into immutable lists, which have a smaller memory footprint.
+     * </p>
+     */
     private DefaultComponent(
             Artifact artifact,
             @Nullable PackageURL purl,
@@ -51,9 +59,9 @@ public final class DefaultComponent implements Component {
             Map<ChecksumAlgorithm, String> checksums) {
         this.artifact = artifact;
         this.purl = purl;
-        this.billsOfMaterials = Collections.unmodifiableSet(billsOfMaterials);
-        this.externalReferences = Collections.unmodifiableSet(externalReferences);
-        this.checksums = Collections.unmodifiableMap(checksums);
+        this.billsOfMaterials = List.copyOf(billsOfMaterials);
+        this.externalReferences = List.copyOf(externalReferences);
+        this.checksums = ArrayMap.copyOf(checksums);
     }
 
     @Override
@@ -94,7 +102,12 @@ public final class DefaultComponent implements Component {
 
     @Override
     public int hashCode() {
-        return Objects.hash(artifact, purl, billsOfMaterials, externalReferences, checksums);
+        int result = hashCode;
+        if (result == 0) {
+            result = Objects.hash(artifact, purl, billsOfMaterials, externalReferences, checksums);
+            hashCode = result;
+        }
+        return result;
     }
 
     public static final class Builder {
@@ -28,10 +28,12 @@ public final class DefaultExternalReference implements ExternalReference, Compar
     private final String referenceType;
     private final String location;
     private final @Nullable String contentType;
+    private int hashCode;
 
     public static ExternalReference of(String referenceType, String location) {
+        // Reference types come from a small vocabulary
         return new DefaultExternalReference(
-                Objects.requireNonNull(referenceType), Objects.requireNonNull(location), null);
+                Objects.requireNonNull(referenceType).intern(), Objects.requireNonNull(location), null);
     }
 
     private DefaultExternalReference(String referenceType, String location, @Nullable String contentType) {
@@ -83,6 +85,11 @@ public final class DefaultExternalReference implements ExternalReference, Compar
 
     @Override
     public int hashCode() {
-        return Objects.hash(referenceType, location, contentType);
+        int result = hashCode;
+        if (result == 0) {
+            result = Objects.hash(referenceType, location, contentType);
+            hashCode = result;
+        }
+        return result;
     }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.GeneratorException;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.Metadata;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates reproducible CycloneDX documents of arbitrary size.
+ * <p>
+ *     Shared by the scale tests of the plugin and by the benchmarks module.
+ * </p>
+ */
+public final class SyntheticBoms {
+
+    public static final String GROUP_ID = "org.example";
+    public static final String ARTIFACT_ID = "main";
+    public static final String VERSION = "1.0.0";
+
+    private static final ExternalReference.Type[] REFERENCE_TYPES = {
+        ExternalReference.Type.WEBSITE,
+        ExternalReference.Type.VCS,
+        ExternalReference.Type.ISSUE_TRACKER,
+        ExternalReference.Type.DISTRIBUTION,
+        ExternalReference.Type.MAILING_LIST,
+        ExternalReference.Type.DOCUMENTATION,
+        ExternalReference.Type.LICENSE,
+        ExternalReference.Type.BUILD_SYSTEM
+    };
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Writes a CycloneDX document to a directory.
+     *
+     * @param bom A CycloneDX document.
+     * @param directory The directory, where the document will be created.
+     * @param format The format of the document: either {@code xml} or {@code json}.
+     * @return A Maven artifact pointing to the created file.
+     */
+    public static Artifact write(Bom bom, Path directory, String format) throws GeneratorException, IOException {
+        Path file = directory.resolve(ARTIFACT_ID + "-" + VERSION + "-cyclonedx." + format);
+        Files.writeString(file, toString(bom, format), StandardCharsets.UTF_8);
+        return new DefaultArtifact(GROUP_ID, ARTIFACT_ID, "cyclonedx", format, VERSION).setFile(file.toFile());
+    }
+
+    /**
+     * Serializes a CycloneDX document.
+     *
+     * @param bom A CycloneDX document.
+     * @param format The format of the document: either {@code xml} or {@code json}.
+     */
+    public static String toString(Bom bom, String format) throws GeneratorException {
+        return "xml".equals(format)
+                ? BomGeneratorFactory.createXml(Version.VERSION_16, bom).toXmlString()
+                : BomGeneratorFactory.createJson(Version.VERSION_16, bom).toJsonString();
+    }
+
+    /**
+     * Creates a Maven component without hashes and external references.
+     *
+     * @param repositoryUrl The value of the {@code repository_url} qualifier of the Package URL, if any.
+     */
+    public static Component createComponent(
+            String groupId, String artifactId, String version, @Nullable String repositoryUrl) {
+        Component component = new Component();
+        component.setType(Component.Type.LIBRARY);
+        component.setBomRef(groupId + ":" + artifactId + ":" + version);
+        component.setGroup(groupId);
+        component.setName(artifactId);
+        component.setVersion(version);
+        TreeMap<String, String> qualifiers = new TreeMap<>();
+        qualifiers.put("type", "jar");
+        if (repositoryUrl != null) {
+            qualifiers.put("repository_url", repositoryUrl);
+        }
+        try {
+            component.setPurl(
+                    new PackageURL(PackageURL.StandardTypes.MAVEN, groupId, artifactId, version, qualifiers, null)
+                            .canonicalize());
+        } catch (MalformedPackageURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return component;
+    }
+
+    public static final class Builder implements Supplier<Bom> {
+
+        private int componentCount = 100;
+        private int groupCount = 100;
+        private List<Hash.Algorithm> hashAlgorithms = List.of(Hash.Algorithm.SHA1, Hash.Algorithm.SHA_256);
+        private int externalReferenceCount = 2;
+        private byte @Nullable [] artifactContent;
+        private long seed;
+
+        private Builder() {}
+
+        /**
+         * Sets the number of dependencies of the main component.
+         */
+        public Builder setComponentCount(int componentCount) {
+            this.componentCount = componentCount;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct group ids used by the dependencies.
+         */
+        public Builder setGroupCount(int groupCount) {
+            this.groupCount = groupCount;
+            return this;
+        }
+
+        /**
+         * Sets the hash algorithms used for each component.
+         */
+        public Builder setHashAlgorithms(Hash.Algorithm... hashAlgorithms) {
+            this.hashAlgorithms = List.of(hashAlgorithms);
+            return this;
+        }
+
+        /**
+         * Sets the number of external references of each component.
+         */
+        public Builder setExternalReferenceCount(int externalReferenceCount) {
+            this.externalReferenceCount = externalReferenceCount;
+            return this;
+        }
+
+        /**
+         * Sets the content of the artifact of each component.
+         * <p>
+         *     If set, the hashes of all the components are computed from this content, otherwise they are random.
+         * </p>
+         */
+        public Builder setArtifactContent(byte[] artifactContent) {
+            this.artifactContent = artifactContent.clone();
+            return this;
+        }
+
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        @Override
+        public Bom get() {
+            Random random = new Random(seed);
+            Bom bom = new Bom();
+            Metadata metadata = new Metadata();
+            metadata.setComponent(createComponent(GROUP_ID, ARTIFACT_ID, VERSION, random));
+            bom.setMetadata(metadata);
+            List<Component> components = new ArrayList<>(componentCount);
+            for (int i = 0; i < componentCount; i++) {
+                components.add(createComponent(
+                        GROUP_ID + ".group" + (i % groupCount), "artifact-" + i, "1." + (i % 10), random));
+            }
+            bom.setComponents(components);
+            return bom;
+        }
+
+        private Component createComponent(String groupId, String artifactId, String version, Random random) {
+            Component component = SyntheticBoms.createComponent(groupId, artifactId, version, null);
+            for (Hash.Algorithm algorithm : hashAlgorithms) {
+                component.addHash(new Hash(algorithm, createHash(algorithm, random)));
+            }
+            for (int i = 0; i < externalReferenceCount; i++) {
+                ExternalReference reference = new ExternalReference();
+                reference.setType(REFERENCE_TYPES[i % REFERENCE_TYPES.length]);
+                reference.setUrl("https://" + groupId + ".example.com/" + artifactId + "/" + i);
+                component.addExternalReference(reference);
+            }
+            return component;
+        }
+
+        private String createHash(Hash.Algorithm algorithm, Random random) {
+            MessageDigest digest = DigestUtils.getDigest(
+                    ChecksumAlgorithm.fromCycloneDx(algorithm.getSpec()).toJce());
+            if (artifactContent != null) {
+                return Hex.encodeHexString(digest.digest(artifactContent));
+            }
+            StringBuilder builder = new StringBuilder(2 * digest.getDigestLength());
+            for (int i = 0; i < digest.getDigestLength(); i++) {
+                builder.append(String.format(Locale.ROOT, "%02x", random.nextInt(256)));
+            }
+            return builder.toString();
+        }
+    }
+
+    private SyntheticBoms() {}
+}
@@ -31,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
@@ -184,6 +185,7 @@ class CheckMojoTest {
                 .as("maxFailuresPerHost")
                 .isEqualTo(expectedRule.getMaxFailuresPerHost());
         assertThat(actualRule.getTimeoutMs()).as("timeoutMs").isEqualTo(expectedRule.getTimeoutMs());
+        assertThat(actualRule.getVerdictTtlHours()).as("verdictTtlHours").isEqualTo(expectedRule.getVerdictTtlHours());
         assertThat(actualRule.getIncludes()).as("includes").isEqualTo(expectedRule.getIncludes());
         assertThat(actualRule.getExcludes()).as("excludes").isEqualTo(expectedRule.getExcludes());
     }
@@ -263,6 +265,94 @@ class CheckMojoTest {
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void singleDependencyProject(boolean usePrivateLocalRepo) throws Exception {
+        CheckMojo mojo = createCheckMojo(createSingleDependencyProject());
+        mojo.setUsePrivateLocalRepo(usePrivateLocalRepo);
+        mojo.setPrivateLocalRepoPath(altLocalRepositoryPath);
+        mojo.execute();
+    }
+
+    @Test
+    void singleDependencyProject_failFast() throws Exception {
+        CheckMojo mojo = createCheckMojo(createSingleDependencyProject());
+        mojo.setFailFast(true);
+        mojo.addRule(fromString("<checksum/>"));
+        mojo.addRule(fromString("<checksum/>"));
+        mojo.execute();
+    }
+
+    @Test
+    void singleDependencyProject_sampling(@TempDir Path fingerprintDirectory) throws Exception {
+        CheckMojo mojo = createCheckMojo(createSingleDependencyProject());
+        mojo.setFingerprintDirectory(fingerprintDirectory);
+        mojo.setSamplingRate(0.5);
+        mojo.setSamplingSeed("commit");
+        mojo.setSamplingBaseline(getResourcePath("single-dep-cyclonedx.xml"));
+        mojo.addRule(fromString("<checksum/>"));
+        mojo.execute();
+        // A sampled check does not prove that the SBOM is valid
+        assertThat(fingerprintDirectory).isEmptyDirectory();
+
+        mojo.setSamplingRate(0);
+        Assertions.assertThatThrownBy(mojo::execute)
+                .isInstanceOf(MojoExecutionException.class)
+                .hasMessageContaining("Invalid sampling rate");
+
+        // Without a seed, every build would check the same sample
+        mojo.setSamplingRate(0.5);
+        mojo.setSamplingSeed(null);
+        Assertions.assertThatThrownBy(mojo::execute)
+                .isInstanceOf(MojoExecutionException.class)
+                .hasMessageContaining("Missing sampling seed");
+    }
+
+    @Test
+    void singleDependencyProject_upToDate(@TempDir Path fingerprintDirectory) throws Exception {
+        CheckMojo mojo = createCheckMojo(createSingleDependencyProject());
+        mojo.setFingerprintDirectory(fingerprintDirectory);
+        mojo.addRule(fromString("<checksum/>"));
+        mojo.execute();
+        Path fingerprintFile = fingerprintDirectory.resolve("single-dep-cyclonedx.xml.fingerprint");
+        assertThat(fingerprintFile).exists();
+
+        // An up-to-date SBOM is not checked again, so the fingerprint is not rewritten
+        FileTime epoch = FileTime.fromMillis(0L);
+        Files.setLastModifiedTime(fingerprintFile, epoch);
+        mojo.execute();
+        assertThat(Files.getLastModifiedTime(fingerprintFile)).isEqualTo(epoch);
+
+        // A change in the configuration of the rules invalidates the fingerprint
+        mojo.addRule(fromString("<checksum/>"));
+        mojo.execute();
+        assertThat(Files.getLastModifiedTime(fingerprintFile)).isNotEqualTo(epoch);
+    }
+
+    @Test
+    void describeRules() throws Exception {
+        CheckMojo mojo = createCheckMojo();
+        mojo.addRule(fromString("<validateReferences><timeoutMs>1000</timeoutMs></validateReferences>"));
+        mojo.addRule(fromString("<checksum/>"));
+        assertThat(mojo.describeRules())
+                .hasSize(2)
+                .satisfiesExactly(
+                        description -> assertThat(description)
+                                .endsWith("<validateReferences><timeoutMs>1000</timeoutMs></validateReferences>"),
+                        description -> assertThat(description).endsWith("<checksum></checksum>"));
+    }
+
+    @Test
+    void singleDependencyProject_verdictCache(@TempDir Path verdictCacheDirectory) throws Exception {
+        CheckMojo mojo = createCheckMojo(createSingleDependencyProject());
+        mojo.setVerdictCacheDirectory(verdictCacheDirectory);
+        mojo.addRule(fromString("<checksum/>"));
+        mojo.execute();
+        try (Stream<Path> files = Files.walk(verdictCacheDirectory)) {
+            assertThat(files.filter(Files::isRegularFile))
+                    .singleElement()
+                    .satisfies(file -> assertThat(file.getParent()).hasFileName("checksum"));
+        }
+    }
+
+    private MavenProject createSingleDependencyProject() throws URISyntaxException {
         // Artifact
         Path mockArtifactPath = getResourcePath("mock-artifact.txt");
         Artifact artifact = new DefaultArtifact(
@@ -288,12 +378,8 @@ class CheckMojoTest {
         // Maven project
         MavenProject project = new MavenProject();
         project.setArtifact(artifact);
-        project.addAttachedArtifact(bomArtifact);
-
-        CheckMojo mojo = createCheckMojo(project);
-        mojo.setUsePrivateLocalRepo(usePrivateLocalRepo);
-        mojo.setPrivateLocalRepoPath(altLocalRepositoryPath);
-        mojo.execute();
+        project.getAttachedArtifacts().add(bomArtifact);
+        return project;
     }
 
     private Path getResourcePath(String resource) throws URISyntaxException {
@@ -21,12 +21,21 @@ import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.stream.Stream;
+import org.eclipse.aether.DefaultSessionData;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.Proxy;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.util.repository.AuthenticationBuilder;
+import org.eclipse.aether.util.repository.DefaultAuthenticationSelector;
+import org.eclipse.aether.util.repository.DefaultMirrorSelector;
+import org.eclipse.aether.util.repository.DefaultProxySelector;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -59,7 +68,7 @@ class ArtifactsTest {
         }
     }
 
-    private static Stream<Arguments> createRemoteRepository_propertyHandlesRepositoryUrls() {
+    static Stream<Arguments> createRemoteRepository_propertyHandlesRepositoryUrls() {
         return Stream.of(
                 Arguments.of(null, MAVEN_CENTRAL_URL),
                 Arguments.of(MAVEN_CENTRAL_URL, MAVEN_CENTRAL_URL),
@@ -80,4 +89,86 @@ class ArtifactsTest {
             assertThat(repo.getId()).isEqualTo("central");
         }
     }
+
+    @Test
+    void getRemoteRepository_usesMirrorProxyAndAuthentication() {
+        RepositorySystemSession repoSession = mock(RepositorySystemSession.class);
+        when(repoSession.getData()).thenReturn(new DefaultSessionData());
+        when(repoSession.getMirrorSelector())
+                .thenReturn(new DefaultMirrorSelector()
+                        .add("internal", "https://repo.example/maven2", "default", true, false, "*", "*"));
+        when(repoSession.getAuthenticationSelector())
+                .thenReturn(new DefaultAuthenticationSelector()
+                        .add(
+                                "internal",
+                                new AuthenticationBuilder()
+                                        .addUsername("user")
+                                        .addPassword("password")
+                                        .build()));
+        when(repoSession.getProxySelector())
+                .thenReturn(new DefaultProxySelector().add(new Proxy("https", "proxy.example", 8080), null));
+        Artifact artifact = new DefaultArtifact("groupId:artifactId:1.0.0");
+
+        RemoteRepository repo = Artifacts.getRemoteRepository(artifact, repoSession);
+        assertThat(repo.getId()).isEqualTo("internal");
+        assertThat(repo.getUrl()).isEqualTo("https://repo.example/maven2");
+        assertThat(repo.getMirroredRepositories())
+                .singleElement()
+                .extracting(RemoteRepository::getUrl)
+                .isEqualTo(MAVEN_CENTRAL_URL);
+        assertThat(repo.getAuthentication()).isNotNull();
+        assertThat(repo.getProxy()).isNotNull();
+        // The repositories are cached by URL
+        Artifact other = new DefaultArtifact(
+                "groupId:other:1.0.0", Collections.singletonMap("repository_url", "https://repo1.maven.org/maven2"));
+        assertThat(Artifacts.getRemoteRepository(other, repoSession)).isSameAs(repo);
+    }
+
+    @Test
+    void getRemoteRepository_isSharedByTheExecutions() {
+        RepositorySystemSession buildSession = mock(RepositorySystemSession.class);
+        when(buildSession.getData()).thenReturn(new DefaultSessionData());
+        when(buildSession.getChecksumPolicy()).thenReturn(RepositoryPolicy.CHECKSUM_POLICY_WARN);
+        Artifact artifact = new DefaultArtifact("groupId:artifactId:1.0.0");
+
+        RemoteRepository repo = Artifacts.getRemoteRepository(artifact, createExecutionSession(buildSession, null));
+        assertThat(Artifacts.getRemoteRepository(artifact, createExecutionSession(buildSession, null)))
+                .isSameAs(repo);
+        // A private local repository requires a different checksum policy
+        RemoteRepository privateRepo = Artifacts.getRemoteRepository(
+                artifact, createExecutionSession(buildSession, mock(LocalRepositoryManager.class)));
+        assertThat(privateRepo.getPolicy(false).getChecksumPolicy()).isEqualTo(RepositoryPolicy.CHECKSUM_POLICY_FAIL);
+        assertThat(repo.getPolicy(false).getChecksumPolicy()).isEqualTo(RepositoryPolicy.CHECKSUM_POLICY_WARN);
+    }
+
+    private static RepositorySystemSession createExecutionSession(
+            RepositorySystemSession buildSession, @Nullable LocalRepositoryManager localRepositoryManager) {
+        return new ExecutionRepositorySystemSession(
+                buildSession,
+                localRepositoryManager,
+                mock(TransferListener.class),
+                new DefaultSessionData(),
+                null,
+                false);
+    }
+
+    @Test
+    void getRemoteRepository_usesUrlAsServerId() {
+        String url = "https://repo.example/maven2";
+        RepositorySystemSession repoSession = mock(RepositorySystemSession.class);
+        when(repoSession.getAuthenticationSelector())
+                .thenReturn(new DefaultAuthenticationSelector()
+                        .add(
+                                url,
+                                new AuthenticationBuilder()
+                                        .addUsername("user")
+                                        .addPassword("password")
+                                        .build()));
+        Artifact artifact =
+                new DefaultArtifact("groupId:artifactId:1.0.0", Collections.singletonMap("repository_url", url));
+
+        RemoteRepository repo = Artifacts.getRemoteRepository(artifact, repoSession);
+        assertThat(repo.getId()).isEqualTo(url);
+        assertThat(repo.getAuthentication()).isNotNull();
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.BomBuilderRequest;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import io.github.sbom.enforcer.support.DefaultBillOfMaterials;
+import io.github.sbom.enforcer.support.DefaultBomBuilderRequest;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BomSnapshotsTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private Path dependencyFile;
+    private BomBuilderRequest request;
+    private BillOfMaterials bom;
+    private final ComponentResolver resolver = mock(ComponentResolver.class);
+
+    @BeforeEach
+    void setup() throws Exception {
+        Path mainFile = Files.writeString(tempDir.resolve("artifactId-1.0.0.jar"), "main");
+        Path bomFile = Files.writeString(tempDir.resolve("artifactId-1.0.0-cyclonedx.json"), "{}");
+        dependencyFile = Files.writeString(tempDir.resolve("dependency-1.0.0.jar"), "dependency");
+        Artifact mainArtifact = new DefaultArtifact("groupId:artifactId:1.0.0").setFile(mainFile.toFile());
+        Artifact bomArtifact = new DefaultArtifact("groupId:artifactId:json:cyclonedx:1.0.0").setFile(bomFile.toFile());
+        request = DefaultBomBuilderRequest.newBuilder()
+                .setArtifact(mainArtifact)
+                .setMainBillOfMaterials(bomArtifact)
+                .get();
+
+        Component mainComponent = DefaultComponent.newBuilder()
+                .setArtifact(mainArtifact)
+                .addBillOfMaterials(bomArtifact)
+                .setPurl(new PackageURL("pkg:maven/groupId/artifactId@1.0.0"))
+                .get();
+        Component dependency = DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact(
+                        "com.example",
+                        "zażółć",
+                        "tests",
+                        "jar",
+                        "1.0.0",
+                        Map.of("type", "test-jar", Component.Properties.REPOSITORY_URL, "https://example"),
+                        dependencyFile.toFile()))
+                .setPurl(new PackageURL(
+                        "maven", "com.example", "zażółć", "1.0.0", new TreeMap<>(Map.of("classifier", "tests")), null))
+                .addChecksum(ChecksumAlgorithm.SHA_256, "abcdef")
+                .addExternalReference("vcs", "https://example/zażółć")
+                .get();
+        bom = DefaultBillOfMaterials.newBuilder()
+                .setBillOfMaterials(bomArtifact)
+                .setComponent(mainComponent)
+                .addDependency(dependency)
+                .get();
+        // No SBOMs were published for the dependency
+        when(resolver.findBillsOfMaterials(any())).thenReturn(List.of(List.of()));
+    }
+
+    private String computeKey() throws IOException {
+        LocalRepositoryManager manager = mock(LocalRepositoryManager.class);
+        when(manager.getRepository())
+                .thenReturn(new LocalRepository(tempDir.resolve("repository").toFile()));
+        RepositorySystemSession repoSession = mock(RepositorySystemSession.class);
+        when(repoSession.getLocalRepositoryManager()).thenReturn(manager);
+        return BomSnapshots.computeKey(repoSession, request.getMainBillOfMaterials());
+    }
+
+    @Test
+    void snapshotRoundTrip() throws IOException {
+        Path snapshotFile = BomSnapshots.getSnapshotFile(tempDir.resolve("snapshots"), bom.getBillOfMaterials());
+        String key = computeKey();
+        BomSnapshots.write(snapshotFile, key, bom);
+
+        BillOfMaterials actual = BomSnapshots.read(snapshotFile, key, request, resolver);
+        assertThat(actual).isNotNull();
+        assertThat(actual.getBillOfMaterials()).isEqualTo(bom.getBillOfMaterials());
+        assertComponentEquals(actual.getComponent(), bom.getComponent());
+        List<Component> expectedDependencies = List.copyOf(bom.getDependencies());
+        List<Component> actualDependencies = List.copyOf(actual.getDependencies());
+        assertThat(actualDependencies).hasSize(1);
+        assertComponentEquals(actualDependencies.get(0), expectedDependencies.get(0));
+    }
+
+    private static void assertComponentEquals(Component actual, Component expected) {
+        assertThat(actual.getArtifact()).isEqualTo(expected.getArtifact());
+        assertThat(actual.getArtifact().getProperties())
+                .isEqualTo(expected.getArtifact().getProperties());
+        assertThat(actual.getPurl()).isEqualTo(expected.getPurl());
+        assertThat(actual.getChecksums()).isEqualTo(expected.getChecksums());
+        assertThat(actual.getExternalReferences()).containsExactlyElementsOf(expected.getExternalReferences());
+        assertThat(actual.getBillsOfMaterials()).containsExactlyElementsOf(expected.getBillsOfMaterials());
+    }
+
+    @Test
+    void missingBillsOfMaterialsAreLookedUpAgain() throws IOException {
+        Artifact dependencyArtifact =
+                new DefaultArtifact("com.example:dependency:1.0.0").setFile(dependencyFile.toFile());
+        Artifact otherArtifact = new DefaultArtifact("com.example:other:1.0.0").setFile(dependencyFile.toFile());
+        BillOfMaterials bomWithoutSidecars = DefaultBillOfMaterials.newBuilder()
+                .setBillOfMaterials(bom.getBillOfMaterials())
+                .setComponent(bom.getComponent())
+                .addDependency(DefaultComponent.newBuilder()
+                        .setArtifact(dependencyArtifact)
+                        .get())
+                .addDependency(
+                        DefaultComponent.newBuilder().setArtifact(otherArtifact).get())
+                .get();
+        Path snapshotFile = tempDir.resolve("snapshot");
+        String key = computeKey();
+        BomSnapshots.write(snapshotFile, key, bomWithoutSidecars);
+
+        Artifact sidecar = new DefaultArtifact("com.example:dependency:json:cyclonedx:1.0.0");
+        when(resolver.findBillsOfMaterials(any())).thenReturn(List.of(List.of(sidecar), List.of()));
+        BillOfMaterials actual = BomSnapshots.read(snapshotFile, key, request, resolver);
+        assertThat(actual).isNotNull();
+        verify(resolver, never()).findBillsOfMaterials(any());
+        List<Component> actualDependencies = List.copyOf(actual.getDependencies());
+        assertThat(actualDependencies.get(0).getArtifact()).isEqualTo(dependencyArtifact);
+        assertThat(actualDependencies.get(0).getBillsOfMaterials()).containsExactly(sidecar);
+        assertThat(actualDependencies.get(1).getBillsOfMaterials()).isEmpty();
+        // Both dependencies are looked up in a single batch
+        verify(resolver).findBillsOfMaterials(List.of(dependencyArtifact.setFile(null), otherArtifact.setFile(null)));
+    }
+
+    @Test
+    void staleSnapshotsAreIgnored() throws IOException {
+        Path snapshotFile = tempDir.resolve("snapshot");
+        assertThat(BomSnapshots.read(snapshotFile, computeKey(), request, resolver))
+                .isNull();
+
+        BomSnapshots.write(snapshotFile, computeKey(), bom);
+        // The SBOM changed
+        Files.writeString(request.getMainBillOfMaterials().getFile().toPath(), "{ }");
+        assertThat(BomSnapshots.read(snapshotFile, computeKey(), request, resolver))
+                .isNull();
+
+        BomSnapshots.write(snapshotFile, computeKey(), bom);
+        // A resolved artifact was removed
+        Files.delete(dependencyFile);
+        assertThat(BomSnapshots.read(snapshotFile, computeKey(), request, resolver))
+                .isNull();
+    }
+
+    @Test
+    void corruptedSnapshotThrows() throws IOException {
+        Path snapshotFile = tempDir.resolve("snapshot");
+        String key = computeKey();
+        BomSnapshots.write(snapshotFile, key, bom);
+        byte[] content = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, Arrays.copyOf(content, content.length / 2));
+        assertThatThrownBy(() -> BomSnapshots.read(snapshotFile, key, request, resolver))
+                .isInstanceOf(IOException.class);
+        Files.writeString(snapshotFile, "garbage", StandardCharsets.UTF_8);
+        assertThat(BomSnapshots.read(snapshotFile, key, request, resolver)).isNull();
+    }
+
+    @Test
+    void invalidCountsThrow() throws IOException {
+        Path snapshotFile = tempDir.resolve("snapshot");
+        String key = computeKey();
+        BomSnapshots.write(snapshotFile, key, bom);
+        // Magic number, format version, index and length of the key, key
+        int headerLength = 16 + key.length();
+        byte[] header = Arrays.copyOf(Files.readAllBytes(snapshotFile), headerLength);
+        // The group id of the main component is a new string of invalid length
+        for (int length : new int[] {Integer.MAX_VALUE, -2}) {
+            Files.write(
+                    snapshotFile,
+                    ByteBuffer.allocate(headerLength + 8)
+                            .put(header)
+                            .putInt(1)
+                            .putInt(length)
+                            .array());
+            assertThatThrownBy(() -> BomSnapshots.read(snapshotFile, key, request, resolver))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Invalid count");
+        }
+    }
+}
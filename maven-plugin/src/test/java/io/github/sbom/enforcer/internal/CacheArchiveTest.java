@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CacheArchiveTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private static final Duration MAX_AGE = Duration.ofDays(30);
+
+    @TempDir
+    private Path tempDir;
+
+    private static void writeFile(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes an archive with a single file, whose content does not necessarily match the manifest.
+     */
+    private Path writeArchive(String name, String content, String digestedContent) throws IOException {
+        Path archive = tempDir.resolve("crafted.zip");
+        Properties manifest = new Properties();
+        manifest.setProperty("format", Integer.toString(CacheArchive.FORMAT_VERSION));
+        manifest.setProperty("created", Long.toString(CLOCK.millis()));
+        manifest.setProperty("sha256:" + name, DigestUtils.sha256Hex(digestedContent));
+        try (OutputStream file = Files.newOutputStream(archive);
+                ZipOutputStream output = new ZipOutputStream(file)) {
+            output.putNextEntry(new ZipEntry(name));
+            output.write(content.getBytes(StandardCharsets.UTF_8));
+            output.putNextEntry(new ZipEntry(CacheArchive.MANIFEST));
+            manifest.store(output, null);
+        }
+        return archive;
+    }
+
+    @Test
+    void roundTrip() throws Exception {
+        Path source = tempDir.resolve("source");
+        writeFile(source.resolve("checksum/abc.verdicts"), "verdicts");
+        writeFile(source.resolve("checksum/def.tmp"), "temporary");
+        Path archive = tempDir.resolve("cache.zip");
+        assertThat(CacheArchive.write(
+                        archive, Map.of("verdicts", source, "missing", tempDir.resolve("missing")), CLOCK))
+                .isEqualTo(1);
+
+        Path target = tempDir.resolve("target");
+        // Existing files are never replaced
+        writeFile(target.resolve("checksum/abc.verdicts"), "newer");
+        assertThat(CacheArchive.read(archive, Map.of("verdicts", target), CLOCK, MAX_AGE))
+                .isZero();
+        Files.delete(target.resolve("checksum/abc.verdicts"));
+        assertThat(CacheArchive.read(archive, Map.of("verdicts", target), CLOCK, MAX_AGE))
+                .isEqualTo(1);
+        assertThat(target.resolve("checksum/abc.verdicts")).hasContent("verdicts");
+        assertThat(target.resolve("checksum/def.tmp")).doesNotExist();
+    }
+
+    @Test
+    void read_rejectsStaleArchive() throws Exception {
+        Path archive = tempDir.resolve("cache.zip");
+        CacheArchive.write(archive, Map.of(), CLOCK);
+        Clock later = Clock.offset(CLOCK, MAX_AGE.plusDays(1));
+        assertThatThrownBy(() -> CacheArchive.read(archive, Map.of(), later, MAX_AGE))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("older");
+    }
+
+    @Test
+    void read_rejectsCorruptedFile() throws Exception {
+        Path archive = writeArchive("verdicts/checksum/abc.verdicts", "corrupted", "verdicts");
+        Path target = tempDir.resolve("target");
+        assertThatThrownBy(() -> CacheArchive.read(archive, Map.of("verdicts", target), CLOCK, MAX_AGE))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("digest");
+        assertThat(target).doesNotExist();
+    }
+
+    @Test
+    void read_rejectsFileOutsideOfSection() throws Exception {
+        Path archive = writeArchive("verdicts/../escaped", "content", "content");
+        Path target = tempDir.resolve("target");
+        assertThatThrownBy(() -> CacheArchive.read(archive, Map.of("verdicts", target), CLOCK, MAX_AGE))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("invalid file name");
+        assertThat(tempDir.resolve("escaped")).doesNotExist();
+    }
+
+    @Test
+    void read_rejectsInvalidNameInIgnoredSection() throws Exception {
+        Path archive = writeArchive("ignored/../../escaped", "content", "content");
+        assertThatThrownBy(
+                        () -> CacheArchive.read(archive, Map.of("verdicts", tempDir.resolve("target")), CLOCK, MAX_AGE))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("invalid file name");
+    }
+
+    @Test
+    void read_rejectsUnknownFormat() throws Exception {
+        Path archive = tempDir.resolve("not-an-archive.zip");
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(archive))) {
+            output.putNextEntry(new ZipEntry("verdicts/file"));
+        }
+        assertThatThrownBy(() -> CacheArchive.read(archive, Map.of(), CLOCK, MAX_AGE))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("manifest");
+    }
+}
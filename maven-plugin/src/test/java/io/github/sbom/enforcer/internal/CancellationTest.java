@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.transfer.TransferResource;
+import org.junit.jupiter.api.Test;
+
+class CancellationTest {
+
+    @Test
+    void cancel_runsCallbacksOnce() {
+        Cancellation cancellation = new Cancellation();
+        AtomicInteger count = new AtomicInteger();
+        cancellation.onCancel(count::incrementAndGet);
+        assertThat(cancellation.isCancelled()).isFalse();
+        cancellation.throwIfCancelled();
+        assertThat(count).hasValue(0);
+
+        cancellation.cancel("first");
+        cancellation.cancel("second");
+        assertThat(cancellation.isCancelled()).isTrue();
+        assertThat(count).hasValue(1);
+        assertThat(cancellation.getReason()).isEqualTo("first");
+        assertThatThrownBy(cancellation::throwIfCancelled).isInstanceOf(CancellationException.class);
+
+        // Callbacks registered after the cancellation run immediately
+        cancellation.onCancel(count::incrementAndGet);
+        assertThat(count).hasValue(2);
+    }
+
+    @Test
+    void newChild_propagatesCancellation() {
+        Cancellation parent = new Cancellation();
+        Cancellation child = parent.newChild(Duration.ofHours(1), "child deadline");
+        Cancellation sibling = parent.newChild();
+        AtomicInteger count = new AtomicInteger();
+        child.onCancel(count::incrementAndGet);
+        assertThat(child.getRemainingNanos())
+                .isPositive()
+                .isLessThanOrEqualTo(Duration.ofHours(1).toNanos());
+        assertThat(sibling.getRemainingNanos()).isEqualTo(Long.MAX_VALUE);
+
+        // The cancellation of a child does not affect the parent
+        sibling.cancel("sibling");
+        assertThat(parent.isCancelled()).isFalse();
+        assertThat(child.isCancelled()).isFalse();
+
+        parent.cancel("parent");
+        assertThat(child.getReason()).isEqualTo("parent");
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    void newChild_expiresAfterTimeout() {
+        Cancellation parent = new Cancellation().newChild(Duration.ZERO, "overall deadline");
+        Cancellation child = parent.newChild(Duration.ofHours(1), "rule deadline");
+        AtomicInteger count = new AtomicInteger();
+        parent.onCancel(count::incrementAndGet);
+        assertThat(child.getRemainingNanos()).isLessThanOrEqualTo(0L);
+
+        // Deadlines are checked when the token is polled
+        assertThat(child.getReason()).isEqualTo("overall deadline");
+        assertThat(parent.getReason()).isEqualTo("overall deadline");
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    void newChild_isCancelledByTimer() throws Exception {
+        try (RuleScheduler scheduler = new RuleScheduler(1)) {
+            Cancellation child = scheduler.newCancellation().newChild(Duration.ofMillis(10), "deadline");
+            CountDownLatch cancelled = new CountDownLatch(1);
+            child.onCancel(cancelled::countDown);
+            // The callbacks run without polling the token
+            assertThat(cancelled.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(child.getReason()).isEqualTo("deadline");
+        }
+    }
+
+    @Test
+    void cancelTransfers_abortsTransfers() throws Exception {
+        Cancellation cancellation = new Cancellation();
+        AtomicInteger progressed = new AtomicInteger();
+        TransferListener listener = cancellation.cancelTransfers(new AbstractTransferListener() {
+            @Override
+            public void transferProgressed(TransferEvent event) {
+                progressed.incrementAndGet();
+            }
+        });
+        TransferEvent event = new TransferEvent.Builder(
+                        mock(RepositorySystemSession.class),
+                        new TransferResource(
+                                "central", "https://repo.maven.apache.org/maven2/", "a/b/1/b-1.jar", null, null))
+                .setType(TransferEvent.EventType.PROGRESSED)
+                .build();
+        listener.transferProgressed(event);
+        assertThat(progressed).hasValue(1);
+
+        cancellation.cancel("deadline exceeded");
+        assertThatThrownBy(() -> listener.transferProgressed(event))
+                .isInstanceOf(TransferCancelledException.class)
+                .hasMessageContaining("a/b/1/b-1.jar")
+                .hasMessageContaining("deadline exceeded");
+        assertThat(progressed).hasValue(1);
+    }
+}
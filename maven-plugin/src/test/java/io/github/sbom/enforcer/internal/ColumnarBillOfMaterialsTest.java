@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import io.github.sbom.enforcer.support.DefaultBillOfMaterials;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ColumnarBillOfMaterialsTest {
+
+    private static BillOfMaterials expected;
+    private static BillOfMaterials actual;
+    private static BillOfMaterials copy;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        Artifact bom = new DefaultArtifact("groupId:artifactId:xml:cyclonedx:1.0.0");
+        Component mainComponent = DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact("groupId:artifactId:1.0.0"))
+                .get();
+        List<Component> dependencies = new ArrayList<>();
+        // Unsorted on purpose
+        for (String coordinates : new String[] {
+            "org.example:foo:jar:tests:2.0.0",
+            "org.example:foo:2.0.0",
+            "com.example:zażółć:1.0.0",
+            "org.example:bar:pom:1.0.0",
+            "org.example:foo:1.0.0",
+        }) {
+            Artifact artifact = new DefaultArtifact(coordinates)
+                    .setProperties(Map.of("type", "jar", Component.Properties.REPOSITORY_URL, "https://example"));
+            dependencies.add(DefaultComponent.newBuilder()
+                    .setArtifact(artifact.setFile(new File(artifact.getArtifactId() + ".jar")))
+                    .setPurl(new PackageURL(
+                            "maven",
+                            artifact.getGroupId(),
+                            artifact.getArtifactId(),
+                            artifact.getVersion(),
+                            null,
+                            null))
+                    .addChecksum(ChecksumAlgorithm.SHA1, "sha1-" + coordinates)
+                    .addChecksum(ChecksumAlgorithm.SHA_256, "sha256-" + coordinates)
+                    .addExternalReference("vcs", "https://example/" + artifact.getArtifactId())
+                    .addExternalReference("website", "https://example")
+                    .addBillOfMaterials(new DefaultArtifact(
+                                    artifact.getGroupId(),
+                                    artifact.getArtifactId(),
+                                    "cyclonedx",
+                                    "json",
+                                    artifact.getVersion())
+                            .setFile(new File(artifact.getArtifactId() + "-cyclonedx.json")))
+                    .get());
+        }
+        // Duplicated coordinates: only the first component is retained
+        dependencies.add(DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact("org.example:foo:1.0.0"))
+                .get());
+        DefaultBillOfMaterials.Builder expectedBuilder =
+                DefaultBillOfMaterials.newBuilder().setBillOfMaterials(bom).setComponent(mainComponent);
+        ColumnarBillOfMaterials.Builder actualBuilder =
+                ColumnarBillOfMaterials.newBuilder().setBillOfMaterials(bom).setComponent(mainComponent);
+        dependencies.forEach(expectedBuilder::addDependency);
+        dependencies.forEach(actualBuilder::addDependency);
+        expected = expectedBuilder.get();
+        actual = actualBuilder.get();
+        ColumnarBillOfMaterials.Builder copyBuilder =
+                ColumnarBillOfMaterials.newBuilder().setBillOfMaterials(bom).setComponent(mainComponent);
+        dependencies.forEach(copyBuilder::addDependency);
+        copy = copyBuilder.get();
+    }
+
+    @Test
+    void dependenciesHaveSameValues() {
+        assertThat(actual.getBillOfMaterials()).isSameAs(expected.getBillOfMaterials());
+        assertThat(actual.getComponent()).isSameAs(expected.getComponent());
+        List<Component> expectedDependencies = List.copyOf(expected.getDependencies());
+        List<Component> actualDependencies = List.copyOf(actual.getDependencies());
+        assertThat(actualDependencies).hasSameSizeAs(expectedDependencies);
+        for (int i = 0; i < expectedDependencies.size(); i++) {
+            Component expectedDependency = expectedDependencies.get(i);
+            Component actualDependency = actualDependencies.get(i);
+            assertThat(actualDependency.getArtifact()).isEqualTo(expectedDependency.getArtifact());
+            assertThat(actualDependency.getPurl()).isEqualTo(expectedDependency.getPurl());
+            assertThat(actualDependency.getChecksums()).isEqualTo(expectedDependency.getChecksums());
+            assertThat(actualDependency.getExternalReferences())
+                    .containsExactlyElementsOf(expectedDependency.getExternalReferences());
+            assertThat(actualDependency.getBillsOfMaterials())
+                    .containsExactlyElementsOf(expectedDependency.getBillsOfMaterials());
+        }
+    }
+
+    @Test
+    void viewsAreFlyweights() {
+        List<Component> dependencies = List.copyOf(actual.getDependencies());
+        // New views of the same rows are equal
+        assertThat(List.<Component>copyOf(actual.getDependencies())).isEqualTo(dependencies);
+        assertThat(dependencies.get(0)).isNotEqualTo(dependencies.get(1));
+    }
+
+    @Test
+    void viewsAreComparedByValue() {
+        List<Component> dependencies = List.copyOf(actual.getDependencies());
+        List<Component> copies = List.copyOf(copy.getDependencies());
+        assertThat(copies).isEqualTo(dependencies);
+        for (int i = 0; i < dependencies.size(); i++) {
+            assertThat(copies.get(i)).hasSameHashCodeAs(dependencies.get(i));
+        }
+    }
+
+    @Test
+    void lookupsMatchDefaultImplementation() throws Exception {
+        List<Component> dependencies = List.copyOf(actual.getDependencies());
+        assertThat(List.<Component>copyOf(actual.getDependencies("org.example", "foo")))
+                .isEqualTo(dependencies.subList(2, 5))
+                .hasSameSizeAs(expected.getDependencies("org.example", "foo"));
+        assertThat(actual.getDependencies("org.example", "baz")).isEmpty();
+
+        Artifact artifact = new DefaultArtifact("org.example:foo:jar:tests:2.0.0");
+        Component dependency = actual.getDependency(artifact);
+        assertThat(dependency).isNotNull();
+        assertThat(dependency.getArtifact())
+                .isEqualTo(expected.getDependency(artifact).getArtifact());
+        assertThat(actual.getDependency(new DefaultArtifact("org.example:foo:3.0.0")))
+                .isNull();
+
+        PackageURL purl = new PackageURL("maven", "com.example", "zażółć", "1.0.0", null, null);
+        dependency = actual.getDependency(purl);
+        assertThat(dependency).isNotNull();
+        assertThat(dependency.getArtifact().getArtifactId()).isEqualTo("zażółć");
+        for (Component expectedDependency : expected.getDependencies()) {
+            PackageURL expectedPurl = expectedDependency.getPurl();
+            if (expectedPurl != null) {
+                dependency = actual.getDependency(expectedPurl);
+                assertThat(dependency).isNotNull();
+                assertThat(dependency.getPurl()).isEqualTo(expectedPurl);
+            }
+        }
+        assertThat(actual.getDependency(new PackageURL("maven", "org.example", "foo", "3.0.0", null, null)))
+                .isNull();
+    }
+}
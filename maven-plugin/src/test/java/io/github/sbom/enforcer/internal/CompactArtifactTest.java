@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.Map;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+
+class CompactArtifactTest {
+
+    private static final Map<String, String> PROPERTIES = Map.of("type", "jar");
+
+    @Test
+    void equalsDefaultArtifact() {
+        Artifact expected =
+                new DefaultArtifact("groupId", "artifactId", "classifier", "jar", "1.0.0", PROPERTIES, (File) null);
+        Artifact actual = new CompactArtifact("groupId", "artifactId", "classifier", "jar", "1.0.0", PROPERTIES);
+        assertThat(actual).isEqualTo(expected).hasSameHashCodeAs(expected).hasToString(expected.toString());
+    }
+
+    @Test
+    void sharesCoordinatesAndProperties() {
+        Artifact first = new CompactArtifact(
+                new String("groupId"), new String("artifactId"), null, new String("jar"), "1.0.0", PROPERTIES);
+        Artifact second = new CompactArtifact(
+                new String("groupId"), new String("other"), null, new String("jar"), "1.0.0", Map.of("type", "jar"));
+        assertThat(second.getGroupId()).isSameAs(first.getGroupId());
+        assertThat(second.getExtension()).isSameAs(first.getExtension());
+        assertThat(second.getProperties()).isSameAs(first.getProperties());
+        assertThat(first.getClassifier()).isEmpty();
+    }
+
+    @Test
+    void settersReturnCompactArtifacts() {
+        Artifact artifact = new CompactArtifact("groupId", "artifactId", null, "jar", "1.0.0", PROPERTIES);
+        assertThat(artifact.setVersion("1.0.0")).isSameAs(artifact);
+        assertThat(artifact.setProperties(PROPERTIES)).isSameAs(artifact);
+
+        File file = new File("artifactId-1.0.0.jar");
+        Artifact withFile = artifact.setFile(file);
+        assertThat(withFile).isInstanceOf(CompactArtifact.class).hasToString(artifact.toString());
+        assertThat(withFile.getFile()).isEqualTo(file);
+        assertThat(withFile.getProperties()).isSameAs(artifact.getProperties());
+
+        Artifact withVersion = withFile.setVersion("2.0.0");
+        assertThat(withVersion).isInstanceOf(CompactArtifact.class);
+        assertThat(withVersion.getVersion()).isEqualTo("2.0.0");
+        assertThat(withVersion.getFile()).isEqualTo(file);
+
+        Artifact withoutProperties = artifact.setProperties(null);
+        assertThat(withoutProperties).isInstanceOf(CompactArtifact.class);
+        assertThat(withoutProperties.getProperties()).isEmpty();
+    }
+}
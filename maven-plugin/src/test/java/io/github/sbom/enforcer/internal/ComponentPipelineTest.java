@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.ComponentListener;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ComponentPipelineTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Component createComponent(int i) {
+        return DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact("groupId:artifact-" + i + ":1.0.0"))
+                .get();
+    }
+
+    @Test
+    void componentsAreDeliveredInOrder() {
+        List<String> received = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        ComponentListener listener = new ComponentListener() {
+            @Override
+            public void onMainComponent(Component component) {
+                received.add("main:" + component.getArtifact().getArtifactId());
+                threads.add(Thread.currentThread());
+            }
+
+            @Override
+            public void onComponent(Component dependency) {
+                received.add(dependency.getArtifact().getArtifactId());
+                threads.add(Thread.currentThread());
+            }
+        };
+        try (ComponentPipeline pipeline = new ComponentPipeline(listener, 2, executor)) {
+            pipeline.onMainComponent(createComponent(0));
+            for (int i = 1; i <= 10; i++) {
+                pipeline.onComponent(createComponent(i));
+            }
+        }
+        assertThat(received)
+                .hasSize(11)
+                .startsWith("main:artifact-0", "artifact-1")
+                .endsWith("artifact-10");
+        assertThat(threads).doesNotContain(Thread.currentThread()).containsOnly(threads.get(0));
+    }
+
+    @Test
+    void producerIsBlockedWhenTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ComponentListener listener = new ComponentListener() {
+            @Override
+            public void onMainComponent(Component component) {}
+
+            @Override
+            public void onComponent(Component dependency) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        CountDownLatch produced = new CountDownLatch(1);
+        try (ComponentPipeline pipeline = new ComponentPipeline(listener, 2, executor)) {
+            Thread producer = new Thread(() -> {
+                // One component is being processed, two are in the queue
+                for (int i = 0; i < 4; i++) {
+                    pipeline.onComponent(createComponent(i));
+                }
+                produced.countDown();
+            });
+            producer.start();
+            assertThat(produced.await(500, TimeUnit.MILLISECONDS)).isFalse();
+            release.countDown();
+            assertThat(produced.await(10, TimeUnit.SECONDS)).isTrue();
+            producer.join();
+        }
+    }
+
+    @Test
+    void pipelinesShareAnExecutor() {
+        int[] counts = new int[10];
+        List<ComponentPipeline> pipelines = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            int index = i;
+            pipelines.add(new ComponentPipeline(
+                    new ComponentListener() {
+                        @Override
+                        public void onMainComponent(Component component) {
+                            counts[index]++;
+                        }
+
+                        @Override
+                        public void onComponent(Component dependency) {
+                            counts[index]++;
+                        }
+                    },
+                    1,
+                    executor));
+        }
+        // The single thread of the executor is never blocked waiting for the components of a pipeline
+        for (int i = 0; i < 100; i++) {
+            Component component = createComponent(i);
+            pipelines.forEach(pipeline -> pipeline.onComponent(component));
+        }
+        pipelines.forEach(ComponentPipeline::close);
+        assertThat(counts).containsOnly(100);
+    }
+
+    @Test
+    @Timeout(10)
+    void closeCancelsTheListenerAtTheDeadline() {
+        // Without a timer, the token is only cancelled when polled
+        Cancellation cancellation = new Cancellation().newChild(Duration.ofMillis(100), "deadline exceeded");
+        CountDownLatch cancelled = new CountDownLatch(1);
+        cancellation.onCancel(cancelled::countDown);
+        List<Component> received = new ArrayList<>();
+        ComponentListener listener = new ComponentListener() {
+            @Override
+            public void onMainComponent(Component component) {}
+
+            @Override
+            public void onComponent(Component dependency) {
+                if (!cancellation.isCancelled()) {
+                    // A long check that only stops after the cancellation
+                    try {
+                        cancelled.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    received.add(dependency);
+                }
+            }
+        };
+        try (ComponentPipeline pipeline = new ComponentPipeline(listener, 2, executor, cancellation)) {
+            pipeline.onComponent(createComponent(1));
+            pipeline.onComponent(createComponent(2));
+        }
+        assertThat(cancellation.getReason()).isEqualTo("deadline exceeded");
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void listenerFailureIsRethrown() {
+        List<Component> received = new ArrayList<>();
+        ComponentListener listener = new ComponentListener() {
+            @Override
+            public void onMainComponent(Component component) {
+                throw new IllegalArgumentException("Invalid main component");
+            }
+
+            @Override
+            public void onComponent(Component dependency) {
+                received.add(dependency);
+            }
+        };
+        ComponentPipeline pipeline = new ComponentPipeline(listener, 1, executor);
+        pipeline.onMainComponent(createComponent(0));
+        for (int i = 1; i <= 10; i++) {
+            pipeline.onComponent(createComponent(i));
+        }
+        assertThatThrownBy(pipeline::close)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid main component");
+        assertThat(received).isEmpty();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import org.codehaus.plexus.logging.Logger;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ComponentResolverTest {
+
+    @TempDir
+    private static Path localRepository;
+
+    private RepositorySystem repoSystem;
+    private ComponentResolver resolver;
+
+    /**
+     * Resolves the JAR files in a fake local repository, but no SBOMs.
+     */
+    private static List<ArtifactResult> resolve(Collection<ArtifactRequest> requests) {
+        List<ArtifactResult> results = new ArrayList<>();
+        for (ArtifactRequest request : requests) {
+            ArtifactResult result = new ArtifactResult(request);
+            Artifact artifact = request.getArtifact();
+            if (!"cyclonedx".equals(artifact.getClassifier())) {
+                result.setArtifact(artifact.setFile(getFile(artifact)));
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private static File getFile(Artifact artifact) {
+        return localRepository.resolve(artifact.getArtifactId() + ".jar").toFile();
+    }
+
+    private static List<Artifact> createArtifacts(int count) {
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            artifacts.add(new DefaultArtifact("org.example:artifact-" + i + ":1.0.0"));
+        }
+        return artifacts;
+    }
+
+    @BeforeEach
+    void setup() throws Exception {
+        repoSystem = mock(RepositorySystem.class);
+        when(repoSystem.resolveArtifacts(any(), any())).thenAnswer(invocation -> resolve(invocation.getArgument(1)));
+        resolver = new ComponentResolver(repoSystem, mock(RepositorySystemSession.class), mock(Logger.class));
+    }
+
+    @Test
+    void resolveArtifacts_usesSingleRequest() throws Exception {
+        List<Artifact> artifacts = createArtifacts(10);
+        List<Artifact> resolved = resolver.resolveArtifacts(artifacts);
+        assertThat(resolved).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(resolved.get(i).getFile()).isEqualTo(getFile(artifacts.get(i)));
+        }
+        assertThat(resolver.findBillsOfMaterials(artifacts)).hasSize(10).allMatch(List::isEmpty);
+        verify(repoSystem, times(2)).resolveArtifacts(any(), any());
+    }
+
+    @Test
+    void resolveArtifacts_skipsRemoteRequestsForReactorArtifacts() throws Exception {
+        List<Artifact> artifacts = createArtifacts(3);
+        // The first artifact was packaged, the second one was not built yet
+        WorkspaceReader workspaceReader = mock(WorkspaceReader.class);
+        File packaged = Files.createFile(localRepository.resolve("artifact-0-reactor.jar"))
+                .toFile();
+        when(workspaceReader.findArtifact(any())).thenAnswer(invocation -> {
+            Artifact artifact = invocation.getArgument(0);
+            return "artifact-0".equals(artifact.getArtifactId())
+                            && artifact.getClassifier().isEmpty()
+                    ? packaged
+                    : null;
+        });
+        when(workspaceReader.findVersions(any())).thenAnswer(invocation -> {
+            Artifact artifact = invocation.getArgument(0);
+            return "artifact-2".equals(artifact.getArtifactId()) ? List.of() : List.of("1.0.0");
+        });
+        RepositorySystemSession repoSession = mock(RepositorySystemSession.class);
+        when(repoSession.getWorkspaceReader()).thenReturn(workspaceReader);
+        resolver = new ComponentResolver(repoSystem, repoSession, mock(Logger.class));
+
+        List<Artifact> resolved = resolver.resolveArtifacts(artifacts);
+        assertThat(resolved.get(0).getFile()).isEqualTo(packaged);
+        assertThat(resolved.get(1).getFile()).isNull();
+        assertThat(resolved.get(2).getFile()).isEqualTo(getFile(artifacts.get(2)));
+        assertThat(resolver.findBillsOfMaterials(artifacts)).hasSize(3).allMatch(List::isEmpty);
+        // Only the artifact outside the reactor and its SBOMs are requested
+        verify(repoSystem).resolveArtifacts(any(), argThat(requests -> requests.size() == 1));
+        verify(repoSystem).resolveArtifacts(any(), argThat(requests -> requests.size() == 2));
+    }
+
+    @Test
+    void createLazyComponent_resolvesOnFirstAccess() throws Exception {
+        Artifact artifact = new DefaultArtifact("org.example:artifact:1.0.0");
+        Component component = resolver.createLazyComponent(
+                DefaultComponent.newBuilder().addExternalReference("website", "https://example.com"), artifact);
+        // The metadata is available without repository I/O
+        assertThat(component.getArtifact().toString()).isEqualTo(artifact.toString());
+        assertThat(component.getExternalReferences()).hasSize(1);
+        assertThat(ComponentResolver.isFileResolved(component.getArtifact())).isFalse();
+        assertThat(ComponentResolver.areBillsOfMaterialsResolved(component)).isFalse();
+        verifyNoInteractions(repoSystem);
+        // The results are resolved once
+        assertThat(component.getArtifact().getFile()).isEqualTo(getFile(artifact));
+        assertThat(component.getArtifact().getFile()).isEqualTo(getFile(artifact));
+        assertThat(component.getBillsOfMaterials()).isEmpty();
+        assertThat(ComponentResolver.isFileResolved(component.getArtifact())).isTrue();
+        assertThat(ComponentResolver.areBillsOfMaterialsResolved(component)).isTrue();
+        verify(repoSystem, times(2)).resolveArtifacts(any(), any());
+    }
+
+    @Test
+    void createLazyComponent_equalsDoesNotResolve() throws Exception {
+        Artifact artifact = new DefaultArtifact("org.example:artifact:1.0.0");
+        Component component = resolver.createLazyComponent(DefaultComponent.newBuilder(), artifact);
+        Component other = resolver.createLazyComponent(DefaultComponent.newBuilder(), artifact);
+        Component eager = DefaultComponent.newBuilder()
+                .setArtifact(artifact.setFile(getFile(artifact)))
+                .get();
+
+        assertThat(component).isEqualTo(other).hasSameHashCodeAs(other);
+        assertThat(component.getArtifact()).isEqualTo(other.getArtifact()).hasSameHashCodeAs(other.getArtifact());
+        // Lazy and eager components are never equal, whatever the order of the comparison
+        assertThat(component).isNotEqualTo(eager);
+        assertThat(eager).isNotEqualTo(component);
+        verifyNoInteractions(repoSystem);
+    }
+
+    @Test
+    void columnarModel_keepsLazyComponents() throws Exception {
+        Artifact bom = new DefaultArtifact("groupId:artifactId:xml:cyclonedx:1.0.0");
+        Component mainComponent = DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact("groupId:artifactId:1.0.0"))
+                .get();
+        ColumnarBillOfMaterials.Builder builder = ColumnarBillOfMaterials.newBuilder()
+                .setBillOfMaterials(bom)
+                .setComponent(mainComponent)
+                .setResolver(resolver);
+        List<Artifact> artifacts = createArtifacts(3);
+        for (Artifact artifact : artifacts) {
+            builder.addDependency(resolver.createLazyComponent(DefaultComponent.newBuilder(), artifact));
+        }
+        BillOfMaterials billOfMaterials = builder.get();
+        Component dependency = Objects.requireNonNull(billOfMaterials.getDependency(artifacts.get(1)));
+        verifyNoInteractions(repoSystem);
+
+        assertThat(dependency.getArtifact().getFile()).isEqualTo(getFile(artifacts.get(1)));
+        assertThat(dependency.getBillsOfMaterials()).isEmpty();
+    }
+}
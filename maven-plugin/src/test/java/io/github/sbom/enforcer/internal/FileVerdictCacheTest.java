@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FileVerdictCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    @TempDir
+    private Path tempDir;
+
+    private static Component createComponent(String version, String sha256) throws Exception {
+        return DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact("com.example:dependency:" + version))
+                .setPurl(new PackageURL("pkg:maven/com.example/dependency@" + version))
+                .addChecksum(ChecksumAlgorithm.SHA_256, sha256)
+                .get();
+    }
+
+    private List<Path> listSegments() throws IOException {
+        Path file = FileVerdictCache.getCacheFile(tempDir, "rule", "<rule/>");
+        try (Stream<Path> stream = Files.list(file.getParent())) {
+            return stream.filter(path -> path.getFileName().toString().endsWith(".segment"))
+                    .toList();
+        }
+    }
+
+    private FileVerdictCache openCache(Instant now) throws IOException {
+        Path file = FileVerdictCache.getCacheFile(tempDir, "rule", "<rule/>");
+        FileVerdictCache cache = new FileVerdictCache(file, Clock.fixed(now, ZoneOffset.UTC));
+        cache.load();
+        return cache;
+    }
+
+    @Test
+    void verdictsArePersisted() throws Exception {
+        Component valid = createComponent("1.0.0", "abcdef");
+        Component invalid = createComponent("2.0.0", "abcdef");
+        FileVerdictCache cache = openCache(NOW);
+        assertThat(cache.get(valid)).isNull();
+        cache.put(valid, List.of(), null);
+        cache.put(invalid, List.of("Invalid checksum"), null);
+        cache.save();
+
+        cache = openCache(NOW.plus(Duration.ofDays(365)));
+        assertThat(cache.get(valid)).isEmpty();
+        assertThat(cache.get(invalid)).containsExactly("Invalid checksum");
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isZero();
+    }
+
+    @Test
+    void declaredChecksumsArePartOfTheKey() throws Exception {
+        FileVerdictCache cache = openCache(NOW);
+        cache.put(createComponent("1.0.0", "abcdef"), List.of(), null);
+        assertThat(cache.get(createComponent("1.0.0", "012345"))).isNull();
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void contextIsPartOfTheKey() throws Exception {
+        Component component = createComponent("1.0.0", "abcdef");
+        FileVerdictCache cache = openCache(NOW);
+        cache.put(component, "https://example/first", List.of(), null);
+        assertThat(cache.get(component, "https://example/first")).isEmpty();
+        assertThat(cache.get(component, "https://example/second")).isNull();
+        assertThat(cache.get(component)).isNull();
+    }
+
+    @Test
+    void expiredVerdictsAreIgnored() throws Exception {
+        Component component = createComponent("1.0.0", "abcdef");
+        FileVerdictCache cache = openCache(NOW);
+        cache.put(component, List.of("Broken external reference (404): https://example"), Duration.ofHours(1));
+        cache.save();
+
+        assertThat(openCache(NOW.plus(Duration.ofMinutes(30))).get(component)).hasSize(1);
+        assertThat(openCache(NOW.plus(Duration.ofHours(2))).get(component)).isNull();
+    }
+
+    @Test
+    void snapshotsAreNotCached() throws Exception {
+        Component component = createComponent("1.0.0-SNAPSHOT", "abcdef");
+        FileVerdictCache cache = openCache(NOW);
+        cache.put(component, List.of(), null);
+        assertThat(cache.get(component)).isNull();
+        assertThat(cache.getMisses()).isZero();
+    }
+
+    @Test
+    void concurrentUpdatesAreMerged() throws Exception {
+        Component first = createComponent("1.0.0", "abcdef");
+        Component second = createComponent("2.0.0", "abcdef");
+        FileVerdictCache firstCache = openCache(NOW);
+        FileVerdictCache secondCache = openCache(NOW);
+        firstCache.put(first, List.of(), null);
+        secondCache.put(second, List.of(), null);
+        firstCache.save();
+        secondCache.save();
+
+        FileVerdictCache cache = openCache(NOW);
+        assertThat(cache.get(first)).isEmpty();
+        assertThat(cache.get(second)).isEmpty();
+    }
+
+    @Test
+    void corruptedMainFileIsReplaced() throws Exception {
+        Component component = createComponent("1.0.0", "abcdef");
+        FileVerdictCache cache = openCache(NOW);
+        cache.put(component, List.of(), null);
+        cache.save();
+        Path file = cache.getFile();
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[] {1, 2, 3});
+
+        // The segments are still loaded
+        cache = openCache(NOW);
+        assertThat(cache.get(component)).isEmpty();
+        // The main file is compacted on the next save
+        cache.save();
+        assertThat(listSegments()).isEmpty();
+        assertThat(openCache(NOW).get(component)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, Integer.MAX_VALUE})
+    void invalidCountsInTheMainFileAreIgnored(int errorCount) throws Exception {
+        Component component = createComponent("1.0.0", "abcdef");
+        FileVerdictCache cache = openCache(NOW);
+        cache.put(component, List.of(), null);
+        cache.save();
+        // Magic number and format version of a valid file
+        byte[] header = Arrays.copyOf(Files.readAllBytes(listSegments().get(0)), 8);
+        Files.write(
+                cache.getFile(),
+                ByteBuffer.allocate(29)
+                        .put(header)
+                        .putInt(1)
+                        .putInt(1)
+                        .put((byte) 'k')
+                        .putLong(Long.MAX_VALUE)
+                        .putInt(errorCount)
+                        .array());
+
+        // The segments are still loaded
+        cache = openCache(NOW);
+        assertThat(cache.get(component)).isEmpty();
+    }
+
+    @Test
+    void eachSaveWritesASegment() throws Exception {
+        Component first = createComponent("1.0.0", "abcdef");
+        Component second = createComponent("2.0.0", "abcdef");
+        FileVerdictCache cache = openCache(NOW);
+        cache.put(first, List.of(), null);
+        cache.save();
+        // Nothing to write
+        cache.save();
+        cache.put(second, List.of(), null);
+        cache.save();
+
+        assertThat(cache.getFile()).doesNotExist();
+        assertThat(listSegments()).hasSize(2);
+    }
+
+    @Test
+    void segmentsAreCompacted() throws Exception {
+        List<Component> components = new ArrayList<>();
+        for (int i = 0; i <= FileVerdictCache.MAX_SEGMENTS; i++) {
+            Component component = createComponent(i + ".0.0", "abcdef");
+            components.add(component);
+            FileVerdictCache cache = openCache(NOW);
+            cache.put(component, List.of(), i == 0 ? Duration.ofHours(1) : null);
+            cache.save();
+        }
+        assertThat(listSegments()).isEmpty();
+        assertThat(openCache(NOW).getFile()).exists();
+
+        FileVerdictCache cache = openCache(NOW);
+        for (Component component : components) {
+            assertThat(cache.get(component)).isEmpty();
+        }
+        // Expired verdicts are dropped by the next compaction
+        cache = openCache(NOW.plus(Duration.ofHours(2)));
+        cache.compact();
+        assertThat(cache.get(components.get(0))).isNull();
+        assertThat(cache.get(components.get(1))).isEmpty();
+    }
+
+    @Test
+    void corruptedSegmentsAreIgnored() throws Exception {
+        Component component = createComponent("1.0.0", "abcdef");
+        FileVerdictCache cache = openCache(NOW);
+        cache.put(component, List.of(), null);
+        cache.save();
+        Path segment = cache.getFile().resolveSibling(cache.getFile().getFileName() + ".corrupted.segment");
+        Files.write(segment, new byte[] {1, 2, 3});
+
+        assertThat(openCache(NOW).get(component)).isEmpty();
+        openCache(NOW).compact();
+        assertThat(segment).doesNotExist();
+        assertThat(openCache(NOW).get(component)).isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FingerprintsTest {
+
+    private static final String CONFIGURATION = "configuration";
+
+    @TempDir
+    private Path tempDir;
+
+    private Path fingerprintFile;
+    private Component first;
+    private Component second;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Path bomFile = Files.writeString(tempDir.resolve("artifactId-1.0.0-cyclonedx.json"), "{}");
+        Artifact bomArtifact = new DefaultArtifact("groupId:artifactId:json:cyclonedx:1.0.0").setFile(bomFile.toFile());
+        first = createComponent("first", "abcdef");
+        second = createComponent("second", "012345");
+        fingerprintFile = Fingerprints.getFingerprintFile(tempDir.resolve("fingerprints"), bomArtifact);
+    }
+
+    private static Component createComponent(String artifactId, String sha256) throws Exception {
+        return DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact("com.example", artifactId, "jar", "1.0.0"))
+                .setPurl(new PackageURL("pkg:maven/com.example/" + artifactId + "@1.0.0"))
+                .addChecksum(ChecksumAlgorithm.SHA_256, sha256)
+                .get();
+    }
+
+    @Test
+    void missingFingerprintIsNotUpToDate() throws Exception {
+        String fingerprint = Fingerprints.compute(CONFIGURATION, List.of(first, second));
+        assertThat(Fingerprints.isUpToDate(fingerprintFile, fingerprint)).isFalse();
+    }
+
+    @Test
+    void unchangedInputsAreUpToDate() throws Exception {
+        Fingerprints.write(fingerprintFile, Fingerprints.compute(CONFIGURATION, List.of(first, second)));
+        assertThat(fingerprintFile).hasFileName("artifactId-1.0.0-cyclonedx.json.fingerprint");
+        // The order of the components is not significant
+        assertThat(Fingerprints.isUpToDate(
+                        fingerprintFile, Fingerprints.compute(CONFIGURATION, List.of(second, first))))
+                .isTrue();
+    }
+
+    @Test
+    void changedConfigurationIsNotUpToDate() throws Exception {
+        Fingerprints.write(fingerprintFile, Fingerprints.compute(CONFIGURATION, List.of(first, second)));
+        assertThat(Fingerprints.isUpToDate(fingerprintFile, Fingerprints.compute("other", List.of(first, second))))
+                .isFalse();
+    }
+
+    @Test
+    void changedDependenciesAreNotUpToDate() throws Exception {
+        Fingerprints.write(fingerprintFile, Fingerprints.compute(CONFIGURATION, List.of(first, second)));
+        assertThat(Fingerprints.isUpToDate(fingerprintFile, Fingerprints.compute(CONFIGURATION, List.of(first))))
+                .isFalse();
+        Component modified = createComponent("second", "6789ab");
+        assertThat(Fingerprints.isUpToDate(
+                        fingerprintFile, Fingerprints.compute(CONFIGURATION, List.of(first, modified))))
+                .isFalse();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+
+class HashSamplerTest {
+
+    private static final int COMPONENT_COUNT = 10_000;
+
+    private static Component createComponent(int i, String checksum) {
+        return DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact("groupId:artifact-" + i + ":1.0.0"))
+                .addChecksum(ChecksumAlgorithm.SHA_256, checksum)
+                .get();
+    }
+
+    private static List<Component> createComponents() {
+        List<Component> components = new ArrayList<>();
+        for (int i = 0; i < COMPONENT_COUNT; i++) {
+            components.add(createComponent(i, "abcdef"));
+        }
+        return components;
+    }
+
+    private static Set<Component> select(HashSampler sampler, List<Component> components) {
+        return components.stream().filter(sampler::isSelected).collect(Collectors.toSet());
+    }
+
+    @Test
+    void selectionIsStable() {
+        List<Component> components = createComponents();
+        Set<Component> selected = select(new HashSampler(0.1, "commit-1", null), components);
+        assertThat(selected).hasSizeBetween(COMPONENT_COUNT / 10 - 200, COMPONENT_COUNT / 10 + 200);
+        assertThat(select(new HashSampler(0.1, "commit-1", null), components)).isEqualTo(selected);
+        // Another seed selects other components
+        assertThat(select(new HashSampler(0.1, "commit-2", null), components))
+                .hasSizeBetween(COMPONENT_COUNT / 10 - 200, COMPONENT_COUNT / 10 + 200)
+                .isNotEqualTo(selected);
+    }
+
+    @Test
+    void changedComponentsAreAlwaysSelected() {
+        List<Component> components = createComponents();
+        Set<String> baseline = components.stream().map(ComponentKeys::of).collect(Collectors.toSet());
+        // A new version and new checksums
+        Component newComponent = createComponent(COMPONENT_COUNT, "abcdef");
+        Component modifiedComponent = createComponent(0, "012345");
+
+        HashSampler sampler = new HashSampler(0.001, "commit", baseline);
+        assertThat(select(sampler, components)).hasSizeLessThan(100);
+        assertThat(sampler.isSelected(newComponent)).isTrue();
+        assertThat(sampler.isSelected(modifiedComponent)).isTrue();
+        assertThat(sampler.isSelected(modifiedComponent, "https://example.com")).isTrue();
+    }
+
+    @Test
+    void referencesAreSelectedByLocation() {
+        List<Component> components = createComponents();
+        HashSampler sampler = new HashSampler(0.5, "commit", null);
+        List<String> locations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            locations.add("https://example.com/" + i);
+        }
+        Set<String> selected = locations.stream()
+                .filter(location -> sampler.isSelected(components.get(0), location))
+                .collect(Collectors.toSet());
+        assertThat(selected).isNotEmpty().hasSizeLessThan(100);
+        // The same location is selected for all the components
+        for (String location : locations) {
+            assertThat(sampler.isSelected(components.get(1), location)).isEqualTo(selected.contains(location));
+        }
+    }
+
+    @Test
+    void getCoverage() {
+        HashSampler sampler = new HashSampler(1.0, "", null);
+        Component component = createComponent(0, "abcdef");
+        for (int i = 0; i < 4; i++) {
+            sampler.isSelected(component);
+        }
+        assertThat(sampler.getCoverage()).isEqualTo("4 of 4 dependencies (100.0%)");
+        sampler.isSelected(component, "https://example.com");
+        assertThat(sampler.getCoverage()).isEqualTo("4 of 4 dependencies (100.0%), 1 of 1 references (100.0%)");
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MemoCacheTest {
+
+    @Test
+    void valuesAreComputedOnce() {
+        MemoCache<String, Integer> cache = new MemoCache<>(10);
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get("key", key -> {
+                        calls.incrementAndGet();
+                        return key.length();
+                    }))
+                    .isEqualTo(3);
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void sizeIsBounded() {
+        MemoCache<Integer, Integer> cache = new MemoCache<>(10);
+        for (int i = 0; i < 25; i++) {
+            cache.get(i, key -> key * key);
+            assertThat(cache.size()).isBetween(1, 10);
+        }
+        assertThat(cache.get(24, key -> -1)).isEqualTo(576);
+    }
+
+    @Test
+    void leastRecentlyUsedValuesAreEvicted() {
+        MemoCache<Integer, Integer> cache = new MemoCache<>(10);
+        for (int i = 0; i < 10; i++) {
+            cache.get(i, key -> key * key);
+        }
+        // Uses the first key again
+        cache.get(0, key -> -1);
+        cache.get(10, key -> key * key);
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.get(0, key -> -1)).isZero();
+        assertThat(cache.get(1, key -> -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void largeCachesAreSegmented() {
+        MemoCache<Integer, Integer> cache = new MemoCache<>(20_000);
+        for (int i = 0; i < 100_000; i++) {
+            cache.get(i, key -> key);
+        }
+        assertThat(cache.size()).isEqualTo(20_000);
+    }
+
+    @Test
+    void failuresAreNotCached() throws IOException {
+        MemoCache<String, String> cache = new MemoCache<>(10);
+        assertThatThrownBy(() -> cache.get("key", key -> {
+                    throw new IOException("failure");
+                }))
+                .isInstanceOf(IOException.class);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("key", key -> "value")).isEqualTo("value");
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MetricsTest {
+
+    @Test
+    void of_withoutMetrics_returnsDisabledInstance() {
+        Metrics metrics = Metrics.of(mock(RepositorySystemSession.class));
+        try (Metrics.Measurement measurement = metrics.start(Metrics.PARSE)) {
+            measurement.addBytes(42);
+        }
+        assertThat(metrics.toSummary()).noneMatch(line -> line.startsWith(Metrics.PARSE));
+    }
+
+    @Test
+    void of_withMetrics_returnsAttachedInstance() {
+        Metrics metrics = Metrics.create();
+        SessionData data = new DefaultSessionData();
+        metrics.attachTo(data);
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        session.setData(data);
+        assertThat(Metrics.of(session)).isSameAs(metrics);
+    }
+
+    @Test
+    void measurementsAreAggregated(@TempDir Path tempDir) throws Exception {
+        Metrics metrics = Metrics.create();
+        for (int i = 0; i < 3; i++) {
+            try (Metrics.Measurement measurement = metrics.start(Metrics.RESOLVE)) {
+                measurement.addBytes(100);
+            }
+        }
+        metrics.start(Metrics.RULE_PREFIX + "checksum").close();
+        assertThat(metrics.toSummary())
+                .hasSize(4)
+                .anySatisfy(line -> assertThat(line)
+                        .startsWith(Metrics.RESOLVE)
+                        .containsPattern("\\s3\\s")
+                        .containsPattern("\\s300\\s"))
+                .anySatisfy(line -> assertThat(line).startsWith("rule:checksum"));
+
+        Path file = tempDir.resolve("sbom-enforcer/metrics.json");
+        metrics.writeJson(file, "groupId:artifactId:jar:1.0.0");
+        assertThat(Files.readString(file, StandardCharsets.UTF_8))
+                .contains("\"project\": \"groupId:artifactId:jar:1.0.0\"")
+                .contains("{\"name\": \"resolve\", \"count\": 3,")
+                .contains("\"bytes\": 300")
+                .contains("{\"name\": \"rule:checksum\", \"count\": 1,");
+    }
+}
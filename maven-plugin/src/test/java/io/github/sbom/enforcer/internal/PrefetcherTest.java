@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.codehaus.plexus.logging.Logger;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.junit.jupiter.api.Test;
+
+class PrefetcherTest {
+
+    private static List<ArtifactResult> resolve(Collection<ArtifactRequest> requests) {
+        List<ArtifactResult> results = new ArrayList<>();
+        for (ArtifactRequest request : requests) {
+            ArtifactResult result = new ArtifactResult(request);
+            Artifact artifact = request.getArtifact();
+            if (!"cyclonedx".equals(artifact.getClassifier())) {
+                result.setArtifact(artifact.setFile(new File(artifact.getArtifactId() + ".jar")));
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private static ComponentResolver createResolver() throws Exception {
+        RepositorySystem repoSystem = mock(RepositorySystem.class);
+        when(repoSystem.resolveArtifacts(any(), any())).thenAnswer(invocation -> resolve(invocation.getArgument(1)));
+        return new ComponentResolver(repoSystem, mock(RepositorySystemSession.class), mock(Logger.class));
+    }
+
+    private static List<Artifact> createArtifacts(int count) {
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            artifacts.add(new DefaultArtifact("org.example:artifact-" + i + ":1.0.0"));
+        }
+        return artifacts;
+    }
+
+    private static void awaitDone(Prefetcher prefetcher) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!prefetcher.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void start_resolvesAllArtifacts() throws Exception {
+        try (Prefetcher prefetcher = Prefetcher.start(createResolver(), createArtifacts(150), 2, new Cancellation())) {
+            awaitDone(prefetcher);
+            assertThat(prefetcher.isDone()).isTrue();
+            assertThat(prefetcher.getSummary()).isEqualTo("150 of 150 artifacts resolved");
+        }
+    }
+
+    @Test
+    void start_skipsBatchesAfterCancellation() throws Exception {
+        Cancellation cancellation = new Cancellation();
+        cancellation.cancel("test");
+        try (Prefetcher prefetcher = Prefetcher.start(createResolver(), createArtifacts(150), 2, cancellation)) {
+            awaitDone(prefetcher);
+            assertThat(prefetcher.getSummary()).isEqualTo("0 of 150 artifacts resolved");
+        }
+    }
+
+    @Test
+    void detach_returnsAttachedPrefetchOnce() throws Exception {
+        SessionData data = new DefaultSessionData();
+        Cancellation first = new Cancellation();
+        Prefetcher prefetcher = Prefetcher.start(createResolver(), createArtifacts(1), 1, first);
+        prefetcher.attachTo(data, "org.example:project:1.0.0");
+        // A second prefetch of the same project stops the first one
+        Prefetcher other = Prefetcher.start(createResolver(), createArtifacts(1), 1, new Cancellation());
+        other.attachTo(data, "org.example:project:1.0.0");
+        assertThat(first.isCancelled()).isTrue();
+
+        assertThat(Prefetcher.detach(data, "org.example:other:1.0.0")).isNull();
+        try (Prefetcher detached = Prefetcher.detach(data, "org.example:project:1.0.0")) {
+            assertThat(detached).isSameAs(other);
+        }
+        assertThat(Prefetcher.detach(data, "org.example:project:1.0.0")).isNull();
+    }
+
+    @Test
+    void closeAll_stopsAttachedPrefetches() throws Exception {
+        SessionData data = new DefaultSessionData();
+        Cancellation first = new Cancellation();
+        Cancellation second = new Cancellation();
+        Prefetcher.start(createResolver(), createArtifacts(1), 1, first).attachTo(data, "org.example:first:1.0.0");
+        Prefetcher.start(createResolver(), createArtifacts(1), 1, second).attachTo(data, "org.example:second:1.0.0");
+
+        assertThat(Prefetcher.closeAll(data)).isEqualTo(2);
+        assertThat(first.isCancelled()).isTrue();
+        assertThat(second.isCancelled()).isTrue();
+        assertThat(Prefetcher.detach(data, "org.example:first:1.0.0")).isNull();
+        assertThat(Prefetcher.closeAll(data)).isZero();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.Map;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.spi.localrepo.LocalRepositoryManagerFactory;
+import org.eclipse.aether.transfer.TransferListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PrivateLocalRepositoriesTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void getLocalRepositoryManager_sharesManagerPerBuild() throws Exception {
+        LocalRepositoryManagerFactory factory = mock(LocalRepositoryManagerFactory.class);
+        when(factory.newInstance(any(), any())).thenAnswer(invocation -> mock(LocalRepositoryManager.class));
+        RepositorySystemSession repoSession = mock(RepositorySystemSession.class);
+        when(repoSession.getData()).thenReturn(new DefaultSessionData());
+        Path shared = tempDir.resolve("shared");
+
+        LocalRepositoryManager first =
+                PrivateLocalRepositories.getLocalRepositoryManager(factory, repoSession, shared, true, null);
+        assertThat(PrivateLocalRepositories.getLocalRepositoryManager(
+                        factory, repoSession, shared.resolve("../shared"), true, null))
+                .isSameAs(first);
+        assertThat(PrivateLocalRepositories.getLocalRepositoryManager(factory, repoSession, shared, false, null))
+                .isNotSameAs(first);
+        assertThat(PrivateLocalRepositories.getLocalRepositoryManager(
+                        factory, repoSession, tempDir.resolve("other"), true, null))
+                .isNotSameAs(first);
+    }
+
+    @Test
+    void withFileLocks_keepsUserConfiguration() {
+        assertThat(PrivateLocalRepositories.withFileLocks(Map.of()))
+                .containsEntry(PrivateLocalRepositories.NAMED_LOCK_FACTORY, "file-lock")
+                .containsEntry(PrivateLocalRepositories.NAME_MAPPER, "file-gav");
+        assertThat(PrivateLocalRepositories.withFileLocks(
+                        Map.of(PrivateLocalRepositories.NAMED_LOCK_FACTORY, "rwlock-redisson")))
+                .containsEntry(PrivateLocalRepositories.NAMED_LOCK_FACTORY, "rwlock-redisson")
+                .containsEntry(PrivateLocalRepositories.NAME_MAPPER, "file-gav");
+    }
+
+    @Test
+    void executionSession_reportsPrivateLocalRepository() {
+        RepositorySystemSession repoSession = mock(RepositorySystemSession.class);
+        when(repoSession.getConfigProperties()).thenReturn(Map.of());
+        when(repoSession.getLocalRepository())
+                .thenReturn(new LocalRepository(tempDir.resolve("user").toFile()));
+        LocalRepository privateRepository =
+                new LocalRepository(tempDir.resolve("private").toFile());
+        LocalRepositoryManager manager = mock(LocalRepositoryManager.class);
+        when(manager.getRepository()).thenReturn(privateRepository);
+
+        RepositorySystemSession session = new ExecutionRepositorySystemSession(
+                repoSession, manager, mock(TransferListener.class), new DefaultSessionData(), null, true);
+        assertThat(session.getLocalRepository()).isSameAs(privateRepository);
+        assertThat(session.getLocalRepositoryManager()).isSameAs(manager);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReactorWorkspaceReaderTest {
+
+    private static MavenProject createProject(String artifactId, @Nullable File file, @Nullable File bomFile) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0.0-SNAPSHOT");
+        org.apache.maven.artifact.Artifact artifact = new org.apache.maven.artifact.DefaultArtifact(
+                "org.example", artifactId, "1.0.0-SNAPSHOT", null, "jar", null, new DefaultArtifactHandler("jar"));
+        artifact.setFile(file);
+        project.setArtifact(artifact);
+        if (bomFile != null) {
+            org.apache.maven.artifact.Artifact bomArtifact = new org.apache.maven.artifact.DefaultArtifact(
+                    "org.example",
+                    artifactId,
+                    "1.0.0-SNAPSHOT",
+                    null,
+                    "xml",
+                    "cyclonedx",
+                    new DefaultArtifactHandler("xml"));
+            bomArtifact.setFile(bomFile);
+            project.getAttachedArtifacts().add(bomArtifact);
+        }
+        return project;
+    }
+
+    @Test
+    void findsProjectOutputs(@TempDir Path tempDir) throws Exception {
+        File jar = Files.createFile(tempDir.resolve("packaged.jar")).toFile();
+        File bom = Files.createFile(tempDir.resolve("packaged-cyclonedx.xml")).toFile();
+        ReactorWorkspaceReader reader = new ReactorWorkspaceReader(
+                null,
+                List.of(
+                        createProject("packaged", jar, bom),
+                        createProject("compiled", tempDir.toFile(), null),
+                        createProject("unbuilt", null, null)));
+
+        assertThat(reader.findArtifact(new DefaultArtifact("org.example:packaged:1.0.0-SNAPSHOT")))
+                .isEqualTo(jar);
+        assertThat(reader.findArtifact(new DefaultArtifact("org.example:packaged:xml:cyclonedx:1.0.0-SNAPSHOT")))
+                .isEqualTo(bom);
+        assertThat(reader.findArtifact(new DefaultArtifact("org.example:packaged:json:cyclonedx:1.0.0-SNAPSHOT")))
+                .isNull();
+        // A directory of classes is not a packaged artifact
+        assertThat(reader.findArtifact(new DefaultArtifact("org.example:compiled:1.0.0-SNAPSHOT")))
+                .isNull();
+        assertThat(reader.findArtifact(new DefaultArtifact("org.example:unbuilt:1.0.0-SNAPSHOT")))
+                .isNull();
+    }
+
+    @Test
+    void isReactorArtifact_includesUnbuiltProjects() {
+        ReactorWorkspaceReader reader = new ReactorWorkspaceReader(null, List.of(createProject("unbuilt", null, null)));
+
+        assertThat(ReactorWorkspaceReader.isReactorArtifact(
+                        reader, new DefaultArtifact("org.example:unbuilt:1.0.0-SNAPSHOT")))
+                .isTrue();
+        assertThat(ReactorWorkspaceReader.isReactorArtifact(
+                        reader, new DefaultArtifact("org.example:unbuilt:1.0.0-20250101.000000-1")))
+                .isTrue();
+        assertThat(ReactorWorkspaceReader.isReactorArtifact(reader, new DefaultArtifact("org.example:unbuilt:0.9.0")))
+                .isFalse();
+        assertThat(ReactorWorkspaceReader.isReactorArtifact(null, new DefaultArtifact("org.example:unbuilt:0.9.0")))
+                .isFalse();
+    }
+}
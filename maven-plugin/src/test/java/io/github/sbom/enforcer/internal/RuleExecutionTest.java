@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.ComponentRule;
+import io.github.sbom.enforcer.support.DefaultComponent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.plugin.MojoFailureException;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RuleExecutionTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Component createComponent(int i) {
+        return DefaultComponent.newBuilder()
+                .setArtifact(new DefaultArtifact("groupId:artifact-" + i + ":1.0.0"))
+                .get();
+    }
+
+    @Test
+    void componentRule_skipsComponentsAfterCancellation() throws Exception {
+        Cancellation cancellation = new Cancellation();
+        RuleExecution execution = new RuleExecution("test", cancellation, null, Metrics.create());
+        RecordingChecker checker = new RecordingChecker(false);
+        execution.setChecker(checker, checker);
+
+        execution.onMainComponent(createComponent(0));
+        execution.onComponent(createComponent(1));
+        cancellation.cancel("deadline exceeded");
+        execution.onComponent(createComponent(2));
+        execution.finish(true);
+
+        assertThat(checker.received).containsExactly("artifact-0", "artifact-1");
+        assertThat(checker.finished).isTrue();
+        assertThat(execution.getOutcome()).isEqualTo(RuleExecution.Outcome.PARTIAL);
+        assertThat(execution.isComplete()).isFalse();
+        assertThat(execution.getSummary())
+                .isEqualTo("rule `test`: partial, 2 components checked, 1 skipped (deadline exceeded)");
+    }
+
+    @Test
+    void componentRule_failureCancelsOtherRules() {
+        Cancellation cancellation = new Cancellation();
+        RuleExecution execution = new RuleExecution("test", cancellation.newChild(), cancellation, Metrics.create());
+        RecordingChecker checker = new RecordingChecker(true);
+        execution.setChecker(checker, checker);
+
+        execution.onMainComponent(createComponent(0));
+        assertThat(cancellation.getReason()).isEqualTo("cancelled after a failure of rule `test`");
+        execution.onComponent(createComponent(1));
+
+        assertThatThrownBy(() -> execution.finish(false)).isInstanceOf(MojoFailureException.class);
+        assertThat(checker.received).containsExactly("artifact-0");
+        assertThat(execution.getOutcome()).isEqualTo(RuleExecution.Outcome.FAILED);
+    }
+
+    @Test
+    void task_isInterruptedAfterDeadline() throws Exception {
+        RuleExecution execution = new RuleExecution(
+                "test", new Cancellation().newChild(Duration.ofMillis(50), "rule deadline"), null, Metrics.create());
+        CountDownLatch interrupted = new CountDownLatch(1);
+        execution.start(executor, () -> {
+            try {
+                Thread.sleep(60_000L);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+        execution.finish(true);
+
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(execution.getOutcome()).isEqualTo(RuleExecution.Outcome.SKIPPED);
+        assertThat(execution.getSummary()).isEqualTo("rule `test`: skipped (rule deadline)");
+    }
+
+    @Test
+    void task_failureIsReportedInFailFastMode() {
+        Cancellation cancellation = new Cancellation();
+        RuleExecution execution = new RuleExecution("test", cancellation.newChild(), cancellation, Metrics.create());
+        execution.start(executor, () -> {
+            throw new MojoFailureException("Invalid SBOM");
+        });
+
+        // The failing task also cancels itself
+        assertThatThrownBy(() -> execution.finish(true))
+                .isInstanceOf(MojoFailureException.class)
+                .hasMessage("Invalid SBOM");
+        assertThat(cancellation.isCancelled()).isTrue();
+        assertThat(execution.getOutcome()).isEqualTo(RuleExecution.Outcome.FAILED);
+    }
+
+    @Test
+    void notStarted_isSkipped() throws Exception {
+        RuleExecution execution = new RuleExecution("test", new Cancellation(), null, Metrics.create());
+        execution.finish(false);
+        assertThat(execution.getSummary()).isEqualTo("rule `test`: skipped (the model of the SBOM is incomplete)");
+    }
+
+    private static final class RecordingChecker implements ComponentRule.Checker {
+
+        private final boolean failing;
+        private final List<String> received = new ArrayList<>();
+        private boolean finished;
+
+        private RecordingChecker(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public void onMainComponent(Component component) {
+            received.add(component.getArtifact().getArtifactId());
+        }
+
+        @Override
+        public void onComponent(Component dependency) {
+            received.add(dependency.getArtifact().getArtifactId());
+        }
+
+        @Override
+        public boolean hasFailed() {
+            return failing && !received.isEmpty();
+        }
+
+        @Override
+        public void finish() throws MojoFailureException {
+            finished = true;
+            if (hasFailed()) {
+                throw new MojoFailureException("Invalid component");
+            }
+        }
+    }
+}
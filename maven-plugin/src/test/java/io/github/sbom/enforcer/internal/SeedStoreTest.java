@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalArtifactRegistration;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SeedStoreTest {
+
+    private static final String PATH = "org/example/artifact/1.0.0/artifact-1.0.0.jar";
+
+    private static final RemoteRepository CENTRAL =
+            new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2").build();
+
+    private static final RemoteRepository OTHER =
+            new RemoteRepository.Builder("other", "default", "https://repo.example/maven2").build();
+
+    @TempDir
+    private Path tempDir;
+
+    private Path createFile(String path, String content) throws Exception {
+        Path file = tempDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void seed_returnsStoredArtifact() throws Exception {
+        SeedStore store = new SeedStore(tempDir.resolve("store"));
+        store.store(CENTRAL, PATH, createFile("first/" + PATH, "content"));
+
+        Path target = tempDir.resolve("second").resolve(PATH);
+        assertThat(store.seed(CENTRAL, PATH, target)).isTrue();
+        assertThat(target).hasContent("content");
+        // The index depends on the remote repository
+        assertThat(store.seed(OTHER, PATH, tempDir.resolve("third").resolve(PATH)))
+                .isFalse();
+    }
+
+    @Test
+    void seed_rejectsModifiedObject() throws Exception {
+        Path store = tempDir.resolve("store");
+        SeedStore seedStore = new SeedStore(store);
+        seedStore.store(CENTRAL, PATH, createFile("first/" + PATH, "content"));
+        try (Stream<Path> files = Files.walk(store.resolve("objects"))) {
+            for (Path object : files.filter(Files::isRegularFile).toList()) {
+                Files.writeString(object, "modified", StandardCharsets.UTF_8);
+            }
+        }
+
+        Path target = tempDir.resolve("second").resolve(PATH);
+        assertThat(seedStore.seed(CENTRAL, PATH, target)).isFalse();
+        assertThat(target).doesNotExist();
+    }
+
+    @Test
+    void find_seedsPrivateRepository() throws Exception {
+        SeedStore store = new SeedStore(tempDir.resolve("store"));
+        store.store(CENTRAL, PATH, createFile("first/" + PATH, "content"));
+        Path basedir = tempDir.resolve("second");
+        LocalRepositoryManager delegate = mock(LocalRepositoryManager.class);
+        when(delegate.getRepository()).thenReturn(new LocalRepository(basedir.toFile()));
+        when(delegate.getPathForRemoteArtifact(any(), any(), any())).thenReturn(PATH);
+        when(delegate.find(any(), any(LocalArtifactRequest.class)))
+                .thenAnswer(invocation -> new LocalArtifactResult(invocation.getArgument(1)));
+        RepositorySystemSession session = mock(RepositorySystemSession.class);
+        LocalRepositoryManager manager = store.wrap(delegate);
+
+        Artifact artifact = new DefaultArtifact("org.example:artifact:1.0.0");
+        manager.find(session, new LocalArtifactRequest(artifact, List.of(CENTRAL), ""));
+        assertThat(basedir.resolve(PATH)).hasContent("content");
+        verify(delegate).add(eq(session), any(LocalArtifactRegistration.class));
+
+        // Snapshots are never seeded
+        Artifact snapshot = new DefaultArtifact("org.example:artifact:1.0.0-SNAPSHOT");
+        manager.find(session, new LocalArtifactRequest(snapshot, List.of(CENTRAL), ""));
+        verify(delegate, never()).getPathForRemoteArtifact(eq(snapshot), any(), any());
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.internal.cyclonedx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.BomBuilderRequest;
+import io.github.sbom.enforcer.internal.MojoUtils;
+import io.github.sbom.enforcer.internal.SyntheticBoms;
+import io.github.sbom.enforcer.support.DefaultBomBuilderRequest;
+import java.io.File;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.codehaus.plexus.PlexusContainer;
+import org.codehaus.plexus.logging.Logger;
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.parsers.JsonParser;
+import org.cyclonedx.parsers.Parser;
+import org.cyclonedx.parsers.XmlParser;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Verifies that {@link CycloneDxBomBuilder} scales to large SBOMs.
+ * <p>
+ *     The repository session is offline, so that the tests measure the cost of building the model and not the network.
+ *     The time budgets are two to three times the values measured on a developer machine, to prevent spurious
+ *     failures on slow CI runners. The memory budgets, which do not depend on the machine, are tighter.
+ * </p>
+ */
+class CycloneDxBomBuilderScaleTest {
+
+    @TempDir
+    private static Path localRepositoryPath;
+
+    private static RepositorySystem repoSystem;
+    private static DefaultRepositorySystemSession repoSession;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        PlexusContainer container = MojoUtils.setupContainer();
+        repoSystem = container.lookup(RepositorySystem.class);
+        repoSession = new DefaultRepositorySystemSession(
+                MojoUtils.createRepositorySystemSession(container, localRepositoryPath));
+        repoSession.setOffline(true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"xml", "json"})
+    void generatedBomIsValid(String format, @TempDir Path tempDir) throws Exception {
+        Bom bom = SyntheticBoms.newBuilder()
+                .setComponentCount(100)
+                .setHashAlgorithms(Hash.Algorithm.MD5, Hash.Algorithm.SHA1, Hash.Algorithm.SHA_512)
+                .setExternalReferenceCount(10)
+                .get();
+        File file =
+                Objects.requireNonNull(SyntheticBoms.write(bom, tempDir, format).getFile());
+        Parser parser = "xml".equals(format) ? new XmlParser() : new JsonParser();
+        List<ParseException> errors = parser.validate(file, Version.VERSION_16);
+        assertThat(errors).isEmpty();
+        assertThat(parser.parse(file).getComponents()).hasSize(100);
+    }
+
+    static Stream<Arguments> build_scales() {
+        return Stream.of(
+                // The first runs also include class loading and JIT compilation
+                // Measured: 1650 bytes and 1000 µs (XML), 650 bytes and 400 µs (JSON) per component
+                Arguments.of(10_000, "xml", 2048L, 2500L),
+                Arguments.of(10_000, "json", 1024L, 1000L),
+                // Above BillOfMaterialsAssembler.COLUMNAR_THRESHOLD the model is stored off-heap
+                // Measured: 315 bytes and 250 µs (XML), 545 bytes and 135 µs (JSON) per component
+                Arguments.of(100_000, "xml", 512L, 600L),
+                Arguments.of(100_000, "json", 768L, 400L));
+    }
+
+    /**
+     * Checks the heap retained by the model and the time needed to build it.
+     *
+     * @param componentCount The number of dependencies in the SBOM.
+     * @param format The format of the SBOM.
+     * @param maxBytesPerComponent The maximal heap and direct memory retained by the model per component.
+     * @param maxMicrosPerComponent The maximal time needed to build the model per component.
+     */
+    @Tag("scale")
+    @ParameterizedTest
+    @MethodSource
+    void build_scales(
+            int componentCount,
+            String format,
+            long maxBytesPerComponent,
+            long maxMicrosPerComponent,
+            @TempDir Path tempDir)
+            throws Exception {
+        Bom cdxBom =
+                SyntheticBoms.newBuilder().setComponentCount(componentCount).get();
+        Artifact bomArtifact = SyntheticBoms.write(cdxBom, tempDir, format);
+        BomBuilderRequest request = DefaultBomBuilderRequest.newBuilder()
+                .setArtifact(new DefaultArtifact(
+                        SyntheticBoms.GROUP_ID, SyntheticBoms.ARTIFACT_ID, "jar", SyntheticBoms.VERSION))
+                .setMainBillOfMaterials(bomArtifact)
+                .get();
+        CycloneDxBomBuilder builder = new CycloneDxBomBuilder(
+                repoSystem, mock(Logger.class, withSettings().stubOnly()));
+
+        long usedBefore = getUsedMemoryAfterGc();
+        long startNanos = System.nanoTime();
+        BillOfMaterials bom = builder.build(repoSession, request);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        try {
+            long retainedBytes = getUsedMemoryAfterGc() - usedBefore;
+
+            assertThat(bom.getDependencies()).hasSize(componentCount);
+            assertThat(retainedBytes / componentCount)
+                    .as("retained bytes per component")
+                    .isLessThan(maxBytesPerComponent);
+            assertThat(elapsedNanos / 1000 / componentCount)
+                    .as("microseconds per component")
+                    .isLessThan(maxMicrosPerComponent);
+        } finally {
+            // The model must not be collected before the retained memory is measured
+            Reference.reachabilityFence(bom);
+        }
+    }
+
+    /**
+     * Returns the used heap and direct memory, since large models are stored outside the heap.
+     */
+    private static long getUsedMemoryAfterGc() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        long used = memoryBean.getHeapMemoryUsage().getUsed();
+        for (BufferPoolMXBean bufferPool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(bufferPool.getName())) {
+                used += bufferPool.getMemoryUsed();
+            }
+        }
+        return used;
+    }
+}
@@ -27,6 +27,7 @@ import io.github.sbom.enforcer.BillOfMaterials;
 import io.github.sbom.enforcer.BomBuilderRequest;
 import io.github.sbom.enforcer.BomBuildingException;
 import io.github.sbom.enforcer.Component;
+import io.github.sbom.enforcer.internal.BomSnapshots;
 import io.github.sbom.enforcer.internal.CollectionUtils;
 import io.github.sbom.enforcer.internal.MojoUtils;
 import io.github.sbom.enforcer.support.DefaultBomBuilderRequest;
@@ -34,8 +35,11 @@ import io.github.sbom.enforcer.support.DefaultComponent;
 import io.github.sbom.enforcer.support.DefaultExternalReference;
 import java.io.File;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -159,6 +163,49 @@ class CycloneDxBomBuilderTest {
         assertThat(component.getExternalReferences()).isEmpty();
     }
 
+    @Test
+    void corruptedSnapshotFallsBackToParsing(@TempDir Path snapshotDirectory) throws Exception {
+        CycloneDxBomBuilder builder = new CycloneDxBomBuilder(repoSystem, mock(Logger.class));
+        BomBuilderRequest parseRequest = createRequest("no-dep-cyclonedx.xml");
+        BomBuilderRequest request = DefaultBomBuilderRequest.newBuilder()
+                .setArtifact(parseRequest.getArtifact())
+                .setMainBillOfMaterials(parseRequest.getMainBillOfMaterials())
+                .setSnapshotDirectory(snapshotDirectory)
+                .setPrefetchFiles(true)
+                .get();
+        builder.build(repoSession, request);
+        Path snapshotFile = BomSnapshots.getSnapshotFile(snapshotDirectory, request.getMainBillOfMaterials());
+        byte[] snapshot = Files.readAllBytes(snapshotFile);
+        // Replaces everything after the magic number and format version with a huge string length
+        Files.write(
+                snapshotFile,
+                ByteBuffer.allocate(16)
+                        .put(snapshot, 0, 8)
+                        .putInt(0)
+                        .putInt(Integer.MAX_VALUE)
+                        .array());
+
+        BillOfMaterials bom = builder.build(repoSession, request);
+        assertThat(bom.getComponent().getPurl()).isEqualTo(log4jCorePurl);
+        assertThat(bom.getDependencies()).isEmpty();
+        // The snapshot is written again
+        assertThat(snapshotFile).binaryContent().isEqualTo(snapshot);
+    }
+
+    @Test
+    void readComponents() throws Exception {
+        CycloneDxBomBuilder builder = new CycloneDxBomBuilder(repoSystem, mock(Logger.class));
+        BomBuilderRequest request = createRequest("single-dep-cyclonedx.xml");
+        List<Component> components = builder.readComponents(request.getMainBillOfMaterials());
+        assertThat(components).hasSize(2);
+        assertThat(components.get(0).getPurl()).isEqualTo(log4jCorePurl);
+        Component dependency = components.get(1);
+        assertThat(dependency.getPurl()).isEqualTo(log4jApiPurl);
+        // The artifacts are not resolved
+        assertThat(dependency.getArtifact().getFile()).isNull();
+        assertThat(dependency.getChecksums()).hasSize(2);
+    }
+
     static Stream<String> createEmptyBom() {
         return Stream.of("empty-cyclonedx.xml", "empty2-cyclonedx.xml");
     }
@@ -22,6 +22,7 @@ import com.github.packageurl.PackageURL;
 import io.github.sbom.enforcer.BomBuildingException;
 import java.util.stream.Stream;
 import org.cyclonedx.model.Component;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -62,4 +63,14 @@ public class CycloneDxUtilsTest {
         PackageURL purl = CycloneDxUtils.toPackageURL(component);
         assertThat(purl.canonicalize()).isEqualTo("pkg:maven/groupId/artifactId");
     }
+
+    @Test
+    void conversionsAreMemoized() throws BomBuildingException {
+        Component first = new Component();
+        first.setPurl("pkg:maven/groupId/artifactId@1.0.0?type=jar");
+        Component second = new Component();
+        second.setPurl("pkg:maven/groupId/artifactId@1.0.0?type=jar");
+        assertThat(CycloneDxUtils.toPackageURL(second)).isSameAs(CycloneDxUtils.toPackageURL(first));
+        assertThat(CycloneDxUtils.toArtifact(second)).isSameAs(CycloneDxUtils.toArtifact(first));
+    }
 }
@@ -20,21 +20,41 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.CancellationToken;
 import io.github.sbom.enforcer.Component;
 import io.github.sbom.enforcer.Component.ChecksumAlgorithm;
+import io.github.sbom.enforcer.ComponentRule;
+import io.github.sbom.enforcer.Sampler;
+import io.github.sbom.enforcer.VerdictCache;
 import io.github.sbom.enforcer.support.DefaultBillOfMaterials;
 import io.github.sbom.enforcer.support.DefaultComponent;
 import java.io.File;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.maven.plugin.MojoFailureException;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 class ChecksumRuleTest {
@@ -61,6 +81,39 @@ class ChecksumRuleTest {
                 .contains("FileNotFoundException");
     }
 
+    @Test
+    void validateChecksum_stopsBetweenChunks(@TempDir Path tempDir) throws Exception {
+        File largeFile =
+                Files.write(tempDir.resolve("large.jar"), new byte[1024 * 1024]).toFile();
+        AtomicInteger checks = new AtomicInteger();
+        CancellationToken cancellation = () -> checks.incrementAndGet() > 1;
+        assertThatThrownBy(() -> ChecksumRule.validateChecksum(
+                        ChecksumAlgorithm.SHA_256, SHA_256_VALUE, largeFile, cancellation))
+                .isInstanceOf(CancellationException.class);
+        // The file was not read after the cancellation
+        assertThat(checks).hasValue(2);
+    }
+
+    @Test
+    void validateChecksum_emitsJfrEvent(@TempDir Path tempDir) throws Exception {
+        Path recordingFile = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.sbom.enforcer.HashFile");
+            recording.start();
+            assertThat(ChecksumRule.validateChecksum(ChecksumAlgorithm.SHA_256, SHA_256_VALUE, mockArtifact))
+                    .isNull();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("path")).isEqualTo(mockArtifact.getPath());
+        assertThat(event.getString("algorithm")).isEqualTo("SHA-256");
+        assertThat(event.getLong("bytes")).isEqualTo(mockArtifact.length());
+        assertThat(event.getBoolean("valid")).isTrue();
+    }
+
     static Stream<Arguments> execute_works() {
         return Stream.of(
                 // No checksums, no errors, even if the file does not exist
@@ -101,6 +154,135 @@ class ChecksumRuleTest {
         }
     }
 
+    @Test
+    void execute_usesVerdictCache(@TempDir Path tempDir) throws Exception {
+        Map<Component, String> contexts = new HashMap<>();
+        Map<Component, List<String>> verdicts = new HashMap<>();
+        VerdictCache cache = new VerdictCache() {
+            @Override
+            public @Nullable List<String> get(Component component, String context) {
+                return context.equals(contexts.get(component)) ? verdicts.get(component) : null;
+            }
+
+            @Override
+            public void put(Component component, String context, List<String> errors, @Nullable Duration timeToLive) {
+                contexts.put(component, context);
+                verdicts.put(component, errors);
+            }
+        };
+        ChecksumRule rule = new ChecksumRule();
+        // Missing files are not cached
+        assertThatThrownBy(() -> rule.execute(
+                        createMockBillOfMaterials(
+                                Map.of(ChecksumAlgorithm.SHA_256, SHA_256_VALUE), nonExistentArtifact),
+                        cache))
+                .hasMessageContaining("Missing file");
+        assertThat(verdicts).isEmpty();
+
+        File file = Files.copy(mockArtifact.toPath(), tempDir.resolve(mockArtifact.getName()))
+                .toFile();
+        BillOfMaterials bom = createMockBillOfMaterials(Map.of(ChecksumAlgorithm.SHA_256, SHA_256_VALUE), file);
+        rule.execute(bom, cache);
+        Component dependency = bom.getDependencies().iterator().next();
+        assertThat(verdicts).containsOnlyKeys(dependency).containsEntry(dependency, List.of());
+
+        // Cached verdicts are reused
+        verdicts.put(dependency, List.of("Cached error"));
+        assertThatThrownBy(() -> rule.execute(bom, cache))
+                .isInstanceOf(MojoFailureException.class)
+                .hasMessageContaining("Cached error");
+
+        // The verdicts are only valid for the file that was checked
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(file.lastModified() + 1000L));
+        rule.execute(bom, cache);
+        assertThat(verdicts).containsEntry(dependency, List.of());
+    }
+
+    @Test
+    void newChecker_stopsWhenCancelled() throws Exception {
+        BillOfMaterials bom = createMockBillOfMaterials(Map.of(ChecksumAlgorithm.SHA_256, "abcdef"), mockArtifact);
+        Component dependency = bom.getDependencies().iterator().next();
+        ChecksumRule rule = new ChecksumRule();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ComponentRule.Checker checker =
+                rule.newChecker(bom.getBillOfMaterials(), VerdictCache.disabled(), cancelled::get);
+        checker.onMainComponent(bom.getComponent());
+        assertThat(checker.hasFailed()).isFalse();
+        checker.onComponent(dependency);
+        assertThat(checker.hasFailed()).isTrue();
+
+        // The failures found before the cancellation are still reported
+        cancelled.set(true);
+        assertThatThrownBy(() -> checker.onComponent(dependency)).isInstanceOf(CancellationException.class);
+        assertThatThrownBy(checker::finish)
+                .isInstanceOf(MojoFailureException.class)
+                .hasMessageContaining("Invalid SHA_256 checksum");
+    }
+
+    @Test
+    void execute_checksOnlySampledDependencies() throws Exception {
+        BillOfMaterials bom = createMockBillOfMaterials(Map.of(ChecksumAlgorithm.SHA_256, "abcdef"), mockArtifact);
+        ChecksumRule rule = new ChecksumRule();
+        Sampler none = new Sampler() {
+            @Override
+            public boolean isSelected(Component component) {
+                return false;
+            }
+
+            @Override
+            public boolean isSelected(Component component, String location) {
+                return false;
+            }
+        };
+        ComponentRule.Checker checker =
+                rule.newChecker(bom.getBillOfMaterials(), VerdictCache.disabled(), CancellationToken.none(), none);
+        checker.onMainComponent(bom.getComponent());
+        bom.getDependencies().forEach(checker::onComponent);
+        assertDoesNotThrow(checker::finish);
+
+        // By default, all the dependencies are checked
+        assertThatThrownBy(() -> rule.execute(bom))
+                .isInstanceOf(MojoFailureException.class)
+                .hasMessageContaining("Invalid SHA_256 checksum");
+    }
+
+    /**
+     * Checks the time needed to verify the checksums of a large SBOM.
+     *
+     * @param componentCount The number of dependencies in the SBOM.
+     * @param maxMicrosPerComponent The maximal time needed to check the checksums of a component.
+     */
+    @Tag("scale")
+    @ParameterizedTest
+    @CsvSource({"10000, 2000", "100000, 500"})
+    void execute_scales(int componentCount, long maxMicrosPerComponent) throws Exception {
+        Map<ChecksumAlgorithm, String> checksums = Map.of(
+                ChecksumAlgorithm.SHA1,
+                DigestUtils.sha1Hex(Files.readAllBytes(mockArtifact.toPath())),
+                ChecksumAlgorithm.SHA_256,
+                SHA_256_VALUE);
+        DefaultBillOfMaterials.Builder builder = DefaultBillOfMaterials.newBuilder()
+                .setBillOfMaterials(new DefaultArtifact("groupId:artifactId:xml:cyclonedx:1.0.0"))
+                .setComponent(createComponent(checksums, mockArtifact));
+        for (int i = 0; i < componentCount; i++) {
+            DefaultComponent.Builder componentBuilder = DefaultComponent.newBuilder()
+                    .setArtifact(
+                            new DefaultArtifact("groupId", "artifact-" + i, null, "jar", "1.0.0", null, mockArtifact));
+            checksums.forEach(componentBuilder::addChecksum);
+            builder.addDependency(componentBuilder.get());
+        }
+        BillOfMaterials bom = builder.get();
+        assertThat(bom.getDependencies()).hasSize(componentCount);
+
+        ChecksumRule rule = new ChecksumRule();
+        long startNanos = System.nanoTime();
+        rule.execute(bom);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        assertThat(elapsedNanos / 1000 / componentCount)
+                .as("microseconds per component")
+                .isLessThan(maxMicrosPerComponent);
+    }
+
     private static BillOfMaterials createMockBillOfMaterials(
             Map<ChecksumAlgorithm, String> dependencyChecksums, @Nullable File dependencyFile) {
         DefaultBillOfMaterials.Builder builder = DefaultBillOfMaterials.newBuilder()
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2025 Christian Grobmeier, Piotr P. Karwasz
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.sbom.enforcer.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+import io.github.sbom.enforcer.BillOfMaterials;
+import io.github.sbom.enforcer.Component;
+import java.util.Collection;
+import java.util.stream.Stream;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DefaultBillOfMaterialsTest {
+
+    private static final BillOfMaterials INDEXED = createBillOfMaterials();
+
+    /**
+     * Uses the linear search implementation of {@link BillOfMaterials}.
+     */
+    private static final BillOfMaterials LINEAR = new BillOfMaterials() {
+        @Override
+        public Artifact getBillOfMaterials() {
+            return INDEXED.getBillOfMaterials();
+        }
+
+        @Override
+        public Component getComponent() {
+            return INDEXED.getComponent();
+        }
+
+        @Override
+        public Collection<? extends Component> getDependencies() {
+            return INDEXED.getDependencies();
+        }
+    };
+
+    private static BillOfMaterials createBillOfMaterials() {
+        DefaultBillOfMaterials.Builder builder = DefaultBillOfMaterials.newBuilder()
+                .setBillOfMaterials(new DefaultArtifact("groupId:artifactId:xml:cyclonedx:1.0.0"))
+                .setComponent(createComponent("groupId:artifactId:1.0.0"));
+        Stream.of(
+                        "org.example:foo:1.0.0",
+                        "org.example:foo:2.0.0",
+                        "org.example:foo:jar:tests:2.0.0",
+                        "org.example:bar:pom:1.0.0",
+                        "com.example:foo:1.0.0")
+                .map(DefaultBillOfMaterialsTest::createComponent)
+                .forEach(builder::addDependency);
+        return builder.get();
+    }
+
+    private static Component createComponent(String coordinates) {
+        Artifact artifact = new DefaultArtifact(coordinates);
+        try {
+            return DefaultComponent.newBuilder()
+                    .setArtifact(artifact)
+                    .setPurl(new PackageURL(
+                            PackageURL.StandardTypes.MAVEN,
+                            artifact.getGroupId(),
+                            artifact.getArtifactId(),
+                            artifact.getVersion(),
+                            null,
+                            null))
+                    .get();
+        } catch (MalformedPackageURLException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static Stream<BillOfMaterials> billsOfMaterials() {
+        return Stream.of(INDEXED, LINEAR);
+    }
+
+    @ParameterizedTest
+    @MethodSource("billsOfMaterials")
+    void getDependencies_byGroupIdAndArtifactId(BillOfMaterials bom) {
+        assertThat(bom.getDependencies("org.example", "foo"))
+                .extracting(component -> component.getArtifact().toString())
+                .containsExactly(
+                        "org.example:foo:jar:1.0.0", "org.example:foo:jar:2.0.0", "org.example:foo:jar:tests:2.0.0");
+        assertThat(bom.getDependencies("org.example", "bar")).hasSize(1);
+        assertThat(bom.getDependencies("org.example", "baz")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("billsOfMaterials")
+    void getDependency_byArtifact(BillOfMaterials bom) {
+        Artifact artifact = new DefaultArtifact("org.example:foo:jar:tests:2.0.0");
+        Component dependency = bom.getDependency(artifact);
+        assertThat(dependency).isNotNull();
+        assertThat(dependency.getArtifact().getClassifier()).isEqualTo("tests");
+        assertThat(bom.getDependency(new DefaultArtifact("org.example:bar:1.0.0")))
+                .isNull();
+        assertThat(bom.getDependency(new DefaultArtifact("groupId:artifactId:1.0.0")))
+                .isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("billsOfMaterials")
+    void getDependency_byPurl(BillOfMaterials bom) throws Exception {
+        Component dependency = bom.getDependency(new PackageURL("pkg:maven/com.example/foo@1.0.0"));
+        assertThat(dependency).isNotNull();
+        assertThat(dependency.getArtifact().getGroupId()).isEqualTo("com.example");
+        assertThat(bom.getDependency(new PackageURL("pkg:maven/com.example/foo@2.0.0")))
+                .isNull();
+    }
+}